@@ -1,5 +1,8 @@
 package com.konoha.NinjaMissionManager;
 
+import com.konoha.NinjaMissionManager.security.AdaptiveBCryptPasswordEncoder;
+import com.konoha.NinjaMissionManager.security.PasswordVerificationPool;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
@@ -13,7 +16,9 @@ public class NinjaMissionManagerApplication {
 	}
 
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder(){
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder bCryptPasswordEncoder(
+            @Value("${app.security.bcrypt.strength:10}") int strength,
+            PasswordVerificationPool verificationPool){
+        return new AdaptiveBCryptPasswordEncoder(strength, verificationPool);
     }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.konoha.NinjaMissionManager.config;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Tags http.server.requests with the controller method that served the request
+ * (e.g. MissionController.getAllMissions), so every endpoint gets its own timer.
+ * Requests rejected before reaching a controller are tagged "none".
+ */
+@Component
+public class HandlerMethodObservationConvention extends DefaultServerRequestObservationConvention {
+    private static final String HANDLER_KEY = "handler";
+    private static final String NO_HANDLER = "none";
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context).and(KeyValue.of(HANDLER_KEY, handlerName(context.getCarrier())));
+    }
+
+    static String handlerName(HttpServletRequest request) {
+        if (request != null && request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        }
+        return NO_HANDLER;
+    }
+}
@@ -0,0 +1,37 @@
+package com.konoha.NinjaMissionManager.config;
+
+import com.konoha.NinjaMissionManager.services.PooledJavaMailSender;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mail.MailProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import java.time.Duration;
+import java.util.Properties;
+
+@Configuration
+@EnableConfigurationProperties(MailProperties.class)
+public class MailConfig {
+    @Bean
+    public PooledJavaMailSender javaMailSender(
+            MailProperties properties,
+            @Value("${app.email.pool.max-size:2}") int maxSize,
+            @Value("${app.email.pool.idle-timeout:60s}") Duration idleTimeout,
+            @Value("${app.email.pool.borrow-timeout:30s}") Duration borrowTimeout) {
+        PooledJavaMailSender sender = new PooledJavaMailSender(maxSize, idleTimeout, borrowTimeout);
+        sender.setHost(properties.getHost());
+        if (properties.getPort() != null) {
+            sender.setPort(properties.getPort());
+        }
+        sender.setUsername(properties.getUsername());
+        sender.setPassword(properties.getPassword());
+        sender.setProtocol(properties.getProtocol());
+        if (properties.getDefaultEncoding() != null) {
+            sender.setDefaultEncoding(properties.getDefaultEncoding().name());
+        }
+        Properties javaMailProperties = new Properties();
+        javaMailProperties.putAll(properties.getProperties());
+        sender.setJavaMailProperties(javaMailProperties);
+        return sender;
+    }
+}
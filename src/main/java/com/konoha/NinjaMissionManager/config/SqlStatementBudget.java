@@ -0,0 +1,16 @@
+package com.konoha.NinjaMissionManager.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Overrides app.sql.statement-budget.max-statements for one controller method whose statement
+ * count grows with the request body by design (batches, imports).
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlStatementBudget {
+    int value();
+}
@@ -0,0 +1,148 @@
+package com.konoha.NinjaMissionManager.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.function.IntSupplier;
+
+/**
+ * Counts the SQL statements of each request with {@link SqlStatementCounter}. The count goes out in the
+ * X-SQL-Statement-Count header (statements run before the response was committed) and into the
+ * app.sql.statements summary tagged by controller method. Over the budget, LOG mode warns and REJECT
+ * mode fails the statement that crosses it, so an N+1 breaks the tests instead of slowing production.
+ * Bulk endpoints declare a larger budget with {@link SqlStatementBudget}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Slf4j
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+    public static final String STATEMENT_COUNT_HEADER = "X-SQL-Statement-Count";
+    private static final String STATEMENTS_SUMMARY = "app.sql.statements";
+
+    public enum Mode { OFF, LOG, REJECT }
+
+    private final MeterRegistry meterRegistry;
+    private final Mode mode;
+    private final int budget;
+    private final int repeatedStatementThreshold;
+
+    public SqlStatementBudgetFilter(
+            MeterRegistry meterRegistry,
+            @Value("${app.sql.statement-budget.mode:off}") Mode mode,
+            @Value("${app.sql.statement-budget.max-statements:20}") int budget,
+            @Value("${app.sql.statement-budget.repeated-statement-threshold:5}") int repeatedStatementThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.mode = mode;
+        this.budget = budget;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementCounter.RequestStatements statements = SqlStatementCounter.begin(budgetFor(request), mode == Mode.REJECT);
+        StatementCountResponse countingResponse = new StatementCountResponse(response, statements);
+        try {
+            filterChain.doFilter(request, countingResponse);
+        } finally {
+            SqlStatementCounter.end();
+            countingResponse.writeCountHeader();
+            record(request, statements);
+        }
+    }
+
+    private IntSupplier budgetFor(HttpServletRequest request) {
+        return () -> request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handlerMethod
+                && handlerMethod.getMethodAnnotation(SqlStatementBudget.class) instanceof SqlStatementBudget handlerBudget
+                ? handlerBudget.value()
+                : budget;
+    }
+
+    private void record(HttpServletRequest request, SqlStatementCounter.RequestStatements statements) {
+        String handler = HandlerMethodObservationConvention.handlerName(request);
+        DistributionSummary.builder(STATEMENTS_SUMMARY)
+                .description("SQL statements executed per HTTP request")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(statements.count());
+
+        if (mode == Mode.OFF) {
+            return;
+        }
+        if (statements.isOverBudget()) {
+            log.warn("{} {} ({}) ejecuto {} sentencias SQL, por encima del presupuesto de {}",
+                    request.getMethod(), request.getRequestURI(), handler, statements.count(), statements.budget());
+        }
+        statements.mostRepeated(repeatedStatementThreshold).ifPresent(repeated ->
+                log.warn("Posible N+1 en {} {} ({}): la misma sentencia se ejecuto {} veces: {}",
+                        request.getMethod(), request.getRequestURI(), handler, repeated.getValue(), repeated.getKey()));
+    }
+
+    /**
+     * Writes the header just before the body starts, when the controller has already run its queries.
+     */
+    private static final class StatementCountResponse extends HttpServletResponseWrapper {
+        private final SqlStatementCounter.RequestStatements statements;
+
+        private StatementCountResponse(HttpServletResponse response, SqlStatementCounter.RequestStatements statements) {
+            super(response);
+            this.statements = statements;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeCountHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeCountHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeCountHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeCountHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeCountHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeCountHeader();
+            super.sendRedirect(location);
+        }
+
+        private void writeCountHeader() {
+            if (!isCommitted()) {
+                setHeader(STATEMENT_COUNT_HEADER, String.valueOf(statements.count()));
+            }
+        }
+    }
+}
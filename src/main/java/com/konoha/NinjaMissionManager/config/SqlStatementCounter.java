@@ -0,0 +1,77 @@
+package com.konoha.NinjaMissionManager.config;
+
+import com.konoha.NinjaMissionManager.exceptions.SqlStatementBudgetExceededException;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.IntSupplier;
+
+/**
+ * Hibernate StatementInspector that counts the statements prepared on the current thread while
+ * {@link SqlStatementBudgetFilter} serves a request. Outside a request it lets the SQL through untouched.
+ * Identical SQL repeated within one request is tracked too, since that is how an N+1 shows up.
+ */
+public class SqlStatementCounter implements StatementInspector {
+    private static final ThreadLocal<RequestStatements> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        RequestStatements statements = CURRENT.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    static RequestStatements begin(IntSupplier budget, boolean rejectOverBudget) {
+        RequestStatements statements = new RequestStatements(budget, rejectOverBudget);
+        CURRENT.set(statements);
+        return statements;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    static final class RequestStatements {
+        private final IntSupplier budget;
+        private final boolean rejectOverBudget;
+        private final Map<String, Integer> executionsBySql = new HashMap<>();
+        private int count;
+
+        private RequestStatements(IntSupplier budget, boolean rejectOverBudget) {
+            this.budget = budget;
+            this.rejectOverBudget = rejectOverBudget;
+        }
+
+        private void add(String sql) {
+            count++;
+            executionsBySql.merge(sql, 1, Integer::sum);
+            if (rejectOverBudget && isOverBudget()) {
+                throw new SqlStatementBudgetExceededException(budget());
+            }
+        }
+
+        int count() {
+            return count;
+        }
+
+        int budget() {
+            return budget.getAsInt();
+        }
+
+        boolean isOverBudget() {
+            return count > budget();
+        }
+
+        /**
+         * Returns the statement executed the most times in this request, if it reached the threshold.
+         */
+        Optional<Map.Entry<String, Integer>> mostRepeated(int threshold) {
+            return executionsBySql.entrySet().stream()
+                    .filter(entry -> entry.getValue() >= threshold)
+                    .max(Map.Entry.comparingByValue());
+        }
+    }
+}
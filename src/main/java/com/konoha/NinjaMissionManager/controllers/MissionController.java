@@ -1,6 +1,11 @@
 package com.konoha.NinjaMissionManager.controllers;
 
+import com.konoha.NinjaMissionManager.config.SqlStatementBudget;
+import com.konoha.NinjaMissionManager.dtos.common.CursorPageResponse;
+import com.konoha.NinjaMissionManager.dtos.mission.MissionBatchCreateRequest;
+import com.konoha.NinjaMissionManager.dtos.mission.MissionBatchResponse;
 import com.konoha.NinjaMissionManager.dtos.mission.MissionCreateRequest;
+import com.konoha.NinjaMissionManager.dtos.mission.MissionExportFormat;
 import com.konoha.NinjaMissionManager.dtos.mission.MissionResponse;
 import com.konoha.NinjaMissionManager.dtos.mission.MissionSummaryResponse;
 import com.konoha.NinjaMissionManager.dtos.mission.MissionUpdateRequest;
@@ -12,14 +17,18 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
-import java.util.List;
 import java.util.Optional;
 
 @RestController
@@ -29,26 +38,60 @@ import java.util.Optional;
 public class MissionController {
     private final MissionService missionService;
 
-    @Operation(summary = "Obtener todas las misiones con filtros opcionales")
+    @Operation(summary = "Obtener las misiones con filtros opcionales, paginadas por cursor (más recientes primero)")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Lista de misiones recuperada exitosamente"),
+            @ApiResponse(responseCode = "200", description = "Página de misiones recuperada exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Cursor o límite inválido"),
             @ApiResponse(responseCode = "403", description = "Acceso denegado, el usuario no es un Kage"),
             @ApiResponse(responseCode = "500", description = "Error interno del servidor")
     })
     @GetMapping
-    public ResponseEntity<List<MissionSummaryResponse>> getAllMissions(
+    public ResponseEntity<CursorPageResponse<MissionSummaryResponse>> getAllMissions(
             @Parameter(description = "Filtro opcional por dificultad de la misión")
             @RequestParam(required = false) Optional<MissionDifficulty> difficulty,
             @Parameter(description = "Filtro opcional por estado de la misión")
             @RequestParam(required = false) Optional<Status> status,
             @Parameter(description = "Filtro opcional para listar las misiones de un ninja específico por Id (solo Kage)")
             @RequestParam(required = false) Optional<Long> assignToNinjaId,
+            @Parameter(description = "Cursor opaco devuelto en nextCursor para pedir la página siguiente")
+            @RequestParam(required = false) Optional<String> cursor,
+            @Parameter(description = "Número máximo de misiones por página (1-100)")
+            @RequestParam(defaultValue = "20") int limit,
             Principal principal
     ) {
-        List<MissionSummaryResponse> missions = missionService.getAllMissions(difficulty, status, assignToNinjaId, principal);
+        CursorPageResponse<MissionSummaryResponse> missions = missionService.getAllMissions(difficulty, status, assignToNinjaId, cursor, limit, principal);
         return ResponseEntity.ok(missions);
     }
 
+    @Operation(summary = "Exportar las misiones filtradas como NDJSON o CSV, en streaming y sin paginar")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Misiones escritas fila a fila en el cuerpo de la respuesta"),
+            @ApiResponse(responseCode = "400", description = "Formato o filtro inválido"),
+            @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+    })
+    @GetMapping("/export")
+    public void exportMissions(
+            @Parameter(description = "Formato de salida: ndjson (una misión JSON por línea) o csv")
+            @RequestParam(defaultValue = "ndjson") String format,
+            @Parameter(description = "Filtro opcional por dificultad de la misión")
+            @RequestParam(required = false) Optional<MissionDifficulty> difficulty,
+            @Parameter(description = "Filtro opcional por estado de la misión")
+            @RequestParam(required = false) Optional<Status> status,
+            @Parameter(description = "Filtro opcional para exportar las misiones de un ninja específico por Id (solo Kage)")
+            @RequestParam(required = false) Optional<Long> assignToNinjaId,
+            Principal principal,
+            HttpServletResponse response
+    ) throws IOException {
+        MissionExportFormat exportFormat = MissionExportFormat.from(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("missions." + exportFormat.getFileExtension())
+                .build()
+                .toString());
+        missionService.exportMissions(difficulty, status, assignToNinjaId, exportFormat, principal, response.getOutputStream());
+    }
+
     @Operation(summary = "Obtener una misión por su ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Misión recuperada exitosamente"),
@@ -84,6 +127,26 @@ public class MissionController {
         return ResponseEntity.status(HttpStatus.CREATED).body(newMission);
     }
 
+    @Operation(summary = "Crear varias misiones en una sola petición (solo para Kage)")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Resultado por misión: creada con su ID o rechazada con el motivo"),
+            @ApiResponse(responseCode = "400", description = "Solicitud inválida o lote vacío o de más de 500 misiones"),
+            @ApiResponse(responseCode = "403", description = "Acceso denegado, el usuario no es un Kage"),
+            @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+    })
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('KAGE')")
+    // Lecturas fijas mas un next value de missions_seq y otro de outbox_events_seq por cada 50 misiones:
+    // los INSERT van en lotes JDBC y cuentan como una sentencia cada uno
+    @SqlStatementBudget(10 + 2 * (MissionBatchCreateRequest.MAX_MISSIONS / 50))
+    public ResponseEntity<MissionBatchResponse> createMissions(
+            @RequestBody @Valid MissionBatchCreateRequest request,
+            Principal principal
+    ){
+        MissionBatchResponse result = missionService.createMissions(request.missions(), principal);
+        return ResponseEntity.ok(result);
+    }
+
     @Operation(summary = "Actualizar una misión")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Misión actualizada exitosamente"),
@@ -1,9 +1,13 @@
 package com.konoha.NinjaMissionManager.controllers;
 
+import com.konoha.NinjaMissionManager.config.SqlStatementBudget;
+import com.konoha.NinjaMissionManager.dtos.common.PageResponse;
+import com.konoha.NinjaMissionManager.dtos.ninja.NinjaImportResponse;
 import com.konoha.NinjaMissionManager.dtos.ninja.NinjaKageUpdateRequest;
 import com.konoha.NinjaMissionManager.dtos.ninja.NinjaResponse;
 import com.konoha.NinjaMissionManager.dtos.ninja.NinjaSelfUpdateRequest;
 import com.konoha.NinjaMissionManager.models.Rank;
+import com.konoha.NinjaMissionManager.services.NinjaImportService;
 import com.konoha.NinjaMissionManager.services.NinjaService;
 import com.konoha.NinjaMissionManager.services.NinjaVillageCoordinatorService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,11 +17,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import java.io.InputStream;
 import java.security.Principal;
-import java.util.List;
 import java.util.Optional;
 
 @RestController
@@ -27,28 +34,50 @@ import java.util.Optional;
 public class NinjaController {
     private final NinjaService ninjaService;
     private final NinjaVillageCoordinatorService ninjaVillageCoordinatorService;
+    private final NinjaImportService ninjaImportService;
 
-    @Operation(summary = "Obtener todos los ninjas con filtros opcionales")
+    @Operation(summary = "Obtener los ninjas paginados con filtros opcionales")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Lista de ninjas recuperada exitosamente"),
+            @ApiResponse(responseCode = "200", description = "Página de ninjas recuperada exitosamente"),
+            @ApiResponse(responseCode = "400", description = "Propiedad de ordenación inválida"),
             @ApiResponse(responseCode = "403", description = "Acceso denegado, el usuario no es un Kage"),
             @ApiResponse(responseCode = "500", description = "Error interno del servidor")
     })
     @GetMapping
     @PreAuthorize("hasRole('KAGE')")
-    public ResponseEntity<List<NinjaResponse>> getAllNinjas(
+    public ResponseEntity<PageResponse<NinjaResponse>> getAllNinjas(
             @Parameter(description = "Filtro opcional por rango del ninja")
             @RequestParam(required = false) Optional<Rank> rank,
             @Parameter(description = "Filtro opcional por ID de la aldea del ninja")
             @RequestParam(required = false) Optional<Long> villageId,
             @Parameter(description = "Filtro opcional para saber si un ninja es ANBU")
             @RequestParam(required = false) Optional<Boolean> isAnbu,
+            @Parameter(description = "Si es false se omite el COUNT y no se devuelven totalElements ni totalPages")
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @Parameter(description = "Si es true se omiten las misiones asignadas de cada ninja")
+            @RequestParam(defaultValue = "false") boolean slim,
+            @ParameterObject @PageableDefault(size = 20, sort = "id") Pageable pageable,
             Principal principal
     ) {
-       List<NinjaResponse> ninjas = ninjaService.getAllNinjas(rank, villageId, isAnbu, principal);
+       PageResponse<NinjaResponse> ninjas = ninjaService.getAllNinjas(rank, villageId, isAnbu, pageable, includeTotal, slim, principal);
        return ResponseEntity.ok(ninjas);
     }
 
+    @Operation(summary = "Importar ninjas desde un CSV (solo Kage)",
+            description = "El cuerpo es un CSV con la cabecera " + NinjaImportService.CSV_HEADER + ". Las filas inválidas se devuelven con su número de línea y no detienen la importación.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importación completada; incluye las filas rechazadas y el rendimiento"),
+            @ApiResponse(responseCode = "400", description = "CSV vacío o con una cabecera incorrecta"),
+            @ApiResponse(responseCode = "403", description = "Acceso denegado, el usuario no es un Kage")
+    })
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @PreAuthorize("hasRole('KAGE')")
+    @SqlStatementBudget(10_000)
+    public ResponseEntity<NinjaImportResponse> importNinjas(InputStream csv) {
+        NinjaImportResponse response = ninjaImportService.importNinjas(csv);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "Obtener un ninja por su ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Ninja recuperado exitosamente"),
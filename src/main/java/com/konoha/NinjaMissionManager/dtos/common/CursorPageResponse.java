@@ -0,0 +1,8 @@
+package com.konoha.NinjaMissionManager.dtos.common;
+
+import java.util.List;
+
+public record CursorPageResponse<T>(
+        List<T> items,
+        String nextCursor
+) {}
@@ -0,0 +1,15 @@
+package com.konoha.NinjaMissionManager.dtos.mission;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record MissionBatchCreateRequest(
+        @NotEmpty(message = "At least one mission is required")
+        @Size(max = MissionBatchCreateRequest.MAX_MISSIONS, message = "A batch cannot exceed " + MissionBatchCreateRequest.MAX_MISSIONS + " missions")
+        List<@Valid @NotNull MissionCreateRequest> missions
+) {
+    public static final int MAX_MISSIONS = 500;
+}
@@ -0,0 +1,22 @@
+package com.konoha.NinjaMissionManager.dtos.mission;
+
+public record MissionBatchItemResult(
+        int index,
+        String title,
+        Outcome outcome,
+        Long missionId,
+        String message
+) {
+    public enum Outcome {
+        CREATED,
+        REJECTED
+    }
+
+    public static MissionBatchItemResult created(int index, String title, Long missionId) {
+        return new MissionBatchItemResult(index, title, Outcome.CREATED, missionId, null);
+    }
+
+    public static MissionBatchItemResult rejected(int index, String title, String message) {
+        return new MissionBatchItemResult(index, title, Outcome.REJECTED, null, message);
+    }
+}
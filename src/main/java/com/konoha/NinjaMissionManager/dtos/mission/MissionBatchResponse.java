@@ -0,0 +1,9 @@
+package com.konoha.NinjaMissionManager.dtos.mission;
+
+import java.util.List;
+
+public record MissionBatchResponse(
+        int created,
+        int rejected,
+        List<MissionBatchItemResult> results
+) {}
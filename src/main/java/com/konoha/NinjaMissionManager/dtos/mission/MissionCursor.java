@@ -0,0 +1,40 @@
+package com.konoha.NinjaMissionManager.dtos.mission;
+
+import com.konoha.NinjaMissionManager.exceptions.InvalidRequestException;
+import org.springframework.data.domain.Sort;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last mission of a page in the (creationDate desc, id desc) order.
+ * Clients only see it as an opaque Base64 token.
+ */
+public record MissionCursor(LocalDateTime creationDate, Long id) {
+    public static final Sort ORDER = Sort.by(Sort.Order.desc("creationDate"), Sort.Order.desc("id"));
+
+    private static final String SEPARATOR = "|";
+
+    public static MissionCursor of(MissionSummaryProjection mission) {
+        return new MissionCursor(mission.creationDate(), mission.id());
+    }
+
+    public static MissionCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.lastIndexOf(SEPARATOR);
+            return new MissionCursor(
+                    LocalDateTime.parse(decoded.substring(0, separatorIndex)),
+                    Long.parseLong(decoded.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException exception) {
+            throw new InvalidRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public String encode() {
+        String raw = creationDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
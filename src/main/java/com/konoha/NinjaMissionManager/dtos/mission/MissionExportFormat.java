@@ -0,0 +1,23 @@
+package com.konoha.NinjaMissionManager.dtos.mission;
+
+import com.konoha.NinjaMissionManager.exceptions.InvalidRequestException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import java.util.Arrays;
+
+@Getter
+@RequiredArgsConstructor
+public enum MissionExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    public static MissionExportFormat from(String format) {
+        return Arrays.stream(values())
+                .filter(value -> value.fileExtension.equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("Unsupported export format: " + format + ". Use ndjson or csv."));
+    }
+}
@@ -0,0 +1,15 @@
+package com.konoha.NinjaMissionManager.dtos.mission;
+
+import com.konoha.NinjaMissionManager.models.MissionDifficulty;
+import com.konoha.NinjaMissionManager.models.Status;
+import java.time.LocalDateTime;
+
+public record MissionExportRow(
+        Long id,
+        String title,
+        String description,
+        Integer reward,
+        MissionDifficulty difficulty,
+        Status status,
+        LocalDateTime creationDate
+) {}
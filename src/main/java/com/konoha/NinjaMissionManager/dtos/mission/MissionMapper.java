@@ -2,10 +2,12 @@ package com.konoha.NinjaMissionManager.dtos.mission;
 
 import com.konoha.NinjaMissionManager.dtos.ninja.NinjaMapper;
 import com.konoha.NinjaMissionManager.models.Mission;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.Mappings;
+import org.mapstruct.NullValuePropertyMappingStrategy;
 
 @Mapper(componentModel = "spring", uses = NinjaMapper.class)
 public interface MissionMapper {
@@ -14,18 +16,25 @@ public interface MissionMapper {
             @Mapping(target = "id", ignore = true),
             @Mapping(target = "creationDate", ignore = true),
             @Mapping(target = "status", ignore = true),
-            @Mapping(target = "assignedNinjas", ignore = true)
+            @Mapping(target = "assignedNinjas", ignore = true),
+            @Mapping(target = "version", ignore = true)
     })
     Mission dtoToEntity(MissionCreateRequest dto);
 
     @Mappings({
             @Mapping(target = "creationDate", ignore = true),
-            @Mapping(target = "id", ignore = true)
+            @Mapping(target = "id", ignore = true),
+            @Mapping(target = "status", ignore = true),
+            @Mapping(target = "assignedNinjas", ignore = true),
+            @Mapping(target = "version", ignore = true)
     })
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateEntityFromDto(MissionUpdateRequest request, @MappingTarget Mission mission);
 
     @Mapping(target = "assignedNinjas", source = "assignedNinjas")
     MissionResponse entityToDto(Mission mission);
 
     MissionSummaryResponse entityToSummaryDto(Mission mission);
+
+    MissionSummaryResponse projectionToSummaryDto(MissionSummaryProjection projection);
 }
\ No newline at end of file
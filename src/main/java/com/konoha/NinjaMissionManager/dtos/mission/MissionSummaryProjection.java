@@ -0,0 +1,13 @@
+package com.konoha.NinjaMissionManager.dtos.mission;
+
+import com.konoha.NinjaMissionManager.models.MissionDifficulty;
+import com.konoha.NinjaMissionManager.models.Status;
+import java.time.LocalDateTime;
+
+public record MissionSummaryProjection(
+        Long id,
+        String title,
+        MissionDifficulty difficulty,
+        Status status,
+        LocalDateTime creationDate
+) {}
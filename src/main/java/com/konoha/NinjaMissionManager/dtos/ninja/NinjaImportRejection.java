@@ -0,0 +1,7 @@
+package com.konoha.NinjaMissionManager.dtos.ninja;
+
+public record NinjaImportRejection(
+        int line,
+        String email,
+        String message
+) {}
@@ -0,0 +1,18 @@
+package com.konoha.NinjaMissionManager.dtos.ninja;
+
+import java.time.Duration;
+import java.util.List;
+
+public record NinjaImportResponse(
+        int imported,
+        int rejected,
+        long elapsedMillis,
+        double ninjasPerSecond,
+        List<NinjaImportRejection> rejections
+) {
+    public static NinjaImportResponse of(int imported, List<NinjaImportRejection> rejections, Duration elapsed) {
+        double seconds = Math.max(elapsed.toNanos(), 1L) / 1_000_000_000.0;
+        double ninjasPerSecond = Math.round(imported / seconds * 10) / 10.0;
+        return new NinjaImportResponse(imported, rejections.size(), elapsed.toMillis(), ninjasPerSecond, rejections);
+    }
+}
@@ -15,6 +15,7 @@ public interface NinjaMapper {
     @Mappings({
         @Mapping(target = "id", ignore = true),
         @Mapping(target = "assignedMissions", ignore = true),
+        @Mapping(target = "version", ignore = true),
         @Mapping(source = "dto.name", target = "name")
     })
     Ninja dtoToEntity(NinjaRegisterRequest dto, Village village, Rank rank, Integer missionsCompletedCount, Boolean isAnbu, Set<Role> roles);
@@ -23,6 +24,7 @@ public interface NinjaMapper {
         @Mapping(target = "id", ignore = true),
         @Mapping(target = "missionsCompletedCount", ignore = true),
         @Mapping(target = "assignedMissions", ignore = true),
+        @Mapping(target = "version", ignore = true),
         @Mapping(source = "dto.name", target = "name")
     })
     Ninja dtoToEntity(KageCreateNinjaRequest dto, Village village);
@@ -33,5 +35,12 @@ public interface NinjaMapper {
     })
     NinjaResponse entityToDto(Ninja ninja, @Context MissionMapper missionMapper);
 
+    @Mappings({
+        @Mapping(source = "village.name", target = "village"),
+        @Mapping(source = "anbu", target = "isAnbu"),
+        @Mapping(target = "assignedMissions", ignore = true)
+    })
+    NinjaResponse entityToSlimDto(Ninja ninja);
+
     NinjaSummaryResponse entityToSummaryDto(Ninja ninja);
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.konoha.NinjaMissionManager.dtos.ninja;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.konoha.NinjaMissionManager.dtos.mission.MissionSummaryResponse;
 import java.util.Set;
 
@@ -11,5 +12,6 @@ public record NinjaResponse(
         String village,
         Integer missionsCompletedCount,
         Boolean isAnbu,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
         Set<MissionSummaryResponse> assignedMissions
 ) {}
\ No newline at end of file
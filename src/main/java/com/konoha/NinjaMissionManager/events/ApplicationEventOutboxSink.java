@@ -0,0 +1,16 @@
+package com.konoha.NinjaMissionManager.events;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ApplicationEventOutboxSink implements OutboxEventSink {
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void deliver(Long outboxEventId, DomainEvent event) {
+        eventPublisher.publishEvent(new RelayedDomainEvent(outboxEventId, event));
+    }
+}
@@ -0,0 +1,11 @@
+package com.konoha.NinjaMissionManager.events;
+
+/**
+ * Change published by the services inside their transaction. OutboxEventRecorder stores it in
+ * outbox_events in that same transaction and OutboxRelay delivers it to the sinks afterwards.
+ */
+public sealed interface DomainEvent permits MissionAssignedEvent, MissionStatusChangedEvent, NinjaRegisteredEvent {
+    String aggregateType();
+
+    Long aggregateId();
+}
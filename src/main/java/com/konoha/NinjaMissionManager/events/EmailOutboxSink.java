@@ -0,0 +1,22 @@
+package com.konoha.NinjaMissionManager.events;
+
+import com.konoha.NinjaMissionManager.services.EmailSender;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class EmailOutboxSink implements OutboxEventSink {
+    private final EmailSender emailSender;
+
+    @Override
+    public void deliver(Long outboxEventId, DomainEvent event) {
+        switch (event) {
+            case MissionAssignedEvent assigned -> emailSender.sendMissionAssignmentEmail(
+                    assigned.ninjaTeam(), assigned.missionTitle(), assigned.missionDescription(), assigned.missionRank());
+            case NinjaRegisteredEvent registered -> emailSender.sendNinjaWelcomeEmail(
+                    registered.email(), registered.name(), registered.village());
+            case MissionStatusChangedEvent ignored -> { }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.konoha.NinjaMissionManager.events;
+
+import com.konoha.NinjaMissionManager.dtos.ninja.NinjaEmailInfo;
+import java.util.List;
+
+public record MissionAssignedEvent(Long missionId, List<NinjaEmailInfo> ninjaTeam, String missionTitle, String missionDescription, String missionRank) implements DomainEvent {
+    @Override
+    public String aggregateType() {
+        return "Mission";
+    }
+
+    @Override
+    public Long aggregateId() {
+        return missionId;
+    }
+}
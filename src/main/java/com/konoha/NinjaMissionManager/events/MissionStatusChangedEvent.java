@@ -0,0 +1,15 @@
+package com.konoha.NinjaMissionManager.events;
+
+import com.konoha.NinjaMissionManager.models.Status;
+
+public record MissionStatusChangedEvent(Long missionId, String missionTitle, Status previousStatus, Status newStatus) implements DomainEvent {
+    @Override
+    public String aggregateType() {
+        return "Mission";
+    }
+
+    @Override
+    public Long aggregateId() {
+        return missionId;
+    }
+}
@@ -0,0 +1,13 @@
+package com.konoha.NinjaMissionManager.events;
+
+public record NinjaRegisteredEvent(Long ninjaId, String email, String name, String village) implements DomainEvent {
+    @Override
+    public String aggregateType() {
+        return "Ninja";
+    }
+
+    @Override
+    public Long aggregateId() {
+        return ninjaId;
+    }
+}
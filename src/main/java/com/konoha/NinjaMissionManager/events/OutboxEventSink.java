@@ -0,0 +1,5 @@
+package com.konoha.NinjaMissionManager.events;
+
+public interface OutboxEventSink {
+    void deliver(Long outboxEventId, DomainEvent event);
+}
@@ -0,0 +1,122 @@
+package com.konoha.NinjaMissionManager.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.konoha.NinjaMissionManager.models.OutboxEvent;
+import com.konoha.NinjaMissionManager.repositories.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Drains outbox_events in batches. Each batch is claimed in a short transaction (row locks with
+ * SKIP LOCKED, then a lease pushes available_at forward), delivered to every sink with no
+ * transaction open, and then marked as processed or rescheduled with exponential backoff.
+ * If the relay dies mid-batch, the lease expires and the events are delivered again
+ * (at-least-once).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay {
+    private static final Map<String, Class<? extends DomainEvent>> EVENT_TYPES = Arrays.stream(DomainEvent.class.getPermittedSubclasses())
+            .map(type -> type.asSubclass(DomainEvent.class))
+            .collect(Collectors.toUnmodifiableMap(Class::getSimpleName, Function.identity()));
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxEventSink> sinks;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.outbox.relay.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.outbox.relay.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${app.outbox.relay.lease:5m}")
+    private Duration lease;
+
+    @Value("${app.outbox.relay.retry-backoff:30s}")
+    private Duration retryBackoff;
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay.poll-interval:2s}")
+    public void relayPending() {
+        while (relayBatch() == batchSize) {
+            log.debug("Lote de outbox completo, se procesa el siguiente");
+        }
+    }
+
+    public int relayBatch() {
+        List<OutboxEvent> claimed = transactionTemplate.execute(status -> claimBatch());
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> delivered = new ArrayList<>();
+        Map<OutboxEvent, Exception> failed = new LinkedHashMap<>();
+        for (OutboxEvent outboxEvent : claimed) {
+            try {
+                DomainEvent event = deserialize(outboxEvent);
+                sinks.forEach(sink -> sink.deliver(outboxEvent.getId(), event));
+                delivered.add(outboxEvent.getId());
+            } catch (Exception exception) {
+                failed.put(outboxEvent, exception);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> complete(delivered, failed));
+        return claimed.size();
+    }
+
+    private List<OutboxEvent> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> batch = outboxEventRepository.lockPendingBatch(now, maxAttempts, batchSize);
+        batch.forEach(outboxEvent -> {
+            outboxEvent.setAttempts(outboxEvent.getAttempts() + 1);
+            outboxEvent.setAvailableAt(now.plus(lease));
+        });
+        return batch;
+    }
+
+    private void complete(List<Long> delivered, Map<OutboxEvent, Exception> failed) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!delivered.isEmpty()) {
+            outboxEventRepository.markProcessed(delivered, now);
+        }
+
+        failed.forEach((outboxEvent, exception) -> {
+            int attempts = outboxEvent.getAttempts();
+            Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 10));
+            outboxEventRepository.scheduleRetry(outboxEvent.getId(), now.plus(backoff), errorMessage(exception));
+
+            if (attempts >= maxAttempts) {
+                log.error("Evento {} ({}) descartado tras {} intentos: {}", outboxEvent.getId(), outboxEvent.getEventType(), attempts, exception.getMessage(), exception);
+            } else {
+                log.warn("Fallo al entregar el evento {} ({}), intento {} de {}: {}", outboxEvent.getId(), outboxEvent.getEventType(), attempts, maxAttempts, exception.getMessage());
+            }
+        });
+    }
+
+    private DomainEvent deserialize(OutboxEvent outboxEvent) throws JsonProcessingException {
+        Class<? extends DomainEvent> type = EVENT_TYPES.get(outboxEvent.getEventType());
+        if (type == null) {
+            throw new IllegalStateException("Unknown outbox event type: " + outboxEvent.getEventType());
+        }
+        return objectMapper.readValue(outboxEvent.getPayload(), type);
+    }
+
+    private String errorMessage(Exception exception) {
+        String message = exception.getClass().getSimpleName() + ": " + exception.getMessage();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,7 @@
+package com.konoha.NinjaMissionManager.events;
+
+/**
+ * Published in-process by ApplicationEventOutboxSink once a domain event leaves the outbox.
+ * Delivery is at-least-once, so listeners can use outboxEventId to ignore duplicates.
+ */
+public record RelayedDomainEvent(Long outboxEventId, DomainEvent event) {}
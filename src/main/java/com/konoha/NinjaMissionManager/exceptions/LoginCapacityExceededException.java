@@ -0,0 +1,17 @@
+package com.konoha.NinjaMissionManager.exceptions;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import java.time.Duration;
+
+@Getter
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class LoginCapacityExceededException extends RuntimeException {
+    private final Duration retryAfter;
+
+    public LoginCapacityExceededException(Duration retryAfter) {
+        super("Too many logins in progress. Try again in " + Math.max(1, retryAfter.toSeconds()) + " seconds.");
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,16 @@
+package com.konoha.NinjaMissionManager.exceptions;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@Getter
+@ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
+public class SqlStatementBudgetExceededException extends RuntimeException {
+    private final int budget;
+
+    public SqlStatementBudgetExceededException(int budget) {
+        super("The request exceeded its budget of " + budget + " SQL statements.");
+        this.budget = budget;
+    }
+}
@@ -3,6 +3,7 @@ package com.konoha.NinjaMissionManager.models;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
@@ -16,7 +17,8 @@ import java.util.Set;
 public class Mission {
     @EqualsAndHashCode.Include
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "missions_seq")
+    @SequenceGenerator(name = "missions_seq", sequenceName = "missions_seq", allocationSize = 50)
     Long id;
 
     @Column(nullable = false)
@@ -42,11 +44,16 @@ public class Mission {
 
     @JsonManagedReference
     @Builder.Default
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ManyToMany
     @JoinTable(
             name = "ninja_missions",
             joinColumns = @JoinColumn(name = "mission_id"),
             inverseJoinColumns = @JoinColumn(name = "ninja_id")
     )
     private Set<Ninja> assignedNinjas = new HashSet<>();
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.konoha.NinjaMissionManager.models;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -15,7 +16,8 @@ import java.util.Set;
 public class Ninja {
     @EqualsAndHashCode.Include
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ninjas_seq")
+    @SequenceGenerator(name = "ninjas_seq", sequenceName = "ninjas_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -31,7 +33,7 @@ public class Ninja {
     @Column(name = "ninja_rank")
     private Rank rank;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "village_id")
     private Village village;
 
@@ -42,13 +44,18 @@ public class Ninja {
     @Column(nullable = false)
     private boolean isAnbu;
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection
     @Enumerated(EnumType.STRING)
     @CollectionTable(name = "ninja_roles", joinColumns = @JoinColumn(name = "ninja_id"))
     private Set<Role> roles;
 
     @JsonBackReference
-    @ManyToMany(mappedBy = "assignedNinjas", fetch = FetchType.EAGER)
+    @ManyToMany(mappedBy = "assignedNinjas")
     @Builder.Default
     private Set<Mission> assignedMissions = new HashSet<>();
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.konoha.NinjaMissionManager.models;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "outbox_events", indexes = @Index(name = "idx_outbox_events_pending", columnList = "processed_at, available_at"))
+@Data
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class OutboxEvent {
+    @EqualsAndHashCode.Include
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    Long id;
+
+    @Column(name = "aggregate_type", nullable = false, length = 50)
+    String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    Long aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    String eventType;
+
+    @Lob
+    @Column(nullable = false)
+    String payload;
+
+    @Column(name = "created_at", nullable = false)
+    LocalDateTime createdAt;
+
+    @Column(name = "available_at", nullable = false)
+    LocalDateTime availableAt;
+
+    @Builder.Default
+    @Column(nullable = false)
+    int attempts = 0;
+
+    @Column(name = "processed_at")
+    LocalDateTime processedAt;
+
+    @Column(name = "last_error", length = 500)
+    String lastError;
+}
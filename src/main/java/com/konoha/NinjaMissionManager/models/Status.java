@@ -1,9 +1,29 @@
 package com.konoha.NinjaMissionManager.models;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum Status {
     PENDING,
     ACTIVE,
     COMPLETED,
     FAILED,
-    CANCELLED
-}
\ No newline at end of file
+    CANCELLED;
+
+    /**
+     * Statuses a mission can move to from this one. COMPLETED and CANCELLED are final;
+     * a FAILED mission can go back to PENDING to be retried.
+     */
+    public Set<Status> allowedTransitions() {
+        return switch (this) {
+            case PENDING -> EnumSet.of(ACTIVE, CANCELLED);
+            case ACTIVE -> EnumSet.of(COMPLETED, FAILED, CANCELLED);
+            case FAILED -> EnumSet.of(PENDING);
+            case COMPLETED, CANCELLED -> EnumSet.noneOf(Status.class);
+        };
+    }
+
+    public boolean canTransitionTo(Status next) {
+        return allowedTransitions().contains(next);
+    }
+}
@@ -1,11 +1,23 @@
 package com.konoha.NinjaMissionManager.repositories;
 
 import com.konoha.NinjaMissionManager.models.Mission;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
 
 @Repository
-public interface MissionRepository extends JpaRepository<Mission, Long>, JpaSpecificationExecutor<Mission> {
+public interface MissionRepository extends JpaRepository<Mission, Long>, JpaSpecificationExecutor<Mission>, MissionRepositoryCustom {
+    @EntityGraph(attributePaths = "assignedNinjas")
+    Optional<Mission> findDetailedById(Long id);
+
     boolean existsByTitle(String title);
-}
\ No newline at end of file
+
+    @Query("SELECT m.title FROM Mission m WHERE m.title IN :titles")
+    Set<String> findExistingTitles(@Param("titles") Collection<String> titles);
+}
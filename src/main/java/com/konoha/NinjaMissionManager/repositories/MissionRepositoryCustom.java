@@ -0,0 +1,15 @@
+package com.konoha.NinjaMissionManager.repositories;
+
+import com.konoha.NinjaMissionManager.dtos.mission.MissionExportRow;
+import com.konoha.NinjaMissionManager.dtos.mission.MissionSummaryProjection;
+import com.konoha.NinjaMissionManager.models.Mission;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface MissionRepositoryCustom {
+    List<MissionSummaryProjection> findSummaries(Specification<Mission> specification, Sort sort, int limit);
+
+    Stream<MissionExportRow> streamExportRows(Specification<Mission> specification, Sort sort, int fetchSize);
+}
@@ -0,0 +1,86 @@
+package com.konoha.NinjaMissionManager.repositories;
+
+import com.konoha.NinjaMissionManager.dtos.mission.MissionExportRow;
+import com.konoha.NinjaMissionManager.dtos.mission.MissionSummaryProjection;
+import com.konoha.NinjaMissionManager.models.Mission;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class MissionRepositoryCustomImpl implements MissionRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Selects only the summary columns instead of whole Mission rows, so the description
+     * and the assigned ninjas are never read for list pages.
+     */
+    @Override
+    public List<MissionSummaryProjection> findSummaries(Specification<Mission> specification, Sort sort, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<MissionSummaryProjection> query = criteriaBuilder.createQuery(MissionSummaryProjection.class);
+        Root<Mission> root = query.from(Mission.class);
+
+        query.select(criteriaBuilder.construct(
+                MissionSummaryProjection.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("difficulty"),
+                root.get("status"),
+                root.get("creationDate")
+        ));
+
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Forward-only stream over the export columns. Rows are DTOs, not entities, so nothing
+     * accumulates in the persistence context, and the fetch size lets the driver read the
+     * result set in chunks. Must be consumed, and closed, inside a transaction.
+     */
+    @Override
+    public Stream<MissionExportRow> streamExportRows(Specification<Mission> specification, Sort sort, int fetchSize) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<MissionExportRow> query = criteriaBuilder.createQuery(MissionExportRow.class);
+        Root<Mission> root = query.from(Mission.class);
+
+        query.select(criteriaBuilder.construct(
+                MissionExportRow.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("description"),
+                root.get("reward"),
+                root.get("difficulty"),
+                root.get("status"),
+                root.get("creationDate")
+        ));
+
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
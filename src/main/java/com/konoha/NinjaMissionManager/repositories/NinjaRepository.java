@@ -1,15 +1,50 @@
 package com.konoha.NinjaMissionManager.repositories;
 
 import com.konoha.NinjaMissionManager.models.Ninja;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface NinjaRepository extends JpaRepository<Ninja, Long>, JpaSpecificationExecutor<Ninja> {
+    @EntityGraph(attributePaths = "roles")
     Optional<Ninja> findByEmail(String email);
+
+    @EntityGraph(attributePaths = {"village", "assignedMissions"})
+    Optional<Ninja> findDetailedById(Long id);
+
     boolean existsByEmail(String email);
+
+    @Query("SELECT n.email FROM Ninja n WHERE n.email IN :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
     List<Ninja> findByVillageId(Long villageId);
-}
\ No newline at end of file
+
+    /**
+     * Swaps the password hash only if it is still the one that was just verified, so a password
+     * changed by another request in the meantime is never overwritten. The version is bumped too,
+     * so a ninja loaded before the rehash cannot write the old hash back.
+     */
+    @Modifying
+    @Query("UPDATE Ninja n SET n.password = :newPassword, n.version = n.version + 1 WHERE n.email = :email AND n.password = :currentPassword")
+    int updatePasswordHash(@Param("email") String email, @Param("currentPassword") String currentPassword, @Param("newPassword") String newPassword);
+
+    /**
+     * Single atomic UPDATE for every ninja assigned to the mission. Pending changes to the
+     * assignments are flushed first so the subquery sees them, and the version is bumped so
+     * a ninja loaded before the increment cannot overwrite it.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE ninjas SET missions_completed_count = missions_completed_count + 1, version = version + 1
+            WHERE id IN (SELECT ninja_id FROM ninja_missions WHERE mission_id = :missionId)""", nativeQuery = true)
+    int incrementMissionsCompletedCount(@Param("missionId") Long missionId);
+}
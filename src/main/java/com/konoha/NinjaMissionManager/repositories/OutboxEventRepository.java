@@ -0,0 +1,35 @@
+package com.konoha.NinjaMissionManager.repositories;
+
+import com.konoha.NinjaMissionManager.models.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    /**
+     * Locks the next pending events. Rows already locked by another relay instance are skipped
+     * instead of waited on, so several instances can drain the table concurrently. Rows are taken in
+     * (available_at, id) order, and the (processed_at, available_at) pending index serves the scan.
+     */
+    @Query(value = """
+            SELECT * FROM outbox_events
+            WHERE processed_at IS NULL AND available_at <= :now AND attempts < :maxAttempts
+            ORDER BY available_at, id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED""", nativeQuery = true)
+    List<OutboxEvent> lockPendingBatch(@Param("now") LocalDateTime now, @Param("maxAttempts") int maxAttempts, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.processedAt = :processedAt, e.lastError = null WHERE e.id IN :ids")
+    int markProcessed(@Param("ids") Collection<Long> ids, @Param("processedAt") LocalDateTime processedAt);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.availableAt = :availableAt, e.lastError = :lastError WHERE e.id = :id")
+    int scheduleRetry(@Param("id") Long id, @Param("availableAt") LocalDateTime availableAt, @Param("lastError") String lastError);
+}
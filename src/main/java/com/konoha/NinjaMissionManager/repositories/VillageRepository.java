@@ -2,13 +2,25 @@ package com.konoha.NinjaMissionManager.repositories;
 
 import com.konoha.NinjaMissionManager.models.Ninja;
 import com.konoha.NinjaMissionManager.models.Village;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface VillageRepository extends JpaRepository<Village, Long>, JpaSpecificationExecutor<Village> {
+    @Override
+    @EntityGraph(attributePaths = "kage")
+    Optional<Village> findById(Long id);
+
+    @Override
+    @EntityGraph(attributePaths = "kage")
+    List<Village> findAll(Specification<Village> specification);
+
     boolean existsByNameIgnoreCase(String name);
     boolean existsByKageId(Long kageId);
     boolean existsByKageAndIdNot(Ninja kage, Long villageId);
-}
\ No newline at end of file
+}
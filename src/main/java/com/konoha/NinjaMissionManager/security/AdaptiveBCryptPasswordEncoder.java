@@ -0,0 +1,41 @@
+package com.konoha.NinjaMissionManager.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt encoder whose cost comes from configuration. Checks run on the
+ * {@link PasswordVerificationPool}, and any stored hash whose cost differs from the configured one,
+ * lower or higher, is reported as needing an upgrade, so the next successful login rehashes it.
+ */
+public class AdaptiveBCryptPasswordEncoder extends BCryptPasswordEncoder {
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d\\d)\\$");
+
+    private final int strength;
+    private final PasswordVerificationPool verificationPool;
+
+    public AdaptiveBCryptPasswordEncoder(int strength, PasswordVerificationPool verificationPool) {
+        super(strength);
+        this.strength = strength;
+        this.verificationPool = verificationPool;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return verificationPool.verify(() -> super.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+}
@@ -1,31 +1,60 @@
 package com.konoha.NinjaMissionManager.security;
 
 import com.konoha.NinjaMissionManager.models.Ninja;
-import lombok.AllArgsConstructor;
+import com.konoha.NinjaMissionManager.models.Role;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-@AllArgsConstructor
 public class NinjaUserDetail implements UserDetails {
-    private final Ninja ninja;
+    private final Long id;
+    private final String email;
+    private final String password;
+    private final Set<Role> roles;
+
+    public NinjaUserDetail(Ninja ninja) {
+        this(ninja.getId(), ninja.getEmail(), ninja.getPassword(), ninja.getRoles());
+    }
+
+    public NinjaUserDetail(Long id, String email, String password, Set<Role> roles) {
+        this.id = id;
+        this.email = email;
+        this.password = password;
+        this.roles = roles == null ? Set.of() : Set.copyOf(roles);
+    }
+
+    /**
+     * Principal rebuilt from a verified token: it carries no password and is never loaded from the database.
+     */
+    public static NinjaUserDetail fromTokenClaims(Long id, String email, Set<Role> roles) {
+        return new NinjaUserDetail(id, email, null, roles);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Set<Role> getRoles() {
+        return roles;
+    }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return ninja.getRoles().stream()
+        return roles.stream()
                 .map(role -> new SimpleGrantedAuthority(role.name()))
                 .collect(Collectors.toSet());
     }
 
     @Override
     public String getPassword() {
-        return ninja.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return ninja.getEmail();
+        return email;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,84 @@
+package com.konoha.NinjaMissionManager.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+@Component
+public class NinjaUserDetailsCache implements MeterBinder {
+    private static final String CACHE_NAME = "userDetails";
+
+    private final Cache<String, NinjaUserDetail> cache;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public NinjaUserDetailsCache(
+            @Value("${app.cache.user-details.maximum-size:10000}") long maximumSize,
+            @Value("${app.cache.user-details.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * A value is only stored if no eviction ran while it was being loaded: a request that read
+     * the row before an update committed must not put the old roles back after the eviction.
+     * The check runs inside the entry's compute, which {@link #evict} cannot interleave with.
+     */
+    public NinjaUserDetail get(String email, Function<String, NinjaUserDetail> loader) {
+        NinjaUserDetail cached = cache.getIfPresent(email);
+        if (cached != null) {
+            return cached;
+        }
+
+        long evictionsBeforeLoad = evictions.get();
+        NinjaUserDetail loaded = loader.apply(email);
+        cache.asMap().compute(email, (key, current) -> evictions.get() == evictionsBeforeLoad ? loaded : current);
+        return loaded;
+    }
+
+    /**
+     * Evicts right away and again once the surrounding transaction commits, so a concurrent
+     * request that reloaded the old row before the commit cannot keep it cached.
+     */
+    public void evict(String... emails) {
+        evictNow(emails);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(emails);
+                }
+            });
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    private void evictNow(String... emails) {
+        evictions.incrementAndGet();
+        for (String email : emails) {
+            if (email != null) {
+                cache.invalidate(email);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.konoha.NinjaMissionManager.security;
+
+import com.konoha.NinjaMissionManager.exceptions.LoginCapacityExceededException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Runs the BCrypt checks of the login path on a fixed pool with one thread per core by default,
+ * so a burst of logins cannot take every request thread's CPU. The queue is bounded and a check
+ * that does not fit is rejected right away with {@link LoginCapacityExceededException} (503 with
+ * Retry-After) instead of waiting. The pool uses platform threads on purpose: with virtual request
+ * threads it is what keeps the number of concurrent BCrypt checks bounded.
+ */
+@Component
+public class PasswordVerificationPool {
+    private final ThreadPoolExecutor executor;
+    private final Duration retryAfter;
+
+    public PasswordVerificationPool(
+            @Value("${app.security.password-verification.threads:0}") int threads,
+            @Value("${app.security.password-verification.queue-capacity:64}") int queueCapacity,
+            @Value("${app.security.password-verification.retry-after:2s}") Duration retryAfter) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-verification-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.retryAfter = retryAfter;
+    }
+
+    public boolean verify(BooleanSupplier check) {
+        Future<Boolean> result;
+        try {
+            result = executor.submit(check::getAsBoolean);
+        } catch (RejectedExecutionException exception) {
+            throw new LoginCapacityExceededException(retryAfter);
+        }
+
+        try {
+            return result.get();
+        } catch (InterruptedException exception) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AuthenticationServiceException("Password verification was interrupted", exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new AuthenticationServiceException("Password verification failed", exception.getCause());
+        }
+    }
+
+    public int getPoolSize() {
+        return executor.getCorePoolSize();
+    }
+
+    public int getQueuedVerifications() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -24,6 +24,8 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/prometheus").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("KAGE")
                         .requestMatchers(HttpMethod.POST, "/register").permitAll()
                         .requestMatchers(HttpMethod.POST, "/register/kage").hasRole("KAGE")
                         .requestMatchers(HttpMethod.POST, "/login").permitAll()
@@ -35,6 +37,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/ninjas/{id}").authenticated()
                         .requestMatchers(HttpMethod.PUT, "/ninjas/{id}").hasRole("NINJA_USER")
                         .requestMatchers(HttpMethod.PUT, "/ninjas/kage/{id}").hasRole("KAGE")
+                        .requestMatchers(HttpMethod.POST, "/ninjas/import").hasRole("KAGE")
                         .requestMatchers(HttpMethod.DELETE, "/ninjas").authenticated()
                         .requestMatchers(HttpMethod.GET, "/missions").hasAnyRole("KAGE", "NINJA_USER")
                         .requestMatchers(HttpMethod.GET, "/missions/{id}").authenticated()
@@ -1,11 +1,14 @@
 package com.konoha.NinjaMissionManager.security.jwt;
 
+import com.konoha.NinjaMissionManager.security.NinjaUserDetail;
 import com.konoha.NinjaMissionManager.services.NinjaService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,6 +16,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
@@ -20,6 +24,9 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
     private final NinjaService ninjaService;
 
+    @Value("${app.security.jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
@@ -30,12 +37,21 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         }
 
         String token = header.replace("Bearer ", "");
-        if (jwtService.isValidToken(token)){
-            String username = jwtService.extractUsername(token);
-            UserDetails userDetails = ninjaService.loadUserByUsername(username);
+        jwtService.parseToken(token).ifPresent(claims -> {
+            UserDetails userDetails = resolveUserDetails(claims);
             UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
             SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-        }
+        });
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    private UserDetails resolveUserDetails(Claims claims) {
+        if (statelessPrincipal) {
+            Optional<NinjaUserDetail> principal = jwtService.extractPrincipal(claims);
+            if (principal.isPresent()) {
+                return principal.get();
+            }
+        }
+        return ninjaService.loadUserByUsername(claims.getSubject());
+    }
+}
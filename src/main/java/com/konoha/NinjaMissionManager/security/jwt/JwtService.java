@@ -1,58 +1,127 @@
 package com.konoha.NinjaMissionManager.security.jwt;
 
+import com.konoha.NinjaMissionManager.models.Role;
 import com.konoha.NinjaMissionManager.security.NinjaUserDetail;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
 import javax.crypto.SecretKey;
+import java.util.Collection;
 import java.util.Date;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class JwtService {
     private final String JWT_SECRET_KEY = "mySecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLong";
     private final Long JWT_EXPIRATION = 1800000L;
+    private static final String NINJA_ID_CLAIM = "ninjaId";
+    private static final String ROLES_CLAIM = "roles";
+    private static final String JWT_TIMER = "app.jwt";
+
+    private final SecretKey signKey;
+    private final JwtParser jwtParser;
+    private final MeterRegistry meterRegistry;
+    private final Timer generateTimer;
+    private final Timer validParseTimer;
+    private final Timer invalidParseTimer;
+
+    public JwtService(MeterRegistry meterRegistry) {
+        this.signKey = buildSignKey();
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signKey)
+                .build();
+        this.meterRegistry = meterRegistry;
+        this.generateTimer = jwtTimer(meterRegistry, "generate", "success");
+        this.validParseTimer = jwtTimer(meterRegistry, "parse", "valid");
+        this.invalidParseTimer = jwtTimer(meterRegistry, "parse", "invalid");
+    }
 
     public String generateToken(NinjaUserDetail userDetail) {
-        return buildToken(userDetail, JWT_EXPIRATION);
+        return generateTimer.record(() -> buildToken(userDetail, JWT_EXPIRATION));
     }
 
     private String buildToken(NinjaUserDetail userDetail, Long jwtExpiration){
         return Jwts
                 .builder()
                 .claim("role", userDetail.getAuthorities().toString())
+                .claim(NINJA_ID_CLAIM, userDetail.getId())
+                .claim(ROLES_CLAIM, userDetail.getRoles().stream().map(Role::name).toList())
                 .subject(userDetail.getUsername())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + jwtExpiration))
-                .signWith(getSignKey())
+                .signWith(signKey)
                 .compact();
     }
 
+    /**
+     * Verifies the token once and returns its claims, or an empty Optional when the
+     * signature, format or expiration is not valid.
+     */
+    public Optional<Claims> parseToken(String token){
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Optional<Claims> claims;
+        try {
+            claims = Optional.of(extractAllClaims(token));
+        } catch (JwtException | IllegalArgumentException exception){
+            claims = Optional.empty();
+        }
+        sample.stop(claims.isPresent() ? validParseTimer : invalidParseTimer);
+        return claims;
+    }
+
+    /**
+     * Rebuilds the principal from the structured claims of an already verified token.
+     * Tokens issued before these claims existed, or carrying unknown roles, yield an empty Optional.
+     */
+    public Optional<NinjaUserDetail> extractPrincipal(Claims claims){
+        Long ninjaId = claims.get(NINJA_ID_CLAIM, Long.class);
+        Object roles = claims.get(ROLES_CLAIM);
+        if (ninjaId == null || claims.getSubject() == null || !(roles instanceof Collection<?> roleNames)){
+            return Optional.empty();
+        }
+
+        try {
+            Set<Role> parsedRoles = roleNames.stream()
+                    .map(roleName -> Role.valueOf(roleName.toString()))
+                    .collect(Collectors.toSet());
+            return Optional.of(NinjaUserDetail.fromTokenClaims(ninjaId, claims.getSubject(), parsedRoles));
+        } catch (IllegalArgumentException exception){
+            return Optional.empty();
+        }
+    }
+
     public String extractUsername(String token){
         return extractAllClaims(token).getSubject();
     }
 
     public boolean isValidToken(String token){
-        try {
-            extractAllClaims(token);
-            return true;
-        } catch (Exception exception){
-            return false;
-        }
+        return parseToken(token).isPresent();
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parser()
-                .verifyWith(getSignKey())
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
-    private SecretKey getSignKey(){
+    private static Timer jwtTimer(MeterRegistry meterRegistry, String operation, String outcome){
+        return Timer.builder(JWT_TIMER)
+                .description("Time to generate or verify a JWT")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private SecretKey buildSignKey(){
         byte[] bytes = Decoders.BASE64.decode(JWT_SECRET_KEY);
         return Keys.hmacShaKeyFor(bytes);
     }
-}
\ No newline at end of file
+}
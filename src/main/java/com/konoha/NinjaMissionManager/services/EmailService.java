@@ -1,29 +1,44 @@
 package com.konoha.NinjaMissionManager.services;
 
 import com.konoha.NinjaMissionManager.dtos.ninja.NinjaEmailInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.MailException;
+import org.springframework.mail.MailPreparationException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.spring6.SpringTemplateEngine;
-import javax.naming.*;
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Sends the notification emails for the outbox relay. A failed SMTP send is logged and rethrown, so
+ * the relay reschedules the event with its own backoff and dead-letters it after max-attempts.
+ * There is no second retry loop here. A failed team batch is delivered again as a whole, so some
+ * recipients may get a duplicate (at-least-once). If any recipient's message cannot be prepared,
+ * nothing is sent, so the event is never marked delivered with a ninja left out.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EmailService implements EmailSender {
     private final JavaMailSender mailSender;
     private final SpringTemplateEngine templateEngine;
+    private final MissionEmailRenderer missionEmailRenderer;
+    private final MeterRegistry meterRegistry;
 
     private static final String UTF_ENCODING = "UTF-8";
+    private static final String SEND_TIMER = "app.email.send";
+    private static final String WELCOME_EMAIL = "welcome";
+    private static final String MISSION_ASSIGNMENT_EMAIL = "mission-assignment";
 
     @Value("${app.email.from:mayvi9609@gmail.com}")
     private String fromEmail;
@@ -36,8 +51,9 @@ public class EmailService implements EmailSender {
 
     @Override
     public void sendNinjaWelcomeEmail(String toNinja, String ninjaName, String village) {
+        MimeMessage mimeMessage;
         try {
-            MimeMessage mimeMessage = mailSender.createMimeMessage();
+            mimeMessage = mailSender.createMimeMessage();
             MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, UTF_ENCODING);
 
             helper.setFrom(fromEmail, fromName);
@@ -52,12 +68,16 @@ public class EmailService implements EmailSender {
             String htmlContent = templateEngine.process("welcome-notification", context);
 
             helper.setText(htmlContent, true);
+        } catch (MessagingException | UnsupportedEncodingException exception) {
+            throw new MailPreparationException("Could not prepare the welcome email for " + toNinja, exception);
+        }
 
-            mailSender.send(mimeMessage);
+        try {
+            deliver(WELCOME_EMAIL, List.of(mimeMessage));
             log.info("Correo de bienvenida enviado con éxito a: {}", toNinja);
-
-        } catch (MessagingException | UnsupportedEncodingException | MailException exception) {
-            log.error("Error al enviar el correo de bienvenida a {}: {}", toNinja, exception.getMessage(), exception);
+        } catch (MailException exception) {
+            log.error("Error al enviar el correo de bienvenida a {}: {}", toNinja, exception.getMessage());
+            throw exception;
         }
     }
 
@@ -73,6 +93,9 @@ public class EmailService implements EmailSender {
 
         log.info("Enviando emails de misión de equipo para: {} a {} ninjas", missionTitle, ninjaTeam.size());
 
+        MissionEmailRenderer.MissionEmailBody body = missionEmailRenderer.render(ninjaTeam, missionTitle, missionDescription, missionRank, dashboardUrl);
+
+        List<MimeMessage> mimeMessages = new ArrayList<>(ninjaTeam.size());
         for (NinjaEmailInfo ninja : ninjaTeam){
             try {
                 MimeMessage mimeMessage = mailSender.createMimeMessage();
@@ -81,30 +104,39 @@ public class EmailService implements EmailSender {
                 helper.setFrom(fromEmail, fromName);
                 helper.setTo(ninja.email());
                 helper.setSubject(subject);
+                helper.setText(body.forRecipient(ninja), true);
 
-                Context context = new Context();
-                context.setVariable("ninjaName", ninja.name());
-                context.setVariable("missionTitle", missionTitle);
-                context.setVariable("missionDescription", missionDescription);
-                context.setVariable("missionRank", missionRank);
-                context.setVariable("dashboardUrl", dashboardUrl);
-                context.setVariable("isTeamMission", isTeamMission);
-
-                List<String> teammates = ninjaTeam.stream()
-                        .filter(teammate -> !teammate.email().equals(ninja.email()))
-                        .map(NinjaEmailInfo::name)
-                        .toList();
-                context.setVariable("teammates", teammates);
-
-                String htmlContent = templateEngine.process("mission-assignment-notification", context);
-                helper.setText(htmlContent, true);
+                mimeMessages.add(mimeMessage);
+            } catch (MessagingException | UnsupportedEncodingException exception){
+                log.error("Error al preparar correo de misión de equipo para {} ({}), no se envía el lote: {}", ninja.name(), ninja.email(), exception.getMessage());
+                throw new MailPreparationException("Could not prepare the mission assignment email for " + ninja.email() + " for mission " + missionTitle, exception);
+            }
+        }
 
-                mailSender.send(mimeMessage);
-                log.info("Correo de misión de equipo enviado con éxito a: {} ({}) para la misión: {}", ninja.name(), ninja.email(), missionTitle);
+        try {
+            deliver(MISSION_ASSIGNMENT_EMAIL, mimeMessages);
+            log.info("Correos de misión de equipo enviados con éxito a {} ninjas para la misión: {}", mimeMessages.size(), missionTitle);
+        } catch (MailException exception) {
+            log.error("Error al enviar correos de misión de equipo para la misión {}: {}", missionTitle, exception.getMessage());
+            throw exception;
+        }
+    }
 
-            } catch (MessagingException | UnsupportedEncodingException | MailException exception){
-                log.error("Error al enviar correo de misión de equipo a {} ({}): {}", ninja.name(), ninja.email(), exception.getMessage(), exception);
-            }
+    /**
+     * Sends the batch over one pooled connection, timed under app.email.send tagged by email type and outcome.
+     */
+    private void deliver(String emailType, List<MimeMessage> mimeMessages) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            mailSender.send(mimeMessages.toArray(MimeMessage[]::new));
+            outcome = "success";
+        } finally {
+            sample.stop(Timer.builder(SEND_TIMER)
+                    .description("Time to deliver an email batch over SMTP")
+                    .tag("type", emailType)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,100 @@
+package com.konoha.NinjaMissionManager.services;
+
+import com.konoha.NinjaMissionManager.dtos.ninja.NinjaEmailInfo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Renders the mission assignment template once per mission. The recipient name and the teammate
+ * list are rendered as unique markers and the body is split around them, so each recipient only
+ * costs a concatenation with its own (HTML-escaped) name and teammates.
+ */
+@Component
+@RequiredArgsConstructor
+public class MissionEmailRenderer {
+    static final String TEMPLATE = "mission-assignment-notification";
+    private static final String UTF_ENCODING = "UTF-8";
+
+    private final SpringTemplateEngine templateEngine;
+
+    public MissionEmailBody render(List<NinjaEmailInfo> ninjaTeam, String missionTitle, String missionDescription, String missionRank, String dashboardUrl) {
+        String token = UUID.randomUUID().toString();
+        String nameMarker = "ninja-name-" + token;
+        String teammateMarker = "teammate-" + token;
+
+        Context context = new Context();
+        context.setVariable("ninjaName", nameMarker);
+        context.setVariable("missionTitle", missionTitle);
+        context.setVariable("missionDescription", missionDescription);
+        context.setVariable("missionRank", missionRank);
+        context.setVariable("dashboardUrl", dashboardUrl);
+        context.setVariable("isTeamMission", ninjaTeam.size() > 1);
+        context.setVariable("teamSize", ninjaTeam.size());
+        context.setVariable("teammates", List.of(teammateMarker));
+
+        String html = templateEngine.process(TEMPLATE, context);
+        return new MissionEmailBody(html, nameMarker, teammateMarker, ninjaTeam);
+    }
+
+    public static final class MissionEmailBody {
+        private final String[] headParts;
+        private final String[] tailParts;
+        private final String teammateOpen;
+        private final String teammateClose;
+        private final List<NinjaEmailInfo> ninjaTeam;
+        private final List<String> escapedNames;
+        private final int estimatedLength;
+
+        private MissionEmailBody(String html, String nameMarker, String teammateMarker, List<NinjaEmailInfo> ninjaTeam) {
+            Pattern nameSplit = Pattern.compile(Pattern.quote(nameMarker));
+            Matcher teammateItem = Pattern.compile("(<li[^>]*>)" + Pattern.quote(teammateMarker) + "(</li>)").matcher(html);
+
+            if (teammateItem.find()) {
+                this.headParts = nameSplit.split(html.substring(0, teammateItem.start()), -1);
+                this.tailParts = nameSplit.split(html.substring(teammateItem.end()), -1);
+                this.teammateOpen = teammateItem.group(1);
+                this.teammateClose = teammateItem.group(2);
+            } else {
+                this.headParts = nameSplit.split(html, -1);
+                this.tailParts = null;
+                this.teammateOpen = null;
+                this.teammateClose = null;
+            }
+            this.ninjaTeam = ninjaTeam;
+            this.escapedNames = ninjaTeam.stream()
+                    .map(ninja -> HtmlUtils.htmlEscape(ninja.name(), UTF_ENCODING))
+                    .toList();
+            this.estimatedLength = html.length() + ninjaTeam.size() * 128;
+        }
+
+        public String forRecipient(NinjaEmailInfo recipient) {
+            String escapedName = HtmlUtils.htmlEscape(recipient.name(), UTF_ENCODING);
+            StringBuilder builder = new StringBuilder(estimatedLength);
+
+            appendWithName(builder, headParts, escapedName);
+            if (tailParts != null) {
+                for (int i = 0; i < ninjaTeam.size(); i++) {
+                    if (!ninjaTeam.get(i).email().equals(recipient.email())) {
+                        builder.append(teammateOpen).append(escapedNames.get(i)).append(teammateClose);
+                    }
+                }
+                appendWithName(builder, tailParts, escapedName);
+            }
+            return builder.toString();
+        }
+
+        private static void appendWithName(StringBuilder builder, String[] parts, String escapedName) {
+            builder.append(parts[0]);
+            for (int i = 1; i < parts.length; i++) {
+                builder.append(escapedName).append(parts[i]);
+            }
+        }
+    }
+}
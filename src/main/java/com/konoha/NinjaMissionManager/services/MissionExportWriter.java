@@ -0,0 +1,89 @@
+package com.konoha.NinjaMissionManager.services;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.konoha.NinjaMissionManager.dtos.mission.MissionExportFormat;
+import com.konoha.NinjaMissionManager.dtos.mission.MissionExportRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes export rows one at a time through a small buffer, so memory does not depend on
+ * how many rows the stream yields.
+ */
+@Component
+@RequiredArgsConstructor
+public class MissionExportWriter {
+    static final String CSV_HEADER = "id,title,description,reward,difficulty,status,creationDate";
+
+    private final ObjectMapper objectMapper;
+
+    public void write(Stream<MissionExportRow> rows, MissionExportFormat format, OutputStream outputStream) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try {
+            switch (format) {
+                case NDJSON -> writeNdjson(rows.iterator(), writer);
+                case CSV -> writeCsv(rows.iterator(), writer);
+            }
+            writer.flush();
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Could not write the mission export", exception);
+        }
+    }
+
+    private void writeNdjson(Iterator<MissionExportRow> rows, Writer writer) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        while (rows.hasNext()) {
+            objectMapper.writeValue(generator, rows.next());
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+    }
+
+    private void writeCsv(Iterator<MissionExportRow> rows, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        while (rows.hasNext()) {
+            MissionExportRow row = rows.next();
+            writer.write(String.valueOf(row.id()));
+            writer.write(',');
+            writeCsvField(writer, row.title());
+            writer.write(',');
+            writeCsvField(writer, row.description());
+            writer.write(',');
+            writeCsvField(writer, row.reward() == null ? null : row.reward().toString());
+            writer.write(',');
+            writeCsvField(writer, row.difficulty() == null ? null : row.difficulty().name());
+            writer.write(',');
+            writeCsvField(writer, row.status() == null ? null : row.status().name());
+            writer.write(',');
+            writeCsvField(writer, row.creationDate() == null ? null : row.creationDate().toString());
+            writer.write('\n');
+        }
+    }
+
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quoted = value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quoted) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -1,53 +1,83 @@
 package com.konoha.NinjaMissionManager.services;
 
+import com.konoha.NinjaMissionManager.dtos.common.CursorPageResponse;
 import com.konoha.NinjaMissionManager.dtos.mission.*;
 import com.konoha.NinjaMissionManager.dtos.ninja.NinjaEmailInfo;
+import com.konoha.NinjaMissionManager.events.MissionAssignedEvent;
+import com.konoha.NinjaMissionManager.events.MissionStatusChangedEvent;
+import com.konoha.NinjaMissionManager.exceptions.InvalidRequestException;
 import com.konoha.NinjaMissionManager.exceptions.ResourceConflictException;
 import com.konoha.NinjaMissionManager.exceptions.ResourceNotFoundException;
 import com.konoha.NinjaMissionManager.models.*;
 import com.konoha.NinjaMissionManager.repositories.MissionRepository;
+import com.konoha.NinjaMissionManager.security.NinjaUserDetail;
 import com.konoha.NinjaMissionManager.specifications.MissionSpecificationBuilder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.io.OutputStream;
 import java.security.Principal;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class MissionService {
+    public static final int MAX_PAGE_LIMIT = 100;
+    private static final String HIGH_RANK_REQUIREMENT_MESSAGE = "High-rank missions must be assigned to at least one Jonin or higher-rank ninja.";
+
     private final MissionRepository missionRepository;
     private final MissionMapper missionMapper;
     private final NinjaService ninjaService;
-    private final EmailService emailService;
-
-    public List<MissionSummaryResponse> getAllMissions(Optional<MissionDifficulty> difficulty, Optional<Status> status, Optional<Long> assignToNinjaId, Principal principal){
-        Ninja authenticatedNinja = ninjaService.getAuthenticatedNinja(principal);
+    private final ApplicationEventPublisher eventPublisher;
+    private final MissionExportWriter missionExportWriter;
 
-        MissionSpecificationBuilder builder = MissionSpecificationBuilder.builder()
-                .difficulty(difficulty)
-                .status(status);
+    @Value("${app.missions.export.fetch-size:500}")
+    private int exportFetchSize;
 
-        Optional<Long> ninjaIdToFilter = isKage(authenticatedNinja) ? assignToNinjaId : Optional.of(authenticatedNinja.getId());
-        builder.assignedToNinja(ninjaIdToFilter);
+    public CursorPageResponse<MissionSummaryResponse> getAllMissions(Optional<MissionDifficulty> difficulty, Optional<Status> status, Optional<Long> assignToNinjaId, Optional<String> cursor, int limit, Principal principal){
+        validatePageLimit(limit);
+        Specification<Mission> finalSpecification = visibleMissions(difficulty, status, assignToNinjaId, principal)
+                .after(cursor.map(MissionCursor::decode))
+                .build();
+        List<MissionSummaryProjection> missions = missionRepository.findSummaries(finalSpecification, MissionCursor.ORDER, limit + 1);
 
-        Specification<Mission> finalSpecification = builder.build();
-        List<Mission> missions = missionRepository.findAll(finalSpecification);
+        boolean hasNextPage = missions.size() > limit;
+        List<MissionSummaryProjection> page = hasNextPage ? missions.subList(0, limit) : missions;
+        String nextCursor = hasNextPage ? MissionCursor.of(page.getLast()).encode() : null;
 
-        return missions.stream()
-                .map(missionMapper::entityToSummaryDto)
+        List<MissionSummaryResponse> items = page.stream()
+                .map(missionMapper::projectionToSummaryDto)
                 .toList();
+        return new CursorPageResponse<>(items, nextCursor);
+    }
+
+    /**
+     * Streams the filtered missions straight into the output, in the same order and with the same
+     * visibility rules as the list endpoint. The read-only transaction keeps the cursor open
+     * while the rows are written.
+     */
+    @Transactional(readOnly = true)
+    public void exportMissions(Optional<MissionDifficulty> difficulty, Optional<Status> status, Optional<Long> assignToNinjaId, MissionExportFormat format, Principal principal, OutputStream outputStream){
+        Specification<Mission> specification = visibleMissions(difficulty, status, assignToNinjaId, principal).build();
+
+        try (Stream<MissionExportRow> rows = missionRepository.streamExportRows(specification, MissionCursor.ORDER, exportFetchSize)) {
+            missionExportWriter.write(rows, format, outputStream);
+        }
     }
 
     public MissionResponse getMissionById(Long requestedId, Principal principal) {
-        Ninja authenticatedNinja = ninjaService.getAuthenticatedNinja(principal);
+        NinjaUserDetail authenticatedNinja = ninjaService.getAuthenticatedNinja(principal);
         Mission mission = findMissionById(requestedId);
 
-        if (!isKage(authenticatedNinja) && !mission.getAssignedNinjas().contains(authenticatedNinja)) {
+        if (!isKage(authenticatedNinja) && !isAssigned(mission, authenticatedNinja)) {
             throw new AccessDeniedException("You do not have permission to view this mission.");
         }
 
@@ -68,24 +98,67 @@ public class MissionService {
         newMission.setCreationDate(LocalDateTime.now());
 
         Mission savedMission = missionRepository.save(newMission);
+        publishMissionAssigned(savedMission);
 
-        List<NinjaEmailInfo> ninjaTeamInfo = savedMission.getAssignedNinjas().stream()
-                .map(ninja -> new NinjaEmailInfo(ninja.getEmail(), ninja.getName()))
-                .toList();
+        return missionMapper.entityToDto(savedMission);
+    }
 
-        emailService.sendMissionAssignmentEmail(
-                ninjaTeamInfo,
-                savedMission.getTitle(),
-                savedMission.getDescription(),
-                savedMission.getDifficulty().toString()
-        );
+    /**
+     * Creates every valid mission of the batch in one transaction. Titles and ninja ids are checked
+     * with one query each, and missions take their ids from missions_seq, so Hibernate sends the
+     * mission and ninja_missions INSERTs in JDBC batches. An invalid item is reported in its result
+     * and does not stop the rest of the batch.
+     */
+    @Transactional
+    public MissionBatchResponse createMissions(List<MissionCreateRequest> requests, Principal principal){
+        validateKagePermission(principal);
 
-        return missionMapper.entityToDto(savedMission);
+        Set<String> takenTitles = new HashSet<>(missionRepository.findExistingTitles(requests.stream()
+                .map(MissionCreateRequest::title)
+                .collect(Collectors.toSet())));
+        Map<Long, Ninja> ninjasById = ninjaService.getNinjaEntitiesByIds(requests.stream()
+                        .flatMap(request -> request.ninjaId().stream())
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Ninja::getId, Function.identity()));
+
+        LocalDateTime creationDate = LocalDateTime.now();
+        Mission[] accepted = new Mission[requests.size()];
+        String[] rejections = new String[requests.size()];
+        for (int index = 0; index < requests.size(); index++){
+            MissionCreateRequest request = requests.get(index);
+            rejections[index] = findBatchRejection(request, takenTitles, ninjasById);
+            if (rejections[index] != null){
+                continue;
+            }
+
+            Mission mission = missionMapper.dtoToEntity(request);
+            mission.setStatus(Status.PENDING);
+            mission.setAssignedNinjas(request.ninjaId().stream()
+                    .map(ninjasById::get)
+                    .collect(Collectors.toSet()));
+            mission.setCreationDate(creationDate);
+            takenTitles.add(request.title());
+            accepted[index] = mission;
+        }
+
+        List<Mission> missions = Arrays.stream(accepted).filter(Objects::nonNull).toList();
+        missionRepository.saveAll(missions);
+        missions.forEach(this::publishMissionAssigned);
+
+        List<MissionBatchItemResult> results = new ArrayList<>(requests.size());
+        for (int index = 0; index < requests.size(); index++){
+            String title = requests.get(index).title();
+            results.add(accepted[index] != null
+                    ? MissionBatchItemResult.created(index, title, accepted[index].getId())
+                    : MissionBatchItemResult.rejected(index, title, rejections[index]));
+        }
+        return new MissionBatchResponse(missions.size(), requests.size() - missions.size(), results);
     }
 
     @Transactional
     public MissionResponse updateMission(Long id, MissionUpdateRequest request, Principal principal){
-        Ninja authenticatedNinja = ninjaService.getAuthenticatedNinja(principal);
+        NinjaUserDetail authenticatedNinja = ninjaService.getAuthenticatedNinja(principal);
         Mission mission = findMissionById(id);
 
         if (!isKage(authenticatedNinja)){
@@ -104,8 +177,8 @@ public class MissionService {
         missionRepository.delete(missionToDelete);
     }
 
-    private MissionResponse updateMissionAsNinja(Mission mission, Ninja authenticatedNinja, MissionUpdateRequest request){
-        if (!mission.getAssignedNinjas().contains(authenticatedNinja)){
+    private MissionResponse updateMissionAsNinja(Mission mission, NinjaUserDetail authenticatedNinja, MissionUpdateRequest request){
+        if (!isAssigned(mission, authenticatedNinja)){
             throw new AccessDeniedException("You do not have permission to update this mission.");
         }
 
@@ -143,59 +216,144 @@ public class MissionService {
         return missionMapper.entityToDto(updatedMission);
     }
 
+    /**
+     * The status change is written through the mission's version check: when two requests
+     * complete the same mission concurrently, the second flush fails before its increment runs
+     * and the request ends with 409.
+     */
     private void updateStatusIfChanged(Mission mission, Status newStatus){
-        if (newStatus != null && newStatus != mission.getStatus()){
-            if (newStatus == Status.COMPLETED){
-                updateCompletedMissionCount(mission);
-            }
-            mission.setStatus(newStatus);
+        if (newStatus == null || newStatus == mission.getStatus()){
+            return;
+        }
+
+        Status previousStatus = mission.getStatus();
+        if (!previousStatus.canTransitionTo(newStatus)){
+            throw new ResourceConflictException("Mission status cannot change from " + previousStatus + " to " + newStatus + ".");
+        }
+
+        mission.setStatus(newStatus);
+        eventPublisher.publishEvent(new MissionStatusChangedEvent(mission.getId(), mission.getTitle(), previousStatus, newStatus));
+        if (newStatus == Status.COMPLETED){
+            updateCompletedMissionCount(mission);
         }
     }
 
     private void updateCompletedMissionCount(Mission mission) {
-        List<Ninja> ninjasToUpdate = new ArrayList<>(mission.getAssignedNinjas());
+        ninjaService.incrementMissionsCompletedCount(mission.getId());
+    }
 
-        for (Ninja ninja : ninjasToUpdate) {
-            ninja.setMissionsCompletedCount(ninja.getMissionsCompletedCount() + 1);
+    private String findBatchRejection(MissionCreateRequest request, Set<String> takenTitles, Map<Long, Ninja> ninjasById) {
+        if (takenTitles.contains(request.title())) {
+            return "Mission with this title already exists.";
         }
-        ninjaService.saveAllNinjas(ninjasToUpdate);
+
+        List<Long> missingIds = findMissingNinjaIds(request.ninjaId(), ninjasById.keySet());
+        if (!missingIds.isEmpty()) {
+            return ninjasNotFoundMessage(missingIds);
+        }
+
+        List<Ninja> assignedNinjas = request.ninjaId().stream().map(ninjasById::get).toList();
+        if (!meetsRankRequirement(request.difficulty(), assignedNinjas)) {
+            return HIGH_RANK_REQUIREMENT_MESSAGE;
+        }
+        return null;
+    }
+
+    private void publishMissionAssigned(Mission mission) {
+        List<NinjaEmailInfo> ninjaTeamInfo = mission.getAssignedNinjas().stream()
+                .map(ninja -> new NinjaEmailInfo(ninja.getEmail(), ninja.getName()))
+                .toList();
+
+        eventPublisher.publishEvent(new MissionAssignedEvent(
+                mission.getId(),
+                ninjaTeamInfo,
+                mission.getTitle(),
+                mission.getDescription(),
+                mission.getDifficulty().toString()
+        ));
+    }
+
+    private MissionSpecificationBuilder visibleMissions(Optional<MissionDifficulty> difficulty, Optional<Status> status, Optional<Long> assignToNinjaId, Principal principal) {
+        NinjaUserDetail authenticatedNinja = ninjaService.getAuthenticatedNinja(principal);
+        Optional<Long> ninjaIdToFilter = isKage(authenticatedNinja) ? assignToNinjaId : Optional.of(authenticatedNinja.getId());
+
+        return MissionSpecificationBuilder.builder()
+                .difficulty(difficulty)
+                .status(status)
+                .assignedToNinja(ninjaIdToFilter);
     }
 
     private void validateKagePermission(Principal principal) {
-        Ninja authenticatedNinja = ninjaService.getAuthenticatedNinja(principal);
+        NinjaUserDetail authenticatedNinja = ninjaService.getAuthenticatedNinja(principal);
         if (!isKage(authenticatedNinja)) {
             throw new AccessDeniedException("Only a Kage can create or manage missions.");
         }
     }
 
+    private void validatePageLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_LIMIT) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_PAGE_LIMIT);
+        }
+    }
+
     private void validateMissionTitle(String title) {
         if (missionRepository.existsByTitle(title)) {
             throw new ResourceConflictException("Mission with this title already exists.");
         }
     }
 
+    /**
+     * Resolves the whole team with one query and reports every unknown id at once.
+     */
     private Set<Ninja> getAndValidateAssignedNinjas(Set<Long> ninjaIds, MissionDifficulty difficulty) {
-        Set<Ninja> assignedNinjas = ninjaIds.stream()
-                .map(ninjaService::getNinjaEntityById)
-                .collect(Collectors.toSet());
-
-        if (difficulty.isHighRank()) {
-            boolean hasHighRankNinja = assignedNinjas.stream()
-                    .anyMatch(ninja -> ninja.getRank().isAbove(Rank.CHUNIN));
-            if (!hasHighRankNinja) {
-                throw new AccessDeniedException("High-rank missions must be assigned to at least one Jonin or higher-rank ninja.");
-            }
+        Set<Ninja> assignedNinjas = new HashSet<>(ninjaService.getNinjaEntitiesByIds(ninjaIds));
+
+        List<Long> missingIds = findMissingNinjaIds(ninjaIds, assignedNinjas.stream()
+                .map(Ninja::getId)
+                .collect(Collectors.toSet()));
+        if (!missingIds.isEmpty()) {
+            throw new ResourceNotFoundException(ninjasNotFoundMessage(missingIds));
+        }
+
+        if (!meetsRankRequirement(difficulty, assignedNinjas)) {
+            throw new AccessDeniedException(HIGH_RANK_REQUIREMENT_MESSAGE);
         }
         return assignedNinjas;
     }
 
-    private boolean isKage(Ninja ninja) {
+    private boolean meetsRankRequirement(MissionDifficulty difficulty, Collection<Ninja> assignedNinjas) {
+        return !difficulty.isHighRank() || assignedNinjas.stream()
+                .anyMatch(ninja -> ninja.getRank().isAbove(Rank.CHUNIN));
+    }
+
+    private List<Long> findMissingNinjaIds(Collection<Long> requestedIds, Set<Long> foundIds) {
+        return requestedIds.stream()
+                .filter(ninjaId -> !foundIds.contains(ninjaId))
+                .sorted()
+                .toList();
+    }
+
+    private String ninjasNotFoundMessage(List<Long> missingIds) {
+        if (missingIds.size() == 1) {
+            return "Ninja not found with id " + missingIds.getFirst();
+        }
+        return "Ninjas not found with ids " + missingIds.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(", "));
+    }
+
+    private boolean isKage(NinjaUserDetail ninja) {
         return ninja.getRoles().stream()
                 .anyMatch(role -> role == Role.ROLE_KAGE);
     }
 
+    private boolean isAssigned(Mission mission, NinjaUserDetail ninja) {
+        return mission.getAssignedNinjas().stream()
+                .anyMatch(assignedNinja -> assignedNinja.getId().equals(ninja.getId()));
+    }
+
     private Mission findMissionById(Long id) {
-        return missionRepository.findById(id)
+        return missionRepository.findDetailedById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Mission not found with ID: " + id));
     }
 }
\ No newline at end of file
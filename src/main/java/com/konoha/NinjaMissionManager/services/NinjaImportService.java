@@ -0,0 +1,299 @@
+package com.konoha.NinjaMissionManager.services;
+
+import com.konoha.NinjaMissionManager.dtos.ninja.KageCreateNinjaRequest;
+import com.konoha.NinjaMissionManager.dtos.ninja.NinjaImportRejection;
+import com.konoha.NinjaMissionManager.dtos.ninja.NinjaImportResponse;
+import com.konoha.NinjaMissionManager.exceptions.InvalidRequestException;
+import com.konoha.NinjaMissionManager.models.Ninja;
+import com.konoha.NinjaMissionManager.models.Rank;
+import com.konoha.NinjaMissionManager.models.Role;
+import com.konoha.NinjaMissionManager.models.Village;
+import com.konoha.NinjaMissionManager.repositories.NinjaRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates ninjas from a CSV read line by line. Rows are handled in chunks: the emails and villages
+ * of a chunk are checked with one query each, the passwords are hashed in parallel by
+ * {@link PasswordHasher} with no transaction open, and the ninjas are saved in a short transaction
+ * of their own. Ninja ids come from ninjas_seq, so the INSERTs go out in JDBC batches.
+ * An invalid row is reported with its line number and does not stop the import. Each chunk commits
+ * on its own: if another request registers one of its emails or deletes its village before the
+ * commit, only that chunk is rolled back and its rows are reported as rejected, so the response
+ * always matches what was saved.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NinjaImportService {
+    public static final String CSV_HEADER = "name,email,password,rank,villageId,isAnbu";
+    private static final int CSV_COLUMNS = 6;
+    private static final String CHUNK_ROLLED_BACK_MESSAGE = "Not imported: its chunk was rolled back after a concurrent change (an email registered or a village deleted meanwhile). Retry this row.";
+
+    private final NinjaRepository ninjaRepository;
+    private final VillageService villageService;
+    private final PasswordHasher passwordHasher;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.ninjas.import.chunk-size:500}")
+    private int chunkSize;
+
+    public NinjaImportResponse importNinjas(InputStream csv) {
+        long start = System.nanoTime();
+        List<NinjaImportRejection> rejections = new ArrayList<>();
+        Set<String> emailsInFile = new HashSet<>();
+        int imported = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            validateHeader(reader.readLine());
+
+            List<ImportRow> chunk = new ArrayList<>(chunkSize);
+            int lineNumber = 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                chunk.add(new ImportRow(lineNumber, line));
+                if (chunk.size() == chunkSize) {
+                    imported += importChunk(chunk, emailsInFile, rejections);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                imported += importChunk(chunk, emailsInFile, rejections);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        rejections.sort(Comparator.comparingInt(NinjaImportRejection::line));
+        NinjaImportResponse response = NinjaImportResponse.of(imported, rejections, Duration.ofNanos(System.nanoTime() - start));
+        log.info("Importacion de ninjas: {} creados, {} rechazados en {} ms ({} ninjas/s, {} hilos de hashing)",
+                response.imported(), response.rejected(), response.elapsedMillis(), response.ninjasPerSecond(), passwordHasher.getPoolSize());
+        return response;
+    }
+
+    private int importChunk(List<ImportRow> rows, Set<String> emailsInFile, List<NinjaImportRejection> rejections) {
+        List<ParsedRow> parsedRows = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            ParsedRow parsedRow = parse(row);
+            if (parsedRow.rejection() != null) {
+                rejections.add(new NinjaImportRejection(row.lineNumber(), parsedRow.email(), parsedRow.rejection()));
+            } else {
+                parsedRows.add(parsedRow);
+            }
+        }
+        if (parsedRows.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> registeredEmails = ninjaRepository.findExistingEmails(parsedRows.stream()
+                .map(ParsedRow::email)
+                .collect(Collectors.toSet()));
+        Map<Long, Village> villagesById = villageService.getVillageEntitiesByIds(parsedRows.stream()
+                        .map(parsedRow -> parsedRow.request().villageId())
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Village::getId, Function.identity()));
+
+        List<ParsedRow> accepted = new ArrayList<>(parsedRows.size());
+        for (ParsedRow parsedRow : parsedRows) {
+            String rejection = findRejection(parsedRow.request(), registeredEmails, emailsInFile, villagesById);
+            if (rejection != null) {
+                rejections.add(new NinjaImportRejection(parsedRow.lineNumber(), parsedRow.email(), rejection));
+            } else {
+                emailsInFile.add(parsedRow.email());
+                accepted.add(parsedRow);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return 0;
+        }
+
+        List<String> hashes = passwordHasher.encodeAll(accepted.stream()
+                .map(parsedRow -> parsedRow.request().password())
+                .toList());
+        List<Ninja> ninjas = new ArrayList<>(accepted.size());
+        for (int index = 0; index < accepted.size(); index++) {
+            KageCreateNinjaRequest request = accepted.get(index).request();
+            ninjas.add(buildNinja(request, hashes.get(index), villagesById.get(request.villageId())));
+        }
+
+        try {
+            List<NinjaImportRejection> registeredMeanwhile = transactionTemplate.execute(status -> saveChunk(accepted, ninjas));
+            rejections.addAll(registeredMeanwhile);
+            return ninjas.size() - registeredMeanwhile.size();
+        } catch (DataIntegrityViolationException exception) {
+            log.warn("Importacion de ninjas: lote de {} filas descartado por un cambio concurrente: {}",
+                    accepted.size(), exception.getMostSpecificCause().getMessage());
+            for (ParsedRow parsedRow : accepted) {
+                emailsInFile.remove(parsedRow.email());
+                rejections.add(new NinjaImportRejection(parsedRow.lineNumber(), parsedRow.email(), CHUNK_ROLLED_BACK_MESSAGE));
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * Checks the emails again inside the transaction, since another request may have registered one
+     * while the passwords were hashed, and saves the rest. Returns the rows left out for that reason.
+     */
+    private List<NinjaImportRejection> saveChunk(List<ParsedRow> accepted, List<Ninja> ninjas) {
+        Set<String> registeredEmails = ninjaRepository.findExistingEmails(accepted.stream()
+                .map(ParsedRow::email)
+                .collect(Collectors.toSet()));
+        List<NinjaImportRejection> registeredMeanwhile = new ArrayList<>();
+        List<Ninja> toSave = new ArrayList<>(ninjas.size());
+        for (int index = 0; index < accepted.size(); index++) {
+            ParsedRow parsedRow = accepted.get(index);
+            if (registeredEmails.contains(parsedRow.email())) {
+                registeredMeanwhile.add(new NinjaImportRejection(parsedRow.lineNumber(), parsedRow.email(), "Email is already registered: " + parsedRow.email()));
+            } else {
+                toSave.add(ninjas.get(index));
+            }
+        }
+        ninjaRepository.saveAllAndFlush(toSave);
+        return registeredMeanwhile;
+    }
+
+    private ParsedRow parse(ImportRow row) {
+        List<String> fields = parseCsvLine(row.line());
+        if (fields == null || fields.size() != CSV_COLUMNS) {
+            return ParsedRow.rejected(row.lineNumber(), null, "Expected " + CSV_COLUMNS + " columns: " + CSV_HEADER);
+        }
+
+        String email = fields.get(1);
+        Rank rank;
+        try {
+            rank = Rank.valueOf(fields.get(3).toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            return ParsedRow.rejected(row.lineNumber(), email, "Invalid rank: " + fields.get(3));
+        }
+        Long villageId;
+        try {
+            villageId = Long.valueOf(fields.get(4));
+        } catch (NumberFormatException exception) {
+            return ParsedRow.rejected(row.lineNumber(), email, "Invalid village id: " + fields.get(4));
+        }
+        String isAnbuField = fields.get(5);
+        if (!isAnbuField.isEmpty() && !isAnbuField.equalsIgnoreCase("true") && !isAnbuField.equalsIgnoreCase("false")) {
+            return ParsedRow.rejected(row.lineNumber(), email, "Invalid isAnbu value: " + isAnbuField);
+        }
+        boolean isAnbu = Boolean.parseBoolean(isAnbuField);
+
+        KageCreateNinjaRequest request = new KageCreateNinjaRequest(
+                fields.get(0), email, fields.get(2), rank, villageId, isAnbu, rolesFor(isAnbu));
+        Set<ConstraintViolation<KageCreateNinjaRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return ParsedRow.rejected(row.lineNumber(), email, violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        return new ParsedRow(row.lineNumber(), email, request, null);
+    }
+
+    private String findRejection(KageCreateNinjaRequest request, Set<String> registeredEmails, Set<String> emailsInFile, Map<Long, Village> villagesById) {
+        if (registeredEmails.contains(request.email())) {
+            return "Email is already registered: " + request.email();
+        }
+        if (emailsInFile.contains(request.email())) {
+            return "Email is repeated in the file: " + request.email();
+        }
+        if (!villagesById.containsKey(request.villageId())) {
+            return "Village not found with ID: " + request.villageId();
+        }
+        return null;
+    }
+
+    private Ninja buildNinja(KageCreateNinjaRequest request, String passwordHash, Village village) {
+        return Ninja.builder()
+                .name(request.name())
+                .email(request.email())
+                .password(passwordHash)
+                .rank(request.rank())
+                .village(village)
+                .isAnbu(request.isAnbu())
+                .roles(request.roles())
+                .missionsCompletedCount(0)
+                .build();
+    }
+
+    private Set<Role> rolesFor(boolean isAnbu) {
+        return isAnbu
+                ? Set.of(Role.ROLE_NINJA_USER, Role.ROLE_ANBU)
+                : Set.of(Role.ROLE_NINJA_USER);
+    }
+
+    private void validateHeader(String header) {
+        if (header == null) {
+            throw new InvalidRequestException("The CSV file is empty.");
+        }
+        String columns = header.replace("\uFEFF", "").replace(" ", "");
+        if (!columns.equalsIgnoreCase(CSV_HEADER)) {
+            throw new InvalidRequestException("The CSV header must be: " + CSV_HEADER);
+        }
+    }
+
+    /**
+     * Splits one CSV line into trimmed fields. Fields may be quoted, with "" for a literal quote.
+     * Returns null when a quoted field is not closed.
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>(CSV_COLUMNS);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int index = 0; index < line.length(); index++) {
+            char current = line.charAt(index);
+            if (quoted) {
+                if (current == '"' && index + 1 < line.length() && line.charAt(index + 1) == '"') {
+                    field.append('"');
+                    index++;
+                } else if (current == '"') {
+                    quoted = false;
+                } else {
+                    field.append(current);
+                }
+            } else if (current == '"') {
+                quoted = true;
+            } else if (current == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(current);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+
+    private record ImportRow(int lineNumber, String line) {}
+
+    private record ParsedRow(int lineNumber, String email, KageCreateNinjaRequest request, String rejection) {
+        static ParsedRow rejected(int lineNumber, String email, String rejection) {
+            return new ParsedRow(lineNumber, email, null, rejection);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.konoha.NinjaMissionManager.services;
 
+import com.konoha.NinjaMissionManager.dtos.common.PageResponse;
 import com.konoha.NinjaMissionManager.dtos.mission.MissionMapper;
 import com.konoha.NinjaMissionManager.dtos.ninja.*;
 import com.konoha.NinjaMissionManager.exceptions.ResourceConflictException;
@@ -7,31 +8,39 @@ import com.konoha.NinjaMissionManager.exceptions.ResourceNotFoundException;
 import com.konoha.NinjaMissionManager.models.*;
 import com.konoha.NinjaMissionManager.repositories.NinjaRepository;
 import com.konoha.NinjaMissionManager.security.NinjaUserDetail;
+import com.konoha.NinjaMissionManager.security.NinjaUserDetailsCache;
 import com.konoha.NinjaMissionManager.specifications.NinjaSpecificationBuilder;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.security.Principal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
-public class NinjaService implements UserDetailsService {
+public class NinjaService implements UserDetailsService, UserDetailsPasswordService {
     private final NinjaRepository ninjaRepository;
     private final NinjaMapper ninjaMapper;
     private final MissionMapper missionMapper;
     private final BCryptPasswordEncoder passwordEncoder;
+    private final NinjaUserDetailsCache userDetailsCache;
 
-    public List<NinjaResponse> getAllNinjas(Optional<Rank> rank, Optional<Long> villageId, Optional<Boolean> isAnbu, Principal principal){
-        Ninja authenticatedNinja = getAuthenticatedNinja(principal);
+    @Transactional(readOnly = true)
+    public PageResponse<NinjaResponse> getAllNinjas(Optional<Rank> rank, Optional<Long> villageId, Optional<Boolean> isAnbu, Pageable pageable, boolean includeTotal, boolean slim, Principal principal){
+        NinjaUserDetail authenticatedNinja = getAuthenticatedNinja(principal);
         validateKageAccess(authenticatedNinja);
 
         Specification<Ninja> specification = NinjaSpecificationBuilder.builder()
@@ -40,14 +49,18 @@ public class NinjaService implements UserDetailsService {
                 .isAnbu(isAnbu)
                 .build();
 
-        return ninjaRepository.findAll(specification)
-                .stream()
-                .map(ninja -> ninjaMapper.entityToDto(ninja, missionMapper))
-                .toList();
+        Slice<Ninja> ninjas = ninjaRepository.findBy(specification, query -> includeTotal
+                ? query.project("village").page(pageable)
+                : query.project("village").slice(pageable));
+
+        Slice<NinjaResponse> responses = slim
+                ? ninjas.map(ninjaMapper::entityToSlimDto)
+                : ninjas.map(ninja -> ninjaMapper.entityToDto(ninja, missionMapper));
+        return PageResponse.from(responses);
     }
 
     public NinjaResponse getNinjaById(Long requestedId, Principal principal) {
-        Ninja authenticatedNinja = getAuthenticatedNinja(principal);
+        NinjaUserDetail authenticatedNinja = getAuthenticatedNinja(principal);
         validateOwnerOrKageAccess(requestedId, authenticatedNinja);
 
         Ninja ninja = findNinjaById(requestedId);
@@ -59,6 +72,10 @@ public class NinjaService implements UserDetailsService {
                 .orElseThrow(() -> new ResourceNotFoundException("Ninja not found with id " + id));
     }
 
+    public List<Ninja> getNinjaEntitiesByIds(Collection<Long> ids) {
+        return ninjaRepository.findAllById(ids);
+    }
+
     public List<Ninja> getNinjasByVillageId(Long villageId) {
         return ninjaRepository.findByVillageId(villageId);
     }
@@ -83,10 +100,11 @@ public class NinjaService implements UserDetailsService {
 
     @Transactional
     public NinjaResponse updateNinja(Long requestedId, NinjaSelfUpdateRequest request, Principal principal) {
-        Ninja authenticatedNinja = getAuthenticatedNinja(principal);
+        NinjaUserDetail authenticatedNinja = getAuthenticatedNinja(principal);
         validateOwnerAccess(requestedId, authenticatedNinja);
 
         Ninja ninjaToUpdate = findNinjaById(requestedId);
+        userDetailsCache.evict(ninjaToUpdate.getEmail(), request.email());
         updateNinjaSelfData(ninjaToUpdate, request);
 
         return persistAndMapNinja(ninjaToUpdate);
@@ -95,6 +113,7 @@ public class NinjaService implements UserDetailsService {
     @Transactional
     public NinjaResponse updateAsKageInternal(Long requestedId, NinjaKageUpdateRequest request, Village village) {
         Ninja ninjaToUpdate = findNinjaById(requestedId);
+        userDetailsCache.evict(ninjaToUpdate.getEmail(), request.email());
 
         updateNinjasAsKage(ninjaToUpdate, request, village);
 
@@ -103,10 +122,11 @@ public class NinjaService implements UserDetailsService {
 
     @Transactional
     public void deleteNinja(Long requestedId, Principal principal){
-        Ninja authenticatedNinja = getAuthenticatedNinja(principal);
+        NinjaUserDetail authenticatedNinja = getAuthenticatedNinja(principal);
         validateOwnerOrKageAccess(requestedId, authenticatedNinja);
 
         Ninja ninjaToDelete = findNinjaById(requestedId);
+        userDetailsCache.evict(ninjaToDelete.getEmail());
 
         for (Mission mission : ninjaToDelete.getAssignedMissions()) {
             mission.getAssignedNinjas().remove(ninjaToDelete);
@@ -118,6 +138,25 @@ public class NinjaService implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        return userDetailsCache.get(email, this::loadNinjaUserDetail);
+    }
+
+    /**
+     * Called by Spring Security after a successful login when the stored hash was made with a
+     * different BCrypt cost than the configured one.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        if (!(user instanceof NinjaUserDetail ninjaUserDetail)
+                || ninjaRepository.updatePasswordHash(user.getUsername(), user.getPassword(), newPassword) == 0) {
+            return user;
+        }
+        userDetailsCache.evict(user.getUsername());
+        return new NinjaUserDetail(ninjaUserDetail.getId(), ninjaUserDetail.getUsername(), newPassword, ninjaUserDetail.getRoles());
+    }
+
+    private NinjaUserDetail loadNinjaUserDetail(String email) {
         return ninjaRepository.findByEmail(email)
                 .map(NinjaUserDetail::new)
                 .orElseThrow(() -> new UsernameNotFoundException("Ninja not found with the email: " + email));
@@ -127,6 +166,10 @@ public class NinjaService implements UserDetailsService {
         ninjaRepository.saveAll(ninjas);
     }
 
+    public int incrementMissionsCompletedCount(Long missionId){
+        return ninjaRepository.incrementMissionsCompletedCount(missionId);
+    }
+
     private Ninja buildNinjaForRegistration(NinjaRegisterRequest request, Village village){
         return Ninja.builder()
                 .name(request.name())
@@ -170,31 +213,43 @@ public class NinjaService implements UserDetailsService {
         ninjaToUpdate.setRoles(request.roles());
     }
 
-    public Ninja getAuthenticatedNinja(Principal principal) {
+    /**
+     * Returns the id and roles the JWT filter already resolved for this request, so services never
+     * load the authenticated ninja again nor receive an entity detached from their transaction.
+     * Principals that did not come from the filter are looked up by email.
+     */
+    public NinjaUserDetail getAuthenticatedNinja(Principal principal) {
+        if (principal instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof NinjaUserDetail ninjaUserDetail
+                && ninjaUserDetail.getId() != null) {
+            return ninjaUserDetail;
+        }
+
         String authenticatedEmail = principal.getName();
         return ninjaRepository.findByEmail(authenticatedEmail)
+                .map(NinjaUserDetail::new)
                 .orElseThrow(() -> new ResourceNotFoundException("Ninja not found with the email: " + authenticatedEmail));
     }
 
     private Ninja findNinjaById(Long id) {
-        return ninjaRepository.findById(id)
+        return ninjaRepository.findDetailedById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Ninja not found with ID: " + id));
     }
 
-    public void validateKageAccess(Ninja ninja) {
+    public void validateKageAccess(NinjaUserDetail ninja) {
         boolean isKage = ninja.getRoles().stream().anyMatch(role -> role.equals(Role.ROLE_KAGE));
         if (!isKage) {
             throw new AccessDeniedException("You are not authorized to perform this operation.");
         }
     }
 
-    private void validateOwnerAccess(Long requestedId, Ninja authenticatedNinja) {
+    private void validateOwnerAccess(Long requestedId, NinjaUserDetail authenticatedNinja) {
         if (!requestedId.equals(authenticatedNinja.getId())) {
             throw new AccessDeniedException("You are not authorized to update this ninja's data.");
         }
     }
 
-    private void validateOwnerOrKageAccess(Long requestedId, Ninja authenticatedNinja) {
+    private void validateOwnerOrKageAccess(Long requestedId, NinjaUserDetail authenticatedNinja) {
         boolean isKage = authenticatedNinja.getRoles().stream().anyMatch(role -> role.equals(Role.ROLE_KAGE));
         boolean isOwner = requestedId.equals(authenticatedNinja.getId());
         if (!isOwner && !isKage) {
@@ -7,9 +7,12 @@ import com.konoha.NinjaMissionManager.dtos.ninja.NinjaResponse;
 import com.konoha.NinjaMissionManager.dtos.village.VillageRequest;
 import com.konoha.NinjaMissionManager.dtos.village.VillageResponse;
 import com.konoha.NinjaMissionManager.dtos.village.VillageUpdateRequest;
+import com.konoha.NinjaMissionManager.events.NinjaRegisteredEvent;
 import com.konoha.NinjaMissionManager.models.Ninja;
 import com.konoha.NinjaMissionManager.models.Village;
+import com.konoha.NinjaMissionManager.security.NinjaUserDetail;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.security.Principal;
@@ -20,7 +23,7 @@ import java.util.List;
 public class NinjaVillageCoordinatorService {
     private final NinjaService ninjaService;
     private final VillageService villageService;
-    private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public VillageResponse createVillage(VillageRequest request){
@@ -68,11 +71,12 @@ public class NinjaVillageCoordinatorService {
 
         NinjaResponse newNinja = ninjaService.registerNewNinjaInternal(request, village);
 
-        emailService.sendNinjaWelcomeEmail(
+        eventPublisher.publishEvent(new NinjaRegisteredEvent(
+                newNinja.id(),
                 newNinja.email(),
                 newNinja.name(),
                 village.getName()
-        );
+        ));
 
         return newNinja;
     }
@@ -85,7 +89,7 @@ public class NinjaVillageCoordinatorService {
 
     @Transactional
     public NinjaResponse updateAsKage(Long requestedId, NinjaKageUpdateRequest request, Principal principal){
-        Ninja authenticatedNinja = ninjaService.getAuthenticatedNinja(principal);
+        NinjaUserDetail authenticatedNinja = ninjaService.getAuthenticatedNinja(principal);
         ninjaService.validateKageAccess(authenticatedNinja);
 
         Ninja ninjaToUpdate = ninjaService.getNinjaEntityById(requestedId);
@@ -0,0 +1,165 @@
+package com.konoha.NinjaMissionManager.services;
+
+import jakarta.mail.Address;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JavaMailSenderImpl that keeps authenticated SMTP connections open between sends instead of
+ * connecting, negotiating STARTTLS and authenticating for every call. At most {@code maxSize}
+ * connections exist at once; a connection idle for longer than {@code idleTimeout} is closed.
+ * {@code send(MimeMessage...)} sends the whole batch over a single connection.
+ * SMTPTransport connects and sends inside synchronized methods, so on Java 21 a virtual thread
+ * pins its carrier for the whole send; the permits also cap how many carriers that can take.
+ */
+@Slf4j
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+    private final Semaphore permits;
+    private final Deque<PooledTransport> idleTransports = new ConcurrentLinkedDeque<>();
+    private final Duration idleTimeout;
+    private final Duration borrowTimeout;
+
+    public PooledJavaMailSender(int maxSize, Duration idleTimeout, Duration borrowTimeout) {
+        this.permits = new Semaphore(maxSize, true);
+        this.idleTimeout = idleTimeout;
+        this.borrowTimeout = borrowTimeout;
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, @Nullable Object[] originalMessages) throws MailException {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        PooledTransport pooled = borrow(mimeMessages, originalMessages);
+        boolean reusable = true;
+
+        try {
+            for (int i = 0; i < mimeMessages.length && reusable; i++) {
+                MimeMessage mimeMessage = mimeMessages[i];
+                try {
+                    prepare(mimeMessage);
+                    Address[] addresses = mimeMessage.getAllRecipients();
+                    pooled.transport().sendMessage(mimeMessage, addresses != null ? addresses : new Address[0]);
+                } catch (MessagingException | RuntimeException exception) {
+                    reusable = pooled.transport().isConnected();
+                    int lastFailed = reusable ? i : mimeMessages.length - 1;
+                    for (int failed = i; failed <= lastFailed; failed++) {
+                        failedMessages.put(originalMessages != null ? originalMessages[failed] : mimeMessages[failed], exception);
+                    }
+                }
+            }
+        } finally {
+            release(pooled, reusable);
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        PooledTransport pooled;
+        while ((pooled = idleTransports.pollFirst()) != null) {
+            close(pooled);
+        }
+    }
+
+    int idleConnections() {
+        return idleTransports.size();
+    }
+
+    private PooledTransport borrow(MimeMessage[] mimeMessages, @Nullable Object[] originalMessages) {
+        try {
+            if (!permits.tryAcquire(borrowTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new MailSendException("No SMTP connection available after " + borrowTimeout);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("Interrupted while waiting for an SMTP connection", exception);
+        }
+
+        try {
+            PooledTransport pooled;
+            while ((pooled = idleTransports.pollFirst()) != null) {
+                if (!pooled.isIdleLongerThan(idleTimeout) && pooled.transport().isConnected()) {
+                    return pooled;
+                }
+                close(pooled);
+            }
+            return new PooledTransport(connectTransport(), System.nanoTime());
+        } catch (AuthenticationFailedException exception) {
+            permits.release();
+            throw new MailAuthenticationException(exception);
+        } catch (MessagingException | RuntimeException exception) {
+            permits.release();
+            Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+            for (int i = 0; i < mimeMessages.length; i++) {
+                failedMessages.put(originalMessages != null ? originalMessages[i] : mimeMessages[i], exception);
+            }
+            throw new MailSendException("Mail server connection failed", exception, failedMessages);
+        }
+    }
+
+    private void release(PooledTransport pooled, boolean reusable) {
+        try {
+            if (reusable) {
+                idleTransports.offerFirst(new PooledTransport(pooled.transport(), System.nanoTime()));
+            } else {
+                close(pooled);
+            }
+            evictIdle();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void evictIdle() {
+        PooledTransport oldest;
+        while ((oldest = idleTransports.peekLast()) != null && oldest.isIdleLongerThan(idleTimeout)) {
+            if (idleTransports.removeLastOccurrence(oldest)) {
+                close(oldest);
+            }
+        }
+    }
+
+    private void prepare(MimeMessage mimeMessage) throws MessagingException {
+        if (mimeMessage.getSentDate() == null) {
+            mimeMessage.setSentDate(new Date());
+        }
+        String messageId = mimeMessage.getMessageID();
+        mimeMessage.saveChanges();
+        if (messageId != null) {
+            mimeMessage.setHeader("Message-ID", messageId);
+        }
+    }
+
+    private void close(PooledTransport pooled) {
+        try {
+            pooled.transport().close();
+        } catch (MessagingException exception) {
+            log.debug("Error al cerrar la conexión SMTP: {}", exception.getMessage());
+        }
+    }
+
+    private record PooledTransport(Transport transport, long lastUsedNanos) {
+        boolean isIdleLongerThan(Duration timeout) {
+            return System.nanoTime() - lastUsedNanos >= timeout.toNanos();
+        }
+    }
+}
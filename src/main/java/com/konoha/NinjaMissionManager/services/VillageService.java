@@ -14,6 +14,7 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -46,6 +47,10 @@ public class VillageService {
                 .orElseThrow(() -> new ResourceNotFoundException("Village not found with ID: " + id));
     }
 
+    public List<Village> getVillageEntitiesByIds(Collection<Long> ids){
+        return villageRepository.findAllById(ids);
+    }
+
     @Transactional
     public VillageResponse createVillageInternal(VillageRequest request, Ninja kage){
         Village village = villageMapper.dtoToEntity(request, kage);
@@ -1,5 +1,6 @@
 package com.konoha.NinjaMissionManager.specifications;
 
+import com.konoha.NinjaMissionManager.dtos.mission.MissionCursor;
 import com.konoha.NinjaMissionManager.models.Mission;
 import com.konoha.NinjaMissionManager.models.MissionDifficulty;
 import com.konoha.NinjaMissionManager.models.Status;
@@ -30,6 +31,11 @@ public class MissionSpecificationBuilder {
         return this;
     }
 
+    public MissionSpecificationBuilder after(Optional<MissionCursor> cursor){
+        cursor.ifPresent(c -> specification = specification.and(MissionSpecifications.isBefore(c.creationDate(), c.id())));
+        return this;
+    }
+
     public Specification<Mission> build() {
         return this.specification;
     }
@@ -5,6 +5,7 @@ import com.konoha.NinjaMissionManager.models.MissionDifficulty;
 import com.konoha.NinjaMissionManager.models.Status;
 import jakarta.persistence.criteria.Join;
 import org.springframework.data.jpa.domain.Specification;
+import java.time.LocalDateTime;
 
 public class MissionSpecifications {
     public static Specification<Mission> hasDifficulty(MissionDifficulty difficulty){
@@ -23,4 +24,14 @@ public class MissionSpecifications {
             return criteriaBuilder.equal(assignedNinjas.get("id"), ninjaId);
         };
     }
+
+    public static Specification<Mission> isBefore(LocalDateTime creationDate, Long id){
+        return (root, query, criteriaBuilder) -> criteriaBuilder.or(
+                criteriaBuilder.lessThan(root.get("creationDate"), creationDate),
+                criteriaBuilder.and(
+                        criteriaBuilder.equal(root.get("creationDate"), creationDate),
+                        criteriaBuilder.lessThan(root.get("id"), id)
+                )
+        );
+    }
 }
\ No newline at end of file
@@ -52,4 +52,7 @@ INSERT INTO ninja_missions (ninja_id, mission_id) VALUES
 (4, 3),
 (5, 5);
 
+UPDATE missions_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 50 FROM missions);
+UPDATE ninjas_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + 50 FROM ninjas);
+
 SET FOREIGN_KEY_CHECKS = 1;
\ No newline at end of file
@@ -0,0 +1,21 @@
+-- Listado por cursor de GET /missions: ORDER BY creation_date DESC, id DESC
+CREATE INDEX idx_missions_created ON missions (creation_date, id);
+
+-- Filtros por estado y dificultad, seguidos del orden del cursor.
+-- El prefijo (status) cubre el filtro solo por estado.
+CREATE INDEX idx_missions_status_difficulty_created ON missions (status, mission_difficulty, creation_date);
+CREATE INDEX idx_missions_difficulty_created ON missions (mission_difficulty, creation_date);
+
+-- existsByTitle
+CREATE INDEX idx_missions_title ON missions (title);
+
+-- Ninjas de una misión (la PK solo sirve para buscar por ninja_id).
+-- Sustituye al índice implícito que InnoDB crea para la FK de mission_id.
+CREATE INDEX idx_ninja_missions_mission ON ninja_missions (mission_id, ninja_id);
+
+-- Filtros por aldea y rango; sustituye al índice implícito de la FK village_id
+CREATE INDEX idx_ninjas_village_rank ON ninjas (village_id, ninja_rank);
+CREATE INDEX idx_ninjas_rank ON ninjas (ninja_rank);
+
+-- existsByNameIgnoreCase genera upper(name) = upper(?), que no puede usar un índice sobre name
+CREATE INDEX idx_villages_name_upper ON villages ((UPPER(name)));
@@ -0,0 +1,17 @@
+-- Eventos de dominio escritos en la misma transaccion que el cambio (patron outbox).
+-- OutboxRelay los reclama por lotes con SELECT ... FOR UPDATE SKIP LOCKED.
+CREATE TABLE outbox_events (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload LONGTEXT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    available_at DATETIME(6) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    processed_at DATETIME(6) NULL,
+    last_error VARCHAR(500)
+);
+
+-- Busqueda de pendientes: processed_at IS NULL AND available_at <= ?
+CREATE INDEX idx_outbox_events_pending ON outbox_events (processed_at, available_at);
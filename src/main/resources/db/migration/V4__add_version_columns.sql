@@ -0,0 +1,3 @@
+-- Bloqueo optimista (@Version): cada UPDATE comprueba y aumenta la version de la fila
+ALTER TABLE missions ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE ninjas ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
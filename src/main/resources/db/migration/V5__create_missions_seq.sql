@@ -0,0 +1,8 @@
+-- Los ids de misiones dejan de ser AUTO_INCREMENT en Hibernate: se reservan en bloques de 50 desde
+-- missions_seq (MySQL no tiene secuencias y Hibernate las emula con esta tabla) para poder agrupar
+-- los INSERT en lotes JDBC. La columna conserva AUTO_INCREMENT para los scripts de datos.
+CREATE TABLE missions_seq (
+    next_val BIGINT NOT NULL
+);
+
+INSERT INTO missions_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM missions;
@@ -0,0 +1,8 @@
+-- Los ids de ninjas se reservan en bloques de 50 desde ninjas_seq, como los de misiones (V5),
+-- para que POST /ninjas/import agrupe los INSERT en lotes JDBC.
+-- La columna conserva AUTO_INCREMENT para los scripts de datos.
+CREATE TABLE ninjas_seq (
+    next_val BIGINT NOT NULL
+);
+
+INSERT INTO ninjas_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM ninjas;
@@ -0,0 +1,5 @@
+-- GET /missions?status=X: WHERE status = ? ORDER BY creation_date DESC, id DESC.
+-- En idx_missions_status_difficulty_created la columna mission_difficulty queda entre status y
+-- creation_date, asi que el filtro solo por estado no puede leer en el orden del cursor y acaba en
+-- filesort (o recorriendo idx_missions_created hacia atras y descartando los demas estados).
+CREATE INDEX idx_missions_status_created ON missions (status, creation_date, id);
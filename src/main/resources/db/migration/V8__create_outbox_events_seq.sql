@@ -0,0 +1,8 @@
+-- Los ids del outbox se reservan en bloques de 50 desde outbox_events_seq, como los de misiones (V5)
+-- y ninjas (V6): POST /missions/batch registra un evento por mision y con IDENTITY cada uno era un
+-- INSERT aparte. La columna conserva AUTO_INCREMENT.
+CREATE TABLE outbox_events_seq (
+    next_val BIGINT NOT NULL
+);
+
+INSERT INTO outbox_events_seq (next_val) SELECT COALESCE(MAX(id), 0) + 50 FROM outbox_events;
@@ -5,6 +5,10 @@ DROP TABLE IF EXISTS ninja_roles;
 DROP TABLE IF EXISTS missions;
 DROP TABLE IF EXISTS ninjas;
 DROP TABLE IF EXISTS villages;
+DROP TABLE IF EXISTS outbox_events;
+DROP TABLE IF EXISTS missions_seq;
+DROP TABLE IF EXISTS ninjas_seq;
+DROP TABLE IF EXISTS outbox_events_seq;
 
 CREATE TABLE villages (
     id BIGINT PRIMARY KEY AUTO_INCREMENT,
@@ -21,6 +25,7 @@ CREATE TABLE ninjas (
     ninja_rank VARCHAR(20),
     is_anbu BOOLEAN DEFAULT FALSE,
     village_id BIGINT,
+    version BIGINT NOT NULL DEFAULT 0,
     FOREIGN KEY (village_id) REFERENCES villages(id) ON DELETE SET NULL
 );
 
@@ -42,7 +47,8 @@ CREATE TABLE missions (
     reward INT DEFAULT 0,
     mission_difficulty VARCHAR(5),
     status VARCHAR(20) DEFAULT 'PENDING',
-    creation_date DATETIME DEFAULT CURRENT_TIMESTAMP
+    creation_date DATETIME DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0
 );
 
 CREATE TABLE ninja_missions (
@@ -51,4 +57,50 @@ CREATE TABLE ninja_missions (
     PRIMARY KEY (ninja_id, mission_id),
     FOREIGN KEY (ninja_id) REFERENCES ninjas(id) ON DELETE CASCADE,
     FOREIGN KEY (mission_id) REFERENCES missions(id) ON DELETE CASCADE
-);
\ No newline at end of file
+);
+
+-- Indices para los filtros de MissionSpecifications, NinjaSpecifications y VillageRepository
+CREATE INDEX idx_missions_created ON missions (creation_date, id);
+CREATE INDEX idx_missions_status_created ON missions (status, creation_date, id);
+CREATE INDEX idx_missions_status_difficulty_created ON missions (status, mission_difficulty, creation_date);
+CREATE INDEX idx_missions_difficulty_created ON missions (mission_difficulty, creation_date);
+CREATE INDEX idx_missions_title ON missions (title);
+CREATE INDEX idx_ninja_missions_mission ON ninja_missions (mission_id, ninja_id);
+CREATE INDEX idx_ninjas_village_rank ON ninjas (village_id, ninja_rank);
+CREATE INDEX idx_ninjas_rank ON ninjas (ninja_rank);
+CREATE INDEX idx_villages_name_upper ON villages ((UPPER(name)));
+
+CREATE TABLE outbox_events (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload LONGTEXT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    available_at DATETIME(6) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    processed_at DATETIME(6) NULL,
+    last_error VARCHAR(500)
+);
+
+CREATE INDEX idx_outbox_events_pending ON outbox_events (processed_at, available_at);
+
+-- MySQL no tiene secuencias: Hibernate emula missions_seq con esta tabla y reserva ids de 50 en 50,
+-- lo que permite agrupar los INSERT de misiones en lotes JDBC (IDENTITY lo impide).
+-- next_val es el ultimo id del siguiente bloque; debe quedar al menos 50 por encima del mayor id existente.
+CREATE TABLE missions_seq (
+    next_val BIGINT NOT NULL
+);
+INSERT INTO missions_seq (next_val) VALUES (50);
+
+-- Igual para los ninjas: POST /ninjas/import inserta los ninjas en lotes JDBC.
+CREATE TABLE ninjas_seq (
+    next_val BIGINT NOT NULL
+);
+INSERT INTO ninjas_seq (next_val) VALUES (50);
+
+-- Y para el outbox: cada mision de POST /missions/batch registra su evento y los INSERT van en lotes JDBC.
+CREATE TABLE outbox_events_seq (
+    next_val BIGINT NOT NULL
+);
+INSERT INTO outbox_events_seq (next_val) VALUES (50);
\ No newline at end of file
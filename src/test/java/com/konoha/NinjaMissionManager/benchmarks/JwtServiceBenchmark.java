@@ -0,0 +1,86 @@
+package com.konoha.NinjaMissionManager.benchmarks;
+
+import com.konoha.NinjaMissionManager.models.Ninja;
+import com.konoha.NinjaMissionManager.models.Rank;
+import com.konoha.NinjaMissionManager.models.Role;
+import com.konoha.NinjaMissionManager.security.NinjaUserDetail;
+import com.konoha.NinjaMissionManager.security.jwt.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import javax.crypto.SecretKey;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request token cost as seen by JwtAuthFilter: the legacy path rebuilt the key and the
+ * parser and parsed the token twice (validate + extract subject), the current one parses once
+ * with the cached parser. {@code generate} is the cost of issuing a token at login.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+    private static final String LEGACY_SECRET_KEY = "mySecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLong";
+
+    private JwtService jwtService;
+    private NinjaUserDetail userDetail;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(new SimpleMeterRegistry());
+        Ninja ninja = Ninja.builder()
+                .id(1L)
+                .email("naruto@gmail.com")
+                .password("$2a$10$qPgLBWxglYkyehl9Ou.IsuSw7/u..vBDGwEKqRc6FP9n/S11mwcWa")
+                .rank(Rank.GENIN)
+                .roles(Set.of(Role.ROLE_NINJA_USER))
+                .build();
+        userDetail = new NinjaUserDetail(ninja);
+        token = jwtService.generateToken(userDetail);
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtService.generateToken(userDetail);
+    }
+
+    @Benchmark
+    public void legacyValidateThenExtract(Blackhole blackhole) {
+        boolean valid;
+        try {
+            legacyExtractAllClaims(token);
+            valid = true;
+        } catch (Exception exception) {
+            valid = false;
+        }
+        blackhole.consume(valid);
+        blackhole.consume(legacyExtractAllClaims(token).getSubject());
+    }
+
+    @Benchmark
+    public void cachedSingleParse(Blackhole blackhole) {
+        blackhole.consume(jwtService.parseToken(token).map(Claims::getSubject));
+    }
+
+    private Claims legacyExtractAllClaims(String token) {
+        return Jwts.parser()
+                .verifyWith(legacySignKey())
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private SecretKey legacySignKey() {
+        byte[] bytes = Decoders.BASE64.decode(LEGACY_SECRET_KEY);
+        return Keys.hmacShaKeyFor(bytes);
+    }
+}
@@ -0,0 +1,91 @@
+package com.konoha.NinjaMissionManager.benchmarks;
+
+import com.konoha.NinjaMissionManager.dtos.mission.MissionMapper;
+import com.konoha.NinjaMissionManager.dtos.mission.MissionMapperImpl;
+import com.konoha.NinjaMissionManager.dtos.mission.MissionResponse;
+import com.konoha.NinjaMissionManager.dtos.ninja.NinjaMapper;
+import com.konoha.NinjaMissionManager.dtos.ninja.NinjaMapperImpl;
+import com.konoha.NinjaMissionManager.dtos.ninja.NinjaResponse;
+import com.konoha.NinjaMissionManager.models.*;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * MapStruct entityToDto on large graphs: a mission with graphSize assigned ninjas and a ninja
+ * with graphSize assigned missions. The mappers are the generated implementations wired by hand,
+ * so the score is the mapping alone, without Hibernate proxies or lazy loading.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    @Param({"10", "100", "1000"})
+    private int graphSize;
+
+    private MissionMapper missionMapper;
+    private NinjaMapper ninjaMapper;
+    private Mission mission;
+    private Ninja ninja;
+
+    @Setup
+    public void setUp() {
+        ninjaMapper = new NinjaMapperImpl();
+        missionMapper = new MissionMapperImpl();
+        ReflectionTestUtils.setField(missionMapper, "ninjaMapper", ninjaMapper);
+
+        Village village = Village.builder().id(1L).name("Konoha").build();
+        Set<Ninja> team = LongStream.rangeClosed(1, graphSize)
+                .mapToObj(id -> ninja(id, village))
+                .collect(Collectors.toCollection(HashSet::new));
+        mission = mission(1L);
+        mission.setAssignedNinjas(team);
+
+        ninja = ninja(1L, village);
+        ninja.setAssignedMissions(LongStream.rangeClosed(1, graphSize)
+                .mapToObj(this::mission)
+                .collect(Collectors.toCollection(HashSet::new)));
+    }
+
+    @Benchmark
+    public MissionResponse missionEntityToDto() {
+        return missionMapper.entityToDto(mission);
+    }
+
+    @Benchmark
+    public NinjaResponse ninjaEntityToDto() {
+        return ninjaMapper.entityToDto(ninja, missionMapper);
+    }
+
+    private Ninja ninja(long id, Village village) {
+        return Ninja.builder()
+                .id(id)
+                .name("Ninja " + id)
+                .email("ninja" + id + "@gmail.com")
+                .password("$2a$10$qPgLBWxglYkyehl9Ou.IsuSw7/u..vBDGwEKqRc6FP9n/S11mwcWa")
+                .rank(Rank.CHUNIN)
+                .village(village)
+                .roles(Set.of(Role.ROLE_NINJA_USER))
+                .build();
+    }
+
+    private Mission mission(long id) {
+        return Mission.builder()
+                .id(id)
+                .title("Mision " + id)
+                .description("Escoltar la caravana " + id)
+                .reward(1000)
+                .difficulty(MissionDifficulty.C)
+                .status(Status.ACTIVE)
+                .creationDate(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(id))
+                .build();
+    }
+}
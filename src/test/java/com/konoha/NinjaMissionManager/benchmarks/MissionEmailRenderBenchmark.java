@@ -0,0 +1,81 @@
+package com.konoha.NinjaMissionManager.benchmarks;
+
+import com.konoha.NinjaMissionManager.dtos.ninja.NinjaEmailInfo;
+import com.konoha.NinjaMissionManager.services.MissionEmailRenderer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Cost of building the HTML bodies of one mission assignment for the whole team. The legacy
+ * path evaluates the template once per recipient; the current one evaluates it once per mission
+ * and substitutes the recipient name and teammates. Divide the score by teamSize for the
+ * per-recipient cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MissionEmailRenderBenchmark {
+    private static final String TEMPLATE = "mission-assignment-notification";
+    private static final String DASHBOARD_URL = "http://localhost:8080/dashboard";
+
+    @Param({"1", "10", "100"})
+    private int teamSize;
+
+    private SpringTemplateEngine templateEngine;
+    private MissionEmailRenderer renderer;
+    private List<NinjaEmailInfo> ninjaTeam;
+
+    @Setup
+    public void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(true);
+
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        renderer = new MissionEmailRenderer(templateEngine);
+        ninjaTeam = IntStream.rangeClosed(1, teamSize)
+                .mapToObj(i -> new NinjaEmailInfo("ninja" + i + "@gmail.com", "Ninja " + i))
+                .toList();
+    }
+
+    @Benchmark
+    public void renderPerRecipient(Blackhole blackhole) {
+        for (NinjaEmailInfo ninja : ninjaTeam) {
+            Context context = new Context();
+            context.setVariable("ninjaName", ninja.name());
+            context.setVariable("missionTitle", "Escolta al constructor");
+            context.setVariable("missionDescription", "Proteger a Tazuna hasta el País de las Olas");
+            context.setVariable("missionRank", "C");
+            context.setVariable("dashboardUrl", DASHBOARD_URL);
+            context.setVariable("isTeamMission", ninjaTeam.size() > 1);
+            context.setVariable("teamSize", ninjaTeam.size());
+            context.setVariable("teammates", ninjaTeam.stream()
+                    .filter(teammate -> !teammate.email().equals(ninja.email()))
+                    .map(NinjaEmailInfo::name)
+                    .toList());
+            blackhole.consume(templateEngine.process(TEMPLATE, context));
+        }
+    }
+
+    @Benchmark
+    public void renderOncePerMission(Blackhole blackhole) {
+        MissionEmailRenderer.MissionEmailBody body = renderer.render(ninjaTeam, "Escolta al constructor", "Proteger a Tazuna hasta el País de las Olas", "C", DASHBOARD_URL);
+        for (NinjaEmailInfo ninja : ninjaTeam) {
+            blackhole.consume(body.forRecipient(ninja));
+        }
+    }
+}
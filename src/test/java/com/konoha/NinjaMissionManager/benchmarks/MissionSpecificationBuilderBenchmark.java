@@ -0,0 +1,50 @@
+package com.konoha.NinjaMissionManager.benchmarks;
+
+import com.konoha.NinjaMissionManager.dtos.mission.MissionCursor;
+import com.konoha.NinjaMissionManager.models.Mission;
+import com.konoha.NinjaMissionManager.models.MissionDifficulty;
+import com.konoha.NinjaMissionManager.models.Status;
+import com.konoha.NinjaMissionManager.specifications.MissionSpecificationBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.jpa.domain.Specification;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the Specification of GET /missions, once per request: no filters (what a Kage listing
+ * sends) and every filter plus the page cursor. Predicate creation happens later in Hibernate and
+ * is not part of the score.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MissionSpecificationBuilderBenchmark {
+    private final Optional<MissionDifficulty> difficulty = Optional.of(MissionDifficulty.C);
+    private final Optional<Status> status = Optional.of(Status.ACTIVE);
+    private final Optional<Long> ninjaId = Optional.of(1L);
+    private final Optional<MissionCursor> cursor = Optional.of(new MissionCursor(LocalDateTime.of(2024, 1, 1, 0, 0), 50L));
+
+    @Benchmark
+    public Specification<Mission> noFilters() {
+        return MissionSpecificationBuilder.builder()
+                .difficulty(Optional.empty())
+                .status(Optional.empty())
+                .assignedToNinja(Optional.empty())
+                .after(Optional.empty())
+                .build();
+    }
+
+    @Benchmark
+    public Specification<Mission> allFilters() {
+        return MissionSpecificationBuilder.builder()
+                .difficulty(difficulty)
+                .status(status)
+                .assignedToNinja(ninjaId)
+                .after(cursor)
+                .build();
+    }
+}
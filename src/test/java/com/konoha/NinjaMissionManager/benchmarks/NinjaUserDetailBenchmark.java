@@ -0,0 +1,47 @@
+package com.konoha.NinjaMissionManager.benchmarks;
+
+import com.konoha.NinjaMissionManager.models.Role;
+import com.konoha.NinjaMissionManager.security.NinjaUserDetail;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Authorities are rebuilt on every call, and Spring Security asks for them on each authorization
+ * check. {@code fromTokenClaims} is the principal JwtAuthFilter builds per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NinjaUserDetailBenchmark {
+    @Param({"ROLE_NINJA_USER", "ROLE_NINJA_USER,ROLE_ANBU,ROLE_KAGE"})
+    private String roles;
+
+    private Set<Role> roleSet;
+    private NinjaUserDetail userDetail;
+
+    @Setup
+    public void setUp() {
+        roleSet = Arrays.stream(roles.split(","))
+                .map(Role::valueOf)
+                .collect(Collectors.toSet());
+        userDetail = NinjaUserDetail.fromTokenClaims(1L, "naruto@gmail.com", roleSet);
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return userDetail.getAuthorities();
+    }
+
+    @Benchmark
+    public NinjaUserDetail fromTokenClaims() {
+        return NinjaUserDetail.fromTokenClaims(1L, "naruto@gmail.com", roleSet);
+    }
+}
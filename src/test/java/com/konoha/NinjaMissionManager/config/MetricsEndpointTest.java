@@ -0,0 +1,103 @@
+package com.konoha.NinjaMissionManager.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.konoha.NinjaMissionManager.dtos.ninja.NinjaLoginRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+@Sql(scripts = "/test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@DisplayName("Metrics exposed through Actuator and the Prometheus endpoint")
+public class MetricsEndpointTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @LocalServerPort
+    private int serverPort;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Test
+    @WithMockUser(roles = "KAGE", username = "tsunade@gmail.com")
+    @DisplayName("Should time each request under the controller method that handled it")
+    void shouldTagRequestsWithControllerMethod() throws Exception {
+        mockMvc.perform(get("/missions")).andExpect(status().isOk());
+        mockMvc.perform(get("/villages/1")).andExpect(status().isOk());
+
+        assertThat(meterRegistry.get("http.server.requests").tag("handler", "MissionController.getAllMissions")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("http.server.requests").tag("handler", "VillageController.getVillageById")
+                .tag("uri", "/villages/{id}").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should time the JWT generated on login")
+    void shouldTimeLoginTokenGeneration() throws Exception {
+        long generatedBefore = meterRegistry.get("app.jwt").tag("operation", "generate").timer().count();
+
+        mockMvc.perform(post("/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new NinjaLoginRequest("naruto@gmail.com", "Naruto12345."))))
+                .andExpect(status().isOk());
+
+        assertThat(meterRegistry.get("app.jwt").tag("operation", "generate").timer().count()).isEqualTo(generatedBefore + 1);
+        assertThat(meterRegistry.get("http.server.requests").tag("handler", "AuthController.login").timer().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should serve request, Hikari and Hibernate metrics in Prometheus format on the management port")
+    void shouldServePrometheusScrape() {
+        ResponseEntity<String> scrape = restTemplate.getForEntity("http://localhost:" + managementPort + "/actuator/prometheus", String.class);
+
+        assertThat(scrape.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(scrape.getBody())
+                .contains("hikaricp_connections_active")
+                .contains("hibernate_query_executions_total")
+                .contains("hibernate_entities_loads_total")
+                .contains("hibernate_statements_total")
+                .contains("app_jwt_seconds_bucket");
+    }
+
+    @Test
+    @DisplayName("Should not serve the Prometheus scrape on the public port")
+    void shouldNotServePrometheusOnPublicPort() {
+        assertThat(managementPort).isNotEqualTo(serverPort);
+
+        ResponseEntity<String> scrape = restTemplate.getForEntity("http://localhost:" + serverPort + "/actuator/prometheus", String.class);
+
+        assertThat(scrape.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+}
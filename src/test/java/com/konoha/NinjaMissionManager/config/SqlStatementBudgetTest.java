@@ -0,0 +1,113 @@
+package com.konoha.NinjaMissionManager.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.konoha.NinjaMissionManager.dtos.mission.MissionBatchCreateRequest;
+import com.konoha.NinjaMissionManager.dtos.mission.MissionCreateRequest;
+import com.konoha.NinjaMissionManager.models.MissionDifficulty;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static com.konoha.NinjaMissionManager.config.SqlStatementBudgetFilter.STATEMENT_COUNT_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.sql.statement-budget.mode=reject",
+        "app.sql.statement-budget.max-statements=2",
+        "app.sql.statement-budget.repeated-statement-threshold=5"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Sql(scripts = "/test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@ExtendWith(OutputCaptureExtension.class)
+@DisplayName("Per-request SQL statement budget")
+public class SqlStatementBudgetTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @WithMockUser(roles = "KAGE", username = "tsunade@gmail.com")
+    @DisplayName("Should report the statement count in a header and per controller method")
+    void shouldReportStatementCount() throws Exception {
+        mockMvc.perform(get("/villages/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(STATEMENT_COUNT_HEADER, "1"));
+
+        assertThat(meterRegistry.get("app.sql.statements").tag("handler", "VillageController.getVillageById")
+                .summary().totalAmount()).isGreaterThanOrEqualTo(1.0);
+    }
+
+    @Test
+    @WithMockUser(roles = "KAGE", username = "tsunade@gmail.com")
+    @DisplayName("Should fail a request that goes over the budget")
+    void shouldRejectRequestOverBudget() throws Exception {
+        mockMvc.perform(get("/ninjas"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.message", is("The request exceeded its budget of 2 SQL statements.")));
+    }
+
+    @Test
+    @WithMockUser(roles = "KAGE", username = "tsunade@gmail.com")
+    @DisplayName("Should let an annotated bulk endpoint use its own budget without repeating statements per item")
+    void shouldApplyHandlerBudgetToBatchedEndpoint(CapturedOutput output) throws Exception {
+        List<MissionCreateRequest> missions = IntStream.range(0, 10)
+                .mapToObj(i -> new MissionCreateRequest("Escolta " + i, "Escoltar la caravana " + i, 10, MissionDifficulty.D, Set.of(1L)))
+                .toList();
+
+        mockMvc.perform(post("/missions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new MissionBatchCreateRequest(missions))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", is(10)));
+
+        assertThat(output).doesNotContain("Posible N+1");
+    }
+
+    @Test
+    @DisplayName("Should flag the statement repeated the most once it reaches the threshold")
+    void shouldFlagRepeatedStatements() {
+        SqlStatementCounter counter = new SqlStatementCounter();
+        SqlStatementCounter.RequestStatements statements = SqlStatementCounter.begin(() -> 100, false);
+        try {
+            counter.inspect("select n1_0.id from ninjas n1_0");
+            for (int i = 0; i < 5; i++) {
+                counter.inspect("select m1_0.id from missions m1_0 where m1_0.id=?");
+            }
+        } finally {
+            SqlStatementCounter.end();
+        }
+
+        assertThat(statements.count()).isEqualTo(6);
+        assertThat(statements.mostRepeated(5)).hasValueSatisfying(repeated -> {
+            assertThat(repeated.getKey()).isEqualTo("select m1_0.id from missions m1_0 where m1_0.id=?");
+            assertThat(repeated.getValue()).isEqualTo(5);
+        });
+        assertThat(statements.mostRepeated(6)).isEmpty();
+    }
+}
@@ -1,10 +1,13 @@
 package com.konoha.NinjaMissionManager.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import com.konoha.NinjaMissionManager.dtos.mission.MissionBatchCreateRequest;
 import com.konoha.NinjaMissionManager.dtos.mission.MissionCreateRequest;
 import com.konoha.NinjaMissionManager.dtos.mission.MissionUpdateRequest;
 import com.konoha.NinjaMissionManager.models.MissionDifficulty;
 import com.konoha.NinjaMissionManager.models.Status;
+import com.konoha.NinjaMissionManager.repositories.OutboxEventRepository;
 import com.konoha.NinjaMissionManager.services.EmailService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,16 +17,25 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.IntStream;
 
+import static com.konoha.NinjaMissionManager.config.SqlStatementBudgetFilter.STATEMENT_COUNT_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -47,6 +59,12 @@ public class MissionControllerTest {
     @MockBean
     private EmailService emailService;
 
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Nested
     @DisplayName("GET /missions: Retrieve all missions with filters")
     class GetAllMissions{
@@ -57,9 +75,10 @@ public class MissionControllerTest {
             mockMvc.perform(get("/missions")
                             .contentType(MediaType.APPLICATION_JSON))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$", hasSize(greaterThan(0))))
-                    .andExpect(jsonPath("$[0].title", notNullValue()))
-                    .andExpect(jsonPath("$[0].difficulty", notNullValue()));
+                    .andExpect(header().string(STATEMENT_COUNT_HEADER, "2"))
+                    .andExpect(jsonPath("$.items", hasSize(greaterThan(0))))
+                    .andExpect(jsonPath("$.items[0].title", notNullValue()))
+                    .andExpect(jsonPath("$.items[0].difficulty", notNullValue()));
         }
 
         @Test
@@ -69,7 +88,8 @@ public class MissionControllerTest {
             mockMvc.perform(get("/missions")
                             .contentType(MediaType.APPLICATION_JSON))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$", hasSize(3)));
+                    .andExpect(header().string(STATEMENT_COUNT_HEADER, "2"))
+                    .andExpect(jsonPath("$.items", hasSize(3)));
         }
 
         @Test
@@ -80,8 +100,8 @@ public class MissionControllerTest {
                             .param("difficulty", MissionDifficulty.D.name())
                             .contentType(MediaType.APPLICATION_JSON))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$", hasSize(3)))
-                    .andExpect(jsonPath("$[0].difficulty", is(MissionDifficulty.D.name())));
+                    .andExpect(jsonPath("$.items", hasSize(3)))
+                    .andExpect(jsonPath("$.items[0].difficulty", is(MissionDifficulty.D.name())));
         }
 
         @Test
@@ -92,8 +112,8 @@ public class MissionControllerTest {
                             .param("status", Status.PENDING.name())
                             .contentType(MediaType.APPLICATION_JSON))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$", hasSize(1)))
-                    .andExpect(jsonPath("$[0].status", is(Status.PENDING.name())));
+                    .andExpect(jsonPath("$.items", hasSize(1)))
+                    .andExpect(jsonPath("$.items[0].status", is(Status.PENDING.name())));
         }
 
         @Test
@@ -104,7 +124,116 @@ public class MissionControllerTest {
                             .param("assignToNinjaId", "1")
                             .contentType(MediaType.APPLICATION_JSON))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$", hasSize(3)));
+                    .andExpect(jsonPath("$.items", hasSize(3)));
+        }
+    
+        @Test
+        @DisplayName("Should walk every mission exactly once when paging with the cursor")
+        @WithMockUser(username = "tsunade@gmail.com", roles = "KAGE")
+        void shouldPageThroughAllMissionsWithCursor() throws Exception {
+            List<Integer> seenIds = new ArrayList<>();
+            String cursor = null;
+            do {
+                var request = get("/missions").param("limit", "3");
+                if (cursor != null) {
+                    request.param("cursor", cursor);
+                }
+                String body = mockMvc.perform(request)
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.items", hasSize(lessThanOrEqualTo(3))))
+                        .andReturn().getResponse().getContentAsString();
+
+                seenIds.addAll(JsonPath.read(body, "$.items[*].id"));
+                cursor = JsonPath.read(body, "$.nextCursor");
+            } while (cursor != null);
+
+            assertThat(seenIds).containsExactly(7, 6, 5, 4, 3, 2, 1);
+        }
+
+        @Test
+        @DisplayName("Should not return a next cursor on the last page")
+        @WithMockUser(username = "naruto@gmail.com", roles = "NINJA_USER")
+        void shouldNotReturnNextCursorOnLastPage() throws Exception {
+            mockMvc.perform(get("/missions").param("limit", "3"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items", hasSize(3)))
+                    .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+        }
+
+        @Test
+        @DisplayName("Should return 400 Bad Request for an invalid cursor")
+        @WithMockUser(username = "tsunade@gmail.com", roles = "KAGE")
+        void shouldReturn400ForInvalidCursor() throws Exception {
+            mockMvc.perform(get("/missions").param("cursor", "not-a-cursor"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message", containsString("Invalid cursor")));
+        }
+
+        @Test
+        @DisplayName("Should return 400 Bad Request when the limit is out of range")
+        @WithMockUser(username = "tsunade@gmail.com", roles = "KAGE")
+        void shouldReturn400ForLimitOutOfRange() throws Exception {
+            mockMvc.perform(get("/missions").param("limit", "101"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /missions/export: Stream missions as NDJSON or CSV")
+    class ExportMissions {
+        @Test
+        @DisplayName("Should stream every mission as NDJSON for a Kage")
+        @WithMockUser(username = "tsunade@gmail.com", roles = "KAGE")
+        void shouldExportAllMissionsAsNdjson() throws Exception {
+            String body = mockMvc.perform(get("/missions/export"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                    .andExpect(header().string("Content-Disposition", containsString("missions.ndjson")))
+                    .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+            List<String> lines = body.lines().toList();
+            assertThat(lines).hasSize(7);
+            assertThat(lines).allSatisfy(line -> assertThat(objectMapper.readTree(line).has("title")).isTrue());
+        }
+
+        @Test
+        @DisplayName("Should apply the filters to the CSV export")
+        @WithMockUser(username = "tsunade@gmail.com", roles = "KAGE")
+        void shouldExportFilteredMissionsAsCsv() throws Exception {
+            String body = mockMvc.perform(get("/missions/export")
+                            .param("format", "csv")
+                            .param("difficulty", MissionDifficulty.D.name())
+                            .param("status", Status.COMPLETED.name()))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                    .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+            List<String> lines = body.lines().toList();
+            assertThat(lines.getFirst()).isEqualTo("id,title,description,reward,difficulty,status,creationDate");
+            assertThat(lines.subList(1, lines.size()))
+                    .hasSize(2)
+                    .allSatisfy(line -> assertThat(line).contains(",D,COMPLETED,"));
+        }
+
+        @Test
+        @DisplayName("Should only export the missions assigned to a regular ninja")
+        @WithMockUser(username = "naruto@gmail.com", roles = "NINJA_USER")
+        void shouldOnlyExportOwnMissionsForNinja() throws Exception {
+            String body = mockMvc.perform(get("/missions/export").param("assignToNinjaId", "5"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+            assertThat(body.lines().map(line -> JsonPath.<Integer>read(line, "$.id")).toList())
+                    .containsExactlyInAnyOrder(1, 2, 3);
+        }
+
+        @Test
+        @DisplayName("Should return 400 Bad Request for an unknown format")
+        @WithMockUser(username = "tsunade@gmail.com", roles = "KAGE")
+        void shouldReturn400ForUnknownFormat() throws Exception {
+            mockMvc.perform(get("/missions/export").param("format", "xml"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message", is("Unsupported export format: xml. Use ndjson or csv.")));
         }
     }
 
@@ -119,6 +248,7 @@ public class MissionControllerTest {
             mockMvc.perform(get("/missions/{id}", 1)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andExpect(status().isOk())
+                    .andExpect(header().string(STATEMENT_COUNT_HEADER, "2"))
                     .andExpect(jsonPath("$.id", is(1)))
                     .andExpect(jsonPath("$.title", notNullValue()));
         }
@@ -177,10 +307,19 @@ public class MissionControllerTest {
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(objectMapper.writeValueAsString(newMissionCreateRequest)))
                     .andExpect(status().isCreated())
+                    .andExpect(statementCount(4, 2))
                     .andExpect(jsonPath("$.title", is("Misión de prueba exitosa")))
                     .andExpect(jsonPath("$.difficulty", is("C")))
                     .andExpect(jsonPath("$.status", is("PENDING")))
                     .andExpect(jsonPath("$.assignedNinjas", hasSize(2)));
+
+            assertThat(outboxEventRepository.findAll())
+                    .singleElement()
+                    .satisfies(event -> {
+                        assertThat(event.getEventType()).isEqualTo("MissionAssignedEvent");
+                        assertThat(event.getPayload()).contains("Misión de prueba exitosa");
+                    });
+            verifyNoInteractions(emailService);
         }
 
         @Test
@@ -239,6 +378,25 @@ public class MissionControllerTest {
                     .andExpect(jsonPath("$.message", containsString("Ninja not found with id 999")));
         }
 
+        @Test
+        @DisplayName("Should return a single 404 Not Found listing every missing ninja ID")
+        @WithMockUser(username = "tsunade@gmail.com", roles = "KAGE")
+        void shouldReturn404ListingAllMissingNinjas() throws Exception {
+            MissionCreateRequest missingNinjasRequest = new MissionCreateRequest(
+                    "Misión con varios ninjas no existentes",
+                    "Descripción",
+                    100,
+                    MissionDifficulty.C,
+                    Set.of(1L, 999L, 998L)
+            );
+
+            mockMvc.perform(post("/missions")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(missingNinjasRequest)))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message", is("Ninjas not found with ids 998, 999")));
+        }
+
         @Test
         @DisplayName("Should return 403 Forbidden for a high-rank mission without a Jonin or Kage ninja")
         @WithMockUser(username = "tsunade@gmail.com", roles = "KAGE")
@@ -271,6 +429,79 @@ public class MissionControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /missions/batch: Create several missions at once")
+    class CreateMissions {
+        @Test
+        @DisplayName("Should create the valid missions and report the rejected ones as a Kage")
+        @WithMockUser(username = "tsunade@gmail.com", roles = "KAGE")
+        void shouldCreateValidMissionsAndReportRejected() throws Exception {
+            MissionBatchCreateRequest batchRequest = new MissionBatchCreateRequest(List.of(
+                    new MissionCreateRequest("Patrulla del muro norte", "Vigilar el muro", 100, MissionDifficulty.D, Set.of(1L, 2L)),
+                    new MissionCreateRequest("Búsqueda del Gato Perdido Tora", "Título repetido", 50, MissionDifficulty.D, Set.of(1L)),
+                    new MissionCreateRequest("Escolta al daimyo", "Ninja inexistente", 500, MissionDifficulty.C, Set.of(999L))
+            ));
+
+            mockMvc.perform(post("/missions/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(batchRequest)))
+                    .andExpect(status().isOk())
+                    .andExpect(statementCount(4, 2))
+                    .andExpect(jsonPath("$.created", is(1)))
+                    .andExpect(jsonPath("$.rejected", is(2)))
+                    .andExpect(jsonPath("$.results[0].outcome", is("CREATED")))
+                    .andExpect(jsonPath("$.results[0].missionId", notNullValue()))
+                    .andExpect(jsonPath("$.results[1].outcome", is("REJECTED")))
+                    .andExpect(jsonPath("$.results[1].message", is("Mission with this title already exists.")))
+                    .andExpect(jsonPath("$.results[2].message", is("Ninja not found with id 999")));
+
+            mockMvc.perform(get("/missions").param("status", Status.PENDING.name()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[*].title", hasItem("Patrulla del muro norte")));
+            assertThat(outboxEventRepository.count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should return 400 Bad Request for an empty batch")
+        @WithMockUser(username = "tsunade@gmail.com", roles = "KAGE")
+        void shouldReturn400ForEmptyBatch() throws Exception {
+            mockMvc.perform(post("/missions/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new MissionBatchCreateRequest(List.of()))))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message", containsString("At least one mission is required")));
+        }
+
+        @Test
+        @DisplayName("Should return 400 Bad Request when one of the missions is invalid")
+        @WithMockUser(username = "tsunade@gmail.com", roles = "KAGE")
+        void shouldReturn400ForInvalidItem() throws Exception {
+            MissionBatchCreateRequest batchRequest = new MissionBatchCreateRequest(List.of(
+                    new MissionCreateRequest("", "Sin título", 100, MissionDifficulty.D, Set.of(1L))
+            ));
+
+            mockMvc.perform(post("/missions/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(batchRequest)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message", containsString("Title cannot be empty")));
+        }
+
+        @Test
+        @DisplayName("Should return 403 Forbidden when a non-Kage user sends a batch")
+        @WithMockUser(username = "naruto@gmail.com", roles = "NINJA_USER")
+        void shouldReturn403ForNonKageUser() throws Exception {
+            MissionBatchCreateRequest batchRequest = new MissionBatchCreateRequest(List.of(
+                    new MissionCreateRequest("Patrulla", "Patrullar", 100, MissionDifficulty.D, Set.of(1L))
+            ));
+
+            mockMvc.perform(post("/missions/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(batchRequest)))
+                    .andExpect(status().isForbidden());
+        }
+    }
+
     @Nested
     @DisplayName("PUT /missions/{id}: Update a mission")
     class UpdateMission {
@@ -293,6 +524,7 @@ public class MissionControllerTest {
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(objectMapper.writeValueAsString(updateRequest)))
                     .andExpect(status().isOk())
+                    .andExpect(statementCount(6, 1))
                     .andExpect(jsonPath("$.id", is(7)))
                     .andExpect(jsonPath("$.title", is(newTitle)))
                     .andExpect(jsonPath("$.status", is("ACTIVE")))
@@ -330,19 +562,82 @@ public class MissionControllerTest {
                     .andExpect(jsonPath("$.message", containsString("High-rank missions must be assigned to at least one Jonin or higher-rank ninja.")));
         }
 
+        @Test
+        @DisplayName("Should return 409 Conflict when a Kage requests a status transition that is not allowed")
+        @WithMockUser(username = "tsunade@gmail.com", roles = "KAGE")
+        void shouldReturn409ForInvalidStatusTransitionAsKage() throws Exception {
+            MissionUpdateRequest updateRequest = new MissionUpdateRequest(
+                    null, null, null, null, Status.PENDING, null
+            );
+
+            mockMvc.perform(put("/missions/{id}", 1)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(updateRequest)))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.message", is("Mission status cannot change from COMPLETED to PENDING.")));
+
+            assertThat(jdbcTemplate.queryForObject("SELECT status FROM missions WHERE id = 1", String.class)).isEqualTo("COMPLETED");
+            assertThat(outboxEventRepository.count()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should count the mission for its ninjas and record the event when a Kage completes it")
+        @WithMockUser(username = "tsunade@gmail.com", roles = "KAGE")
+        @Sql(scripts = "/test-data.sql", statements = "UPDATE missions SET status = 'ACTIVE' WHERE id = 1")
+        void shouldCompleteMissionAsKage() throws Exception {
+            String completedCountQuery = "SELECT missions_completed_count FROM ninjas WHERE id IN (1, 2, 3, 7) ORDER BY id";
+            List<Integer> countsBefore = jdbcTemplate.queryForList(completedCountQuery, Integer.class);
+            MissionUpdateRequest updateRequest = new MissionUpdateRequest(
+                    null, "Escolta completada", null, null, Status.COMPLETED, null
+            );
+
+            mockMvc.perform(put("/missions/{id}", 1)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(updateRequest)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status", is("COMPLETED")))
+                    .andExpect(jsonPath("$.description", is("Escolta completada")));
+
+            assertThat(jdbcTemplate.queryForList(completedCountQuery, Integer.class))
+                    .isEqualTo(countsBefore.stream().map(count -> count + 1).toList());
+            assertThat(outboxEventRepository.findAll())
+                    .singleElement()
+                    .satisfies(event -> {
+                        assertThat(event.getEventType()).isEqualTo("MissionStatusChangedEvent");
+                        assertThat(event.getPayload()).contains("ACTIVE", "COMPLETED");
+                    });
+        }
+
         @Test
         @DisplayName("Should update mission status successfully as an assigned ninja")
         @WithMockUser(username = "naruto@gmail.com", roles = "NINJA_USER")
+        @Sql(scripts = "/test-data.sql", statements = "UPDATE missions SET status = 'ACTIVE' WHERE id = 1")
         void shouldUpdateMissionStatusAsAssignedNinja() throws Exception {
             MissionUpdateRequest updateRequest = new MissionUpdateRequest(
-                    null, null, null, null, Status.ACTIVE, null
+                    null, null, null, null, Status.COMPLETED, null
             );
 
             mockMvc.perform(put("/missions/{id}", 1)
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(objectMapper.writeValueAsString(updateRequest)))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$.status", is("ACTIVE")));
+                    .andExpect(statementCount(4, 1))
+                    .andExpect(jsonPath("$.status", is("COMPLETED")));
+        }
+
+        @Test
+        @DisplayName("Should return 409 Conflict when the status transition is not allowed")
+        @WithMockUser(username = "naruto@gmail.com", roles = "NINJA_USER")
+        void shouldReturn409ForInvalidStatusTransition() throws Exception {
+            MissionUpdateRequest updateRequest = new MissionUpdateRequest(
+                    null, null, null, null, Status.ACTIVE, null
+            );
+
+            mockMvc.perform(put("/missions/{id}", 1)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(updateRequest)))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.message", is("Mission status cannot change from COMPLETED to ACTIVE.")));
         }
 
         @Test
@@ -412,7 +707,8 @@ public class MissionControllerTest {
         void shouldDeleteMissionSuccessfullyAsKage() throws Exception{
             mockMvc.perform(delete("/missions/{id}", 7)
                             .contentType(MediaType.APPLICATION_JSON))
-                    .andExpect(status().isNoContent());
+                    .andExpect(status().isNoContent())
+                    .andExpect(header().string(STATEMENT_COUNT_HEADER, "3"));
 
             mockMvc.perform(get("/missions/{id}", 7)
                     .with(user("tsunade@gmail.com").roles("KAGE")))
@@ -438,4 +734,16 @@ public class MissionControllerTest {
                     .andExpect(jsonPath("$.message", containsString("Mission not found with ID: 999")));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Missions and outbox events take their ids from pooled sequences that Hibernate hands out in
+     * blocks of 50 kept in memory. Whether a request also fetches a new block (two fetches the first
+     * time) depends on the tests that ran before it, so each pooled sequence may add up to two statements.
+     */
+    private static ResultMatcher statementCount(int statements, int pooledSequences) {
+        List<String> accepted = IntStream.rangeClosed(statements, statements + 2 * pooledSequences)
+                .mapToObj(String::valueOf)
+                .toList();
+        return header().string(STATEMENT_COUNT_HEADER, in(accepted));
+    }
+}
@@ -2,6 +2,7 @@ package com.konoha.NinjaMissionManager.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.konoha.NinjaMissionManager.dtos.ninja.NinjaKageUpdateRequest;
+import com.konoha.NinjaMissionManager.dtos.ninja.NinjaLoginRequest;
 import com.konoha.NinjaMissionManager.dtos.ninja.NinjaSelfUpdateRequest;
 import com.konoha.NinjaMissionManager.models.Rank;
 import com.konoha.NinjaMissionManager.models.Role;
@@ -12,6 +13,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.test.context.support.WithAnonymousUser;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
@@ -20,8 +23,11 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Set;
 
+import static com.konoha.NinjaMissionManager.config.SqlStatementBudgetFilter.STATEMENT_COUNT_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -39,6 +45,12 @@ class NinjaControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BCryptPasswordEncoder passwordEncoder;
+
     @Nested
     @DisplayName("GET /ninjas: Retrieve all ninjas")
     class GetAllNinjas {
@@ -59,9 +71,10 @@ class NinjaControllerTest {
             mockMvc.perform(get("/ninjas")
                             .contentType(MediaType.APPLICATION_JSON))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$", hasSize(greaterThan(0))))
-                    .andExpect(jsonPath("$[0].name", notNullValue()))
-                    .andExpect(jsonPath("$[0].rank", notNullValue()));
+                    .andExpect(header().string(STATEMENT_COUNT_HEADER, "3"))
+                    .andExpect(jsonPath("$.content", hasSize(greaterThan(0))))
+                    .andExpect(jsonPath("$.content[0].name", notNullValue()))
+                    .andExpect(jsonPath("$.content[0].rank", notNullValue()));
         }
 
         @Test
@@ -72,7 +85,59 @@ class NinjaControllerTest {
                             .param("rank", Rank.GENIN.name())
                             .contentType(MediaType.APPLICATION_JSON))
                     .andExpect(status().isOk())
-                    .andExpect(jsonPath("$", everyItem(hasEntry("rank", Rank.GENIN.name()))));
+                    .andExpect(jsonPath("$.content", everyItem(hasEntry("rank", Rank.GENIN.name()))));
+        }
+    
+        @Test
+        @DisplayName("Should return the requested page sorted and counted when user is Kage")
+        @WithMockUser(roles = "KAGE", username = "tsunade@gmail.com")
+        void shouldReturnRequestedPageAsKage() throws Exception {
+            mockMvc.perform(get("/ninjas")
+                            .param("page", "1")
+                            .param("size", "3")
+                            .param("sort", "name,asc"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(3)))
+                    .andExpect(jsonPath("$.content[0].name", is("Naruto Uzumaki")))
+                    .andExpect(jsonPath("$.page", is(1)))
+                    .andExpect(jsonPath("$.size", is(3)))
+                    .andExpect(jsonPath("$.hasNext", is(true)))
+                    .andExpect(jsonPath("$.totalElements", is(7)))
+                    .andExpect(jsonPath("$.totalPages", is(3)));
+        }
+
+        @Test
+        @DisplayName("Should skip the totals when includeTotal is false")
+        @WithMockUser(roles = "KAGE", username = "tsunade@gmail.com")
+        void shouldSkipTotalsInSliceMode() throws Exception {
+            mockMvc.perform(get("/ninjas")
+                            .param("size", "5")
+                            .param("includeTotal", "false"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(5)))
+                    .andExpect(jsonPath("$.hasNext", is(true)))
+                    .andExpect(jsonPath("$.totalElements").doesNotExist())
+                    .andExpect(jsonPath("$.totalPages").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Should leave assigned missions out in the slim view")
+        @WithMockUser(roles = "KAGE", username = "tsunade@gmail.com")
+        void shouldLeaveMissionsOutInSlimView() throws Exception {
+            mockMvc.perform(get("/ninjas")
+                            .param("slim", "true"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].village", is("Konoha")))
+                    .andExpect(jsonPath("$.content[0].assignedMissions").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Should return 400 Bad Request when sorting by an unknown property")
+        @WithMockUser(roles = "KAGE", username = "tsunade@gmail.com")
+        void shouldReturn400ForUnknownSortProperty() throws Exception {
+            mockMvc.perform(get("/ninjas")
+                            .param("sort", "chakra"))
+                    .andExpect(status().isBadRequest());
         }
     }
 
@@ -98,6 +163,7 @@ class NinjaControllerTest {
             mockMvc.perform(get("/ninjas/{id}", 1)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andExpect(status().isOk())
+                    .andExpect(header().string(STATEMENT_COUNT_HEADER, "2"))
                     .andExpect(jsonPath("$.name", notNullValue()))
                     .andExpect(jsonPath("$.rank", notNullValue()));
         }
@@ -140,6 +206,7 @@ class NinjaControllerTest {
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(objectMapper.writeValueAsString(request)))
                     .andExpect(status().isOk())
+                    .andExpect(header().string(STATEMENT_COUNT_HEADER, "4"))
                     .andExpect(jsonPath("$.id", is(1)))
                     .andExpect(jsonPath("$.name", is("Naruto Uzumaki Shippuden")))
                     .andExpect(jsonPath("$.email", is("naruto.shippuden@gmail.com")));
@@ -199,6 +266,7 @@ class NinjaControllerTest {
                             .contentType(MediaType.APPLICATION_JSON)
                             .content(objectMapper.writeValueAsString(request)))
                     .andExpect(status().isOk())
+                    .andExpect(header().string(STATEMENT_COUNT_HEADER, "9"))
                     .andExpect(jsonPath("$.id", is(1)))
                     .andExpect(jsonPath("$.name", is("Naruto Uzumaki Hokage")))
                     .andExpect(jsonPath("$.rank", is(Rank.KAGE.name())))
@@ -273,7 +341,8 @@ class NinjaControllerTest {
         void shouldDeleteOwnNinjaProfile() throws Exception {
             mockMvc.perform(delete("/ninjas/{id}", 1)
                             .contentType(MediaType.APPLICATION_JSON))
-                    .andExpect(status().isNoContent());
+                    .andExpect(status().isNoContent())
+                    .andExpect(header().string(STATEMENT_COUNT_HEADER, "7"));
         }
 
         @Test
@@ -313,4 +382,102 @@ class NinjaControllerTest {
                     .andExpect(status().isForbidden());
         }
     }
+
+    @Nested
+    @DisplayName("POST /ninjas/import: Import ninjas from CSV")
+    class ImportNinjas {
+        private static final MediaType TEXT_CSV = MediaType.valueOf("text/csv");
+
+        @Test
+        @DisplayName("Should create the valid rows and report the invalid ones with their line")
+        @WithMockUser(username = "tsunade@gmail.com", roles = "KAGE")
+        void shouldImportValidRowsAndReportRejections() throws Exception {
+            String csv = """
+                    name,email,password,rank,villageId,isAnbu
+                    Rock Lee,lee@gmail.com,Lee12345.,genin,1,false
+                    Neji Hyuga,neji@gmail.com,"Neji,12345.",CHUNIN,1,true
+                    Naruto Clon,naruto@gmail.com,Naruto12345.,GENIN,1,false
+                    Lee Clon,lee@gmail.com,Lee12345.,GENIN,1,false
+                    Temari,temari@gmail.com,Temari12345.,SANNIN,2,false
+                    Kankuro,kankuro@gmail.com,Kankuro12345.,GENIN,99,false
+                    Shino,shino@gmail.com,weak,GENIN,1,false
+
+                    Tenten,tenten@gmail.com,Tenten12345.,GENIN,1,
+                    """;
+
+            mockMvc.perform(post("/ninjas/import")
+                            .contentType(TEXT_CSV)
+                            .content(csv))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(STATEMENT_COUNT_HEADER, "5"))
+                    .andExpect(jsonPath("$.imported", is(3)))
+                    .andExpect(jsonPath("$.rejected", is(5)))
+                    .andExpect(jsonPath("$.elapsedMillis", greaterThanOrEqualTo(0)))
+                    .andExpect(jsonPath("$.ninjasPerSecond", greaterThan(0.0)))
+                    .andExpect(jsonPath("$.rejections[*].line", contains(4, 5, 6, 7, 8)))
+                    .andExpect(jsonPath("$.rejections[0].message", is("Email is already registered: naruto@gmail.com")))
+                    .andExpect(jsonPath("$.rejections[1].message", is("Email is repeated in the file: lee@gmail.com")))
+                    .andExpect(jsonPath("$.rejections[2].message", is("Invalid rank: SANNIN")))
+                    .andExpect(jsonPath("$.rejections[3].message", is("Village not found with ID: 99")))
+                    .andExpect(jsonPath("$.rejections[4].message", containsString("Password must contain")));
+
+            String nejiPassword = jdbcTemplate.queryForObject("SELECT password FROM ninjas WHERE email = 'neji@gmail.com'", String.class);
+            assertThat(passwordEncoder.matches("Neji,12345.", nejiPassword)).isTrue();
+            assertThat(jdbcTemplate.queryForList("""
+                    SELECT r.roles FROM ninja_roles r JOIN ninjas n ON n.id = r.ninja_id
+                    WHERE n.email = 'neji@gmail.com'""", String.class))
+                    .containsExactlyInAnyOrder("ROLE_NINJA_USER", "ROLE_ANBU");
+            assertThat(jdbcTemplate.queryForObject("SELECT ninja_rank FROM ninjas WHERE email = 'lee@gmail.com'", String.class))
+                    .isEqualTo("GENIN");
+        }
+
+        @Test
+        @DisplayName("Should let an imported ninja log in with the password from the file")
+        @WithMockUser(username = "tsunade@gmail.com", roles = "KAGE")
+        void shouldImportNinjaThatCanLogIn() throws Exception {
+            mockMvc.perform(post("/ninjas/import")
+                            .contentType(TEXT_CSV)
+                            .content("name,email,password,rank,villageId,isAnbu\nHinata Hyuga,hinata@gmail.com,Hinata12345.,GENIN,1,false\n"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.imported", is(1)));
+
+            mockMvc.perform(post("/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new NinjaLoginRequest("hinata@gmail.com", "Hinata12345."))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.token", notNullValue()));
+        }
+
+        @Test
+        @DisplayName("Should return 400 Bad Request when the header is wrong")
+        @WithMockUser(username = "tsunade@gmail.com", roles = "KAGE")
+        void shouldReturn400ForWrongHeader() throws Exception {
+            mockMvc.perform(post("/ninjas/import")
+                            .contentType(TEXT_CSV)
+                            .content("name,email\nRock Lee,lee@gmail.com\n"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message", is("The CSV header must be: name,email,password,rank,villageId,isAnbu")));
+        }
+
+        @Test
+        @DisplayName("Should return 400 Bad Request when the body is empty")
+        @WithMockUser(username = "tsunade@gmail.com", roles = "KAGE")
+        void shouldReturn400ForEmptyBody() throws Exception {
+            mockMvc.perform(post("/ninjas/import")
+                            .contentType(TEXT_CSV)
+                            .content(""))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message", is("The CSV file is empty.")));
+        }
+
+        @Test
+        @DisplayName("Should return 403 Forbidden for a regular user")
+        @WithMockUser(username = "naruto@gmail.com", roles = "NINJA_USER")
+        void shouldReturn403ForRegularUser() throws Exception {
+            mockMvc.perform(post("/ninjas/import")
+                            .contentType(TEXT_CSV)
+                            .content("name,email,password,rank,villageId,isAnbu\n"))
+                    .andExpect(status().isForbidden());
+        }
+    }
 }
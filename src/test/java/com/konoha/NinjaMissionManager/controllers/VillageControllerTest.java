@@ -16,8 +16,10 @@ import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import static com.konoha.NinjaMissionManager.config.SqlStatementBudgetFilter.STATEMENT_COUNT_HEADER;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -45,6 +47,7 @@ public class VillageControllerTest {
             mockMvc.perform(get("/villages")
                             .contentType(MediaType.APPLICATION_JSON))
                     .andExpect(status().isOk())
+                    .andExpect(header().string(STATEMENT_COUNT_HEADER, "1"))
                     .andExpect(jsonPath("$", hasSize(greaterThan(0))))
                     .andExpect(jsonPath("$[0].name", notNullValue()));
         }
@@ -83,6 +86,7 @@ public class VillageControllerTest {
             mockMvc.perform(get("/villages/{id}", 1)
                             .contentType(MediaType.APPLICATION_JSON))
                     .andExpect(status().isOk())
+                    .andExpect(header().string(STATEMENT_COUNT_HEADER, "1"))
                     .andExpect(jsonPath("$.id", is(1)))
                     .andExpect(jsonPath("$.name", is("Konoha")))
                     .andExpect(jsonPath("$.kage", is("Tsunade")));
@@ -0,0 +1,102 @@
+package com.konoha.NinjaMissionManager.events;
+
+import com.konoha.NinjaMissionManager.dtos.ninja.NinjaEmailInfo;
+import com.konoha.NinjaMissionManager.models.OutboxEvent;
+import com.konoha.NinjaMissionManager.repositories.OutboxEventRepository;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the relay against the real {@link com.konoha.NinjaMissionManager.services.EmailService},
+ * with only the SMTP sender mocked, so that a delivery failure has to travel all the way to the relay.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql(scripts = "/test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@DisplayName("Outbox relay with the real email service")
+public class OutboxEmailDeliveryTest {
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private JavaMailSenderImpl mailSender;
+
+    @BeforeEach
+    void setUp() {
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+    }
+
+    @Test
+    @DisplayName("Should keep a welcome email pending when the mail sender fails")
+    void shouldKeepWelcomeEmailPendingWhenSmtpFails() {
+        doThrow(new MailSendException("SMTP down")).when(mailSender).send(any(MimeMessage[].class));
+        publishInTransaction(new NinjaRegisteredEvent(1L, "naruto@gmail.com", "Naruto Uzumaki", "Konoha"));
+
+        assertThat(outboxRelay.relayBatch()).isEqualTo(1);
+
+        verify(mailSender, times(1)).send(any(MimeMessage[].class));
+        assertThat(outboxEventRepository.findAll()).singleElement().satisfies(event -> {
+            assertThat(event.getProcessedAt()).isNull();
+            assertThat(event.getAttempts()).isEqualTo(1);
+            assertThat(event.getLastError()).contains("SMTP down");
+            assertThat(event.getAvailableAt()).isAfter(event.getCreatedAt());
+        });
+    }
+
+    @Test
+    @DisplayName("Should keep a mission assignment pending when the mail sender fails")
+    void shouldKeepMissionAssignmentPendingWhenSmtpFails() {
+        doThrow(new MailSendException("SMTP down")).when(mailSender).send(any(MimeMessage[].class));
+        publishInTransaction(new MissionAssignedEvent(1L, List.of(new NinjaEmailInfo("naruto@gmail.com", "Naruto Uzumaki")),
+                "Escolta", "Proteger a Tazuna", "C"));
+
+        outboxRelay.relayBatch();
+
+        OutboxEvent failed = outboxEventRepository.findAll().getFirst();
+        assertThat(failed.getProcessedAt()).isNull();
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).contains("SMTP down");
+    }
+
+    @Test
+    @DisplayName("Should mark the event processed once the mail sender accepts it")
+    void shouldMarkProcessedWhenSmtpSucceeds() {
+        publishInTransaction(new NinjaRegisteredEvent(1L, "naruto@gmail.com", "Naruto Uzumaki", "Konoha"));
+
+        outboxRelay.relayBatch();
+
+        verify(mailSender).send(any(MimeMessage[].class));
+        assertThat(outboxEventRepository.findAll()).singleElement()
+                .satisfies(event -> assertThat(event.getProcessedAt()).isNotNull());
+    }
+
+    private void publishInTransaction(DomainEvent event) {
+        transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(event));
+    }
+}
@@ -0,0 +1,181 @@
+package com.konoha.NinjaMissionManager.events;
+
+import com.konoha.NinjaMissionManager.dtos.ninja.NinjaEmailInfo;
+import com.konoha.NinjaMissionManager.models.OutboxEvent;
+import com.konoha.NinjaMissionManager.models.Status;
+import com.konoha.NinjaMissionManager.repositories.OutboxEventRepository;
+import com.konoha.NinjaMissionManager.services.EmailService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.MailSendException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql(scripts = "/test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@DisplayName("Transactional outbox and relay")
+public class OutboxRelayTest {
+    private static final List<NinjaEmailInfo> TEAM = List.of(new NinjaEmailInfo("naruto@gmail.com", "Naruto Uzumaki"));
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RelayedEventCollector relayedEvents;
+
+    @MockBean
+    private EmailService emailService;
+
+    @BeforeEach
+    void setUp() {
+        relayedEvents.events.clear();
+    }
+
+    @Test
+    @DisplayName("Should store the event in the same transaction and deliver it to every sink")
+    void shouldRecordAndRelayEvent() {
+        MissionAssignedEvent event = new MissionAssignedEvent(1L, TEAM, "Escolta", "Proteger a Tazuna", "C");
+        publishInTransaction(event);
+
+        assertThat(outboxEventRepository.findAll()).singleElement()
+                .satisfies(outboxEvent -> assertThat(outboxEvent.getProcessedAt()).isNull());
+
+        assertThat(outboxRelay.relayBatch()).isEqualTo(1);
+
+        verify(emailService).sendMissionAssignmentEmail(TEAM, "Escolta", "Proteger a Tazuna", "C");
+        assertThat(relayedEvents.events).extracting(RelayedDomainEvent::event).containsExactly(event);
+        assertThat(outboxEventRepository.findAll()).singleElement().satisfies(outboxEvent -> {
+            assertThat(outboxEvent.getProcessedAt()).isNotNull();
+            assertThat(outboxEvent.getAttempts()).isEqualTo(1);
+        });
+        assertThat(outboxRelay.relayBatch()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not store anything when the transaction rolls back")
+    void shouldNotRecordRolledBackEvents() {
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new NinjaRegisteredEvent(1L, "naruto@gmail.com", "Naruto Uzumaki", "Konoha"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reschedule a failed delivery with the error and retry it later")
+    void shouldRescheduleFailedDelivery() {
+        doThrow(new MailSendException("SMTP down")).when(emailService).sendNinjaWelcomeEmail(anyString(), anyString(), anyString());
+        publishInTransaction(new NinjaRegisteredEvent(1L, "naruto@gmail.com", "Naruto Uzumaki", "Konoha"));
+
+        assertThat(outboxRelay.relayBatch()).isEqualTo(1);
+
+        OutboxEvent failed = outboxEventRepository.findAll().getFirst();
+        assertThat(failed.getProcessedAt()).isNull();
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).contains("SMTP down");
+        assertThat(failed.getAvailableAt()).isAfter(failed.getCreatedAt());
+        assertThat(outboxRelay.relayBatch()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should skip rows locked by another relay instead of waiting for them")
+    void shouldSkipLockedRows() throws Exception {
+        publishInTransaction(new MissionStatusChangedEvent(1L, "Escolta", Status.PENDING, Status.ACTIVE));
+        publishInTransaction(new MissionStatusChangedEvent(2L, "Rescate", Status.PENDING, Status.ACTIVE));
+        List<Long> eventIds = outboxEventRepository.findAll(Sort.by("id")).stream().map(OutboxEvent::getId).toList();
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<Long>> firstRelay = executor.submit(() -> transactionTemplate.execute(status -> {
+                List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM outbox_events WHERE id = ? FOR UPDATE", Long.class, eventIds.getFirst());
+                locked.countDown();
+                await(release);
+                return ids;
+            }));
+            assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+            List<Long> secondRelay = transactionTemplate.execute(status -> lockedIds(10));
+            release.countDown();
+
+            assertThat(firstRelay.get(5, TimeUnit.SECONDS)).containsExactly(eventIds.getFirst());
+            assertThat(secondRelay).containsExactly(eventIds.getLast());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private List<Long> lockedIds(int limit) {
+        return outboxEventRepository.lockPendingBatch(LocalDateTime.now(), 10, limit).stream()
+                .map(OutboxEvent::getId)
+                .toList();
+    }
+
+    private void publishInTransaction(DomainEvent event) {
+        transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(event));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @TestConfiguration
+    static class RelayedEventCollectorConfig {
+        @Bean
+        RelayedEventCollector relayedEventCollector() {
+            return new RelayedEventCollector();
+        }
+    }
+
+    static class RelayedEventCollector {
+        final List<RelayedDomainEvent> events = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        void onRelayed(RelayedDomainEvent event) {
+            events.add(event);
+        }
+    }
+}
@@ -0,0 +1,360 @@
+package com.konoha.NinjaMissionManager.loadtest;
+
+import com.konoha.NinjaMissionManager.models.MissionDifficulty;
+import com.konoha.NinjaMissionManager.models.Rank;
+import com.konoha.NinjaMissionManager.models.Role;
+import com.konoha.NinjaMissionManager.models.Status;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+/**
+ * Bulk-loads a synthetic dataset of villages, ninjas and missions with plain JDBC batches, next to
+ * whatever the database already holds. Ninja {@code i} logs in as {@code ninja<i>@konoha.test} with
+ * {@link #PASSWORD}; the first ninja of each village is its Kage. Missions are assigned to teams
+ * from a single village whose size follows the difficulty (one to three ninjas for a D-rank chore,
+ * four-man cells for B and A). Missions from the last 30 days are PENDING or ACTIVE, older ones are
+ * mostly COMPLETED. Every mission is derived from its index and the seed, so the same scale always
+ * produces the same data.
+ *
+ * <p>Run {@link #main} against MySQL for the full Konoha scale; {@link KonohaDatasetLoader} runs it
+ * inside the H2 load-test server.
+ */
+public final class KonohaDatasetGenerator {
+    public static final String PASSWORD = "Konoha12345.";
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final long SEED = 42L;
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final Duration HISTORY = Duration.ofDays(3 * 365);
+    private static final Duration RECENT = Duration.ofDays(30);
+    private static final long SEQUENCE_MARGIN = 100;
+
+    private final Scale scale;
+    private final String passwordHash;
+
+    public record Scale(int villages, int ninjas, int missions) {
+        public Scale {
+            if (villages < 1 || ninjas < villages || missions < 0) {
+                throw new IllegalArgumentException("Invalid dataset scale: " + villages + " villages, " + ninjas + " ninjas, " + missions + " missions");
+            }
+        }
+
+        public static Scale fromSystemProperties(Scale defaults) {
+            return new Scale(
+                    Integer.getInteger("loadtest.dataset.villages", defaults.villages()),
+                    Integer.getInteger("loadtest.dataset.ninjas", defaults.ninjas()),
+                    Integer.getInteger("loadtest.dataset.missions", defaults.missions()));
+        }
+    }
+
+    private record GeneratedMission(MissionDifficulty difficulty, Status status, LocalDateTime creationDate, int reward, int[] team) {
+    }
+
+    public KonohaDatasetGenerator(Scale scale, String passwordHash) {
+        this.scale = scale;
+        this.passwordHash = passwordHash;
+    }
+
+    /**
+     * Loads into the database given by loadtest.jdbc-url, loadtest.jdbc-username and loadtest.jdbc-password.
+     * The schema must exist already, created by the application or by the Flyway migrations.
+     */
+    public static void main(String[] args) throws SQLException {
+        String url = System.getProperty("loadtest.jdbc-url", "jdbc:mysql://localhost:3306/ninjamissionmanager");
+        if (url.startsWith("jdbc:mysql:") && !url.contains("rewriteBatchedStatements")) {
+            // Connector/J solo convierte los lotes en INSERT de varias filas con esta opcion
+            url += (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true";
+        }
+        DataSource dataSource = new DriverManagerDataSource(url,
+                System.getProperty("loadtest.jdbc-username", "root"),
+                System.getProperty("loadtest.jdbc-password", ""));
+        Scale scale = Scale.fromSystemProperties(new Scale(50, 500_000, 5_000_000));
+        String passwordHash = new BCryptPasswordEncoder(Integer.getInteger("loadtest.bcrypt-strength", 10)).encode(PASSWORD);
+
+        long start = System.nanoTime();
+        new KonohaDatasetGenerator(scale, passwordHash).generate(dataSource);
+        System.out.printf("Loaded %d villages, %d ninjas and %d missions in %d s%n",
+                scale.villages(), scale.ninjas(), scale.missions(), Duration.ofNanos(System.nanoTime() - start).toSeconds());
+    }
+
+    public void generate(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean mysql = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql");
+            if (emailExists(connection, email(0))) {
+                throw new IllegalStateException("The generated dataset is already loaded");
+            }
+            connection.setAutoCommit(false);
+            if (mysql) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SET foreign_key_checks = 0, unique_checks = 0");
+                }
+            }
+
+            long firstVillageId = maxId(connection, "villages") + 1;
+            long firstNinjaId = maxId(connection, "ninjas") + 1;
+            long firstMissionId = maxId(connection, "missions") + 1;
+
+            insertVillages(connection, firstVillageId);
+            insertNinjas(connection, firstNinjaId, firstVillageId, completedMissionsPerNinja());
+            assignKages(connection, firstVillageId, firstNinjaId);
+            insertMissions(connection, firstMissionId, firstNinjaId);
+            restartSequences(connection, mysql);
+            connection.commit();
+        }
+    }
+
+    private void insertVillages(Connection connection, long firstVillageId) throws SQLException {
+        try (JdbcBatch villages = new JdbcBatch(connection, "INSERT INTO villages (id, name) VALUES (?, ?)")) {
+            for (int village = 0; village < scale.villages(); village++) {
+                villages.add(firstVillageId + village, "Aldea " + (village + 1));
+            }
+        }
+    }
+
+    private void insertNinjas(Connection connection, long firstNinjaId, long firstVillageId, int[] completedMissions) throws SQLException {
+        try (JdbcBatch ninjas = new JdbcBatch(connection, "INSERT INTO ninjas (id, name, email, password, missions_completed_count, ninja_rank, is_anbu, village_id, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)");
+             JdbcBatch roles = new JdbcBatch(connection, "INSERT INTO ninja_roles (ninja_id, roles) VALUES (?, ?)", ninjas)) {
+            for (int ninja = 0; ninja < scale.ninjas(); ninja++) {
+                long id = firstNinjaId + ninja;
+                Rank rank = rankOf(ninja);
+                boolean anbu = isAnbu(ninja);
+                ninjas.add(id, "Ninja " + ninja, email(ninja), passwordHash, completedMissions[ninja], rank.name(), anbu, firstVillageId + villageOf(ninja));
+                roles.add(id, Role.ROLE_NINJA_USER.name());
+                if (rank == Rank.KAGE) {
+                    roles.add(id, Role.ROLE_KAGE.name());
+                }
+                if (anbu) {
+                    roles.add(id, Role.ROLE_ANBU.name());
+                }
+            }
+        }
+    }
+
+    private void assignKages(Connection connection, long firstVillageId, long firstNinjaId) throws SQLException {
+        try (JdbcBatch kages = new JdbcBatch(connection, "UPDATE villages SET kage_id = ? WHERE id = ?")) {
+            for (int village = 0; village < scale.villages(); village++) {
+                kages.add(firstNinjaId + village, firstVillageId + village);
+            }
+        }
+    }
+
+    private void insertMissions(Connection connection, long firstMissionId, long firstNinjaId) throws SQLException {
+        try (JdbcBatch missions = new JdbcBatch(connection, "INSERT INTO missions (id, title, description, reward, mission_difficulty, status, creation_date, version) VALUES (?, ?, ?, ?, ?, ?, ?, 0)");
+             JdbcBatch assignments = new JdbcBatch(connection, "INSERT INTO ninja_missions (ninja_id, mission_id) VALUES (?, ?)", missions)) {
+            int reportEvery = Math.max(scale.missions() / 10, 1);
+            for (int mission = 0; mission < scale.missions(); mission++) {
+                long id = firstMissionId + mission;
+                GeneratedMission generated = mission(mission);
+                missions.add(id, "Mision " + generated.difficulty() + "-" + mission, "Mision de rango " + generated.difficulty() + " generada para pruebas de carga",
+                        generated.reward(), generated.difficulty().name(), generated.status().name(), Timestamp.valueOf(generated.creationDate()));
+                for (int ninja : generated.team()) {
+                    assignments.add(firstNinjaId + ninja, id);
+                }
+                if ((mission + 1) % reportEvery == 0) {
+                    System.out.printf("Missions: %d of %d%n", mission + 1, scale.missions());
+                }
+            }
+        }
+    }
+
+    private void restartSequences(Connection connection, boolean mysql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String table : new String[]{"missions", "ninjas"}) {
+                // Hibernate reserva bloques de 50 ids: el siguiente bloque debe empezar por encima de los generados
+                long next = maxId(connection, table) + SEQUENCE_MARGIN;
+                statement.execute(mysql
+                        ? "UPDATE " + table + "_seq SET next_val = " + next
+                        : "ALTER SEQUENCE " + table + "_seq RESTART WITH " + next);
+            }
+        }
+    }
+
+    /**
+     * First pass over the missions, before the ninjas are written, so that missions_completed_count
+     * matches the COMPLETED missions each ninja is assigned to.
+     */
+    private int[] completedMissionsPerNinja() {
+        int[] completed = new int[scale.ninjas()];
+        for (int mission = 0; mission < scale.missions(); mission++) {
+            GeneratedMission generated = mission(mission);
+            if (generated.status() == Status.COMPLETED) {
+                for (int ninja : generated.team()) {
+                    completed[ninja]++;
+                }
+            }
+        }
+        return completed;
+    }
+
+    private GeneratedMission mission(int index) {
+        SplittableRandom random = new SplittableRandom(SEED ^ (index * 0x9E3779B97F4A7C15L));
+        MissionDifficulty difficulty = difficulty(random.nextInt(100));
+        LocalDateTime creationDate = NOW.minusSeconds(random.nextLong(HISTORY.toSeconds()));
+        Status status = status(random.nextInt(100), creationDate.isAfter(NOW.minus(RECENT)));
+        int reward = baseReward(difficulty) + random.nextInt(baseReward(difficulty));
+        return new GeneratedMission(difficulty, status, creationDate, reward, team(random, difficulty));
+    }
+
+    private int[] team(SplittableRandom random, MissionDifficulty difficulty) {
+        int size = switch (difficulty) {
+            case D -> 1 + random.nextInt(3);
+            case C, B -> 3 + random.nextInt(2);
+            case A -> 4 + random.nextInt(3);
+            case S -> 2 + random.nextInt(7);
+        };
+        int village = random.nextInt(scale.villages());
+        int villageSize = (scale.ninjas() - village + scale.villages() - 1) / scale.villages();
+        size = Math.min(size, villageSize);
+
+        int[] team = new int[size];
+        int members = 0;
+        while (members < size) {
+            // Ninja i pertenece a la aldea i % villages
+            int candidate = village + random.nextInt(villageSize) * scale.villages();
+            if (!contains(team, members, candidate)) {
+                team[members++] = candidate;
+            }
+        }
+        return team;
+    }
+
+    private static MissionDifficulty difficulty(int percentile) {
+        if (percentile < 35) return MissionDifficulty.D;
+        if (percentile < 65) return MissionDifficulty.C;
+        if (percentile < 85) return MissionDifficulty.B;
+        if (percentile < 95) return MissionDifficulty.A;
+        return MissionDifficulty.S;
+    }
+
+    private static Status status(int percentile, boolean recent) {
+        if (recent) {
+            return percentile < 40 ? Status.PENDING : Status.ACTIVE;
+        }
+        if (percentile < 80) return Status.COMPLETED;
+        if (percentile < 92) return Status.FAILED;
+        return Status.CANCELLED;
+    }
+
+    private static int baseReward(MissionDifficulty difficulty) {
+        return switch (difficulty) {
+            case D -> 500;
+            case C -> 2_000;
+            case B -> 8_000;
+            case A -> 30_000;
+            case S -> 100_000;
+        };
+    }
+
+    private Rank rankOf(int ninja) {
+        if (ninja < scale.villages()) {
+            return Rank.KAGE;
+        }
+        int percentile = positionInVillage(ninja) % 100;
+        if (percentile < 60) return Rank.GENIN;
+        if (percentile < 90) return Rank.CHUNIN;
+        return Rank.JONIN;
+    }
+
+    private boolean isAnbu(int ninja) {
+        return ninja >= scale.villages() && positionInVillage(ninja) % 100 >= 97;
+    }
+
+    private int positionInVillage(int ninja) {
+        return ninja / scale.villages();
+    }
+
+    private int villageOf(int ninja) {
+        return ninja % scale.villages();
+    }
+
+    public static String email(int ninja) {
+        return "ninja" + ninja + "@konoha.test";
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean emailExists(Connection connection, String email) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT 1 FROM ninjas WHERE email = ?")) {
+            statement.setString(1, email);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+
+    private static long maxId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    /**
+     * Prepared statement executed in JDBC batches of {@link #BATCH_SIZE} rows, each one committed.
+     * Rows that reference another table flush that table's batch first.
+     */
+    private static final class JdbcBatch implements AutoCloseable {
+        private final Connection connection;
+        private final PreparedStatement statement;
+        private final JdbcBatch referenced;
+        private int pending;
+
+        private JdbcBatch(Connection connection, String sql) throws SQLException {
+            this(connection, sql, null);
+        }
+
+        private JdbcBatch(Connection connection, String sql, JdbcBatch referenced) throws SQLException {
+            this.connection = connection;
+            this.statement = connection.prepareStatement(sql);
+            this.referenced = referenced;
+        }
+
+        void add(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                statement.setObject(i + 1, values[i]);
+            }
+            statement.addBatch();
+            if (++pending == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() throws SQLException {
+            if (referenced != null) {
+                referenced.flush();
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+                connection.commit();
+                pending = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                flush();
+            } finally {
+                statement.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.konoha.NinjaMissionManager.loadtest;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import javax.sql.DataSource;
+
+/**
+ * Loads the synthetic dataset into the load-test server when loadtest.dataset.ninjas is set. It runs
+ * after the schema and test-data.sql are in place and before Tomcat starts, so the server only
+ * reports healthy once the data is there.
+ */
+@DependsOnDatabaseInitialization
+public class KonohaDatasetLoader implements InitializingBean {
+    private final DataSource dataSource;
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final int villages;
+    private final int ninjas;
+    private final int missions;
+
+    public KonohaDatasetLoader(
+            DataSource dataSource,
+            BCryptPasswordEncoder passwordEncoder,
+            @Value("${loadtest.dataset.villages:50}") int villages,
+            @Value("${loadtest.dataset.ninjas:0}") int ninjas,
+            @Value("${loadtest.dataset.missions:0}") int missions) {
+        this.dataSource = dataSource;
+        this.passwordEncoder = passwordEncoder;
+        this.villages = villages;
+        this.ninjas = ninjas;
+        this.missions = missions;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (ninjas > 0) {
+            KonohaDatasetGenerator.Scale scale = new KonohaDatasetGenerator.Scale(villages, ninjas, missions);
+            new KonohaDatasetGenerator(scale, passwordEncoder.encode(KonohaDatasetGenerator.PASSWORD)).generate(dataSource);
+        }
+    }
+}
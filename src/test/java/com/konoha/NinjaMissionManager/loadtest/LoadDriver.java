@@ -0,0 +1,159 @@
+package com.konoha.NinjaMissionManager.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Closed-loop HTTP load: each connection is a virtual thread that sends a request, waits for the
+ * response and sends the next one until the time is up, so the number of requests in flight equals
+ * the number of connections. Every completed or failed request is timed under its endpoint; a
+ * response other than 2xx or an I/O error counts as an error.
+ */
+public final class LoadDriver {
+    private final HttpClient client;
+
+    /**
+     * One request of a virtual user, reported under {@code endpoint} (e.g. "GET /missions").
+     */
+    public record Step(String endpoint, HttpRequest request) {
+    }
+
+    /**
+     * The client behind one connection. It picks each request from the responses to the previous ones.
+     */
+    public interface VirtualUser {
+        Step next();
+
+        default void onResponse(Step step, HttpResponse<String> response) {
+        }
+
+        default void onFailure(Step step, IOException exception) {
+        }
+    }
+
+    public LoadDriver(Duration connectTimeout) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public LoadReport run(String mode, String endpoint, int connections, Duration duration, Supplier<HttpRequest> requests) throws InterruptedException {
+        return run(mode, connections, duration, connection -> () -> new Step(endpoint, requests.get())).getFirst();
+    }
+
+    /**
+     * Runs one virtual user per connection and returns one report per endpoint, sorted by endpoint.
+     */
+    public List<LoadReport> run(String mode, int connections, Duration duration, IntFunction<VirtualUser> users) throws InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        List<Future<Map<String, Latencies>>> workers = new ArrayList<>(connections);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int connection = 0; connection < connections; connection++) {
+                VirtualUser user = users.apply(connection);
+                workers.add(executor.submit(() -> sendUntil(deadline, user)));
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        Map<String, Latencies> byEndpoint = new TreeMap<>();
+        for (Future<Map<String, Latencies>> worker : workers) {
+            try {
+                worker.get().forEach((endpoint, latencies) -> byEndpoint.computeIfAbsent(endpoint, ignored -> new Latencies()).addAll(latencies));
+            } catch (ExecutionException exception) {
+                throw new IllegalStateException("Load worker failed", exception.getCause());
+            }
+        }
+
+        List<LoadReport> reports = new ArrayList<>(byEndpoint.size());
+        byEndpoint.forEach((endpoint, latencies) -> {
+            long[] sorted = latencies.sorted();
+            reports.add(new LoadReport(
+                    mode,
+                    endpoint,
+                    connections,
+                    sorted.length,
+                    latencies.errors,
+                    sorted.length / elapsedSeconds,
+                    percentileMillis(sorted, 0.50),
+                    percentileMillis(sorted, 0.95),
+                    percentileMillis(sorted, 0.99),
+                    percentileMillis(sorted, 1.0)));
+        });
+        return reports;
+    }
+
+    private Map<String, Latencies> sendUntil(long deadline, VirtualUser user) throws InterruptedException {
+        Map<String, Latencies> byEndpoint = new TreeMap<>();
+        while (System.nanoTime() < deadline) {
+            Step step = user.next();
+            long sent = System.nanoTime();
+            boolean failed;
+            try {
+                HttpResponse<String> response = client.send(step.request(), HttpResponse.BodyHandlers.ofString());
+                failed = response.statusCode() / 100 != 2;
+                byEndpoint.computeIfAbsent(step.endpoint(), ignored -> new Latencies()).add(System.nanoTime() - sent, failed);
+                user.onResponse(step, response);
+            } catch (IOException exception) {
+                byEndpoint.computeIfAbsent(step.endpoint(), ignored -> new Latencies()).add(System.nanoTime() - sent, true);
+                user.onFailure(step, exception);
+            }
+        }
+        return byEndpoint;
+    }
+
+    private static double percentileMillis(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static final class Latencies {
+        private long[] nanos = new long[256];
+        private int size;
+        private long errors;
+
+        void add(long latency, boolean failed) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = latency;
+            if (failed) {
+                errors++;
+            }
+        }
+
+        void addAll(Latencies other) {
+            if (size + other.size > nanos.length) {
+                nanos = Arrays.copyOf(nanos, Math.max(nanos.length * 2, size + other.size));
+            }
+            System.arraycopy(other.nanos, 0, nanos, size, other.size);
+            size += other.size;
+            errors += other.errors;
+        }
+
+        long[] sorted() {
+            long[] sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
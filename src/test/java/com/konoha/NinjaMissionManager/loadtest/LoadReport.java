@@ -0,0 +1,25 @@
+package com.konoha.NinjaMissionManager.loadtest;
+
+import java.util.Locale;
+
+public record LoadReport(
+        String mode,
+        String endpoint,
+        int connections,
+        long requests,
+        long errors,
+        double requestsPerSecond,
+        double p50Millis,
+        double p95Millis,
+        double p99Millis,
+        double maxMillis
+) {
+    public static final String MARKDOWN_HEADER = """
+            | Mode | Endpoint | Connections | Requests | Errors | Req/s | p50 (ms) | p95 (ms) | p99 (ms) | Max (ms) |
+            | :--- | :--- | ---: | ---: | ---: | ---: | ---: | ---: | ---: | ---: |""";
+
+    public String toMarkdownRow() {
+        return String.format(Locale.ROOT, "| %s | %s | %d | %d | %d | %.1f | %.1f | %.1f | %.1f | %.1f |",
+                mode, endpoint, connections, requests, errors, requestsPerSecond, p50Millis, p95Millis, p99Millis, maxMillis);
+    }
+}
@@ -0,0 +1,23 @@
+package com.konoha.NinjaMissionManager.loadtest;
+
+import com.konoha.NinjaMissionManager.NinjaMissionManagerApplication;
+import org.springframework.boot.SpringApplication;
+import java.util.List;
+
+/**
+ * Server side of the load harness: the application with the "loadtest" profile, on an in-memory
+ * H2 database in MySQL mode seeded with test-data.sql, plus the synthetic dataset of
+ * {@link KonohaDatasetLoader} when one is requested. It runs in its own JVM so that client and
+ * server sockets do not share one file descriptor limit.
+ */
+public final class LoadTestApplication {
+    private LoadTestApplication() {
+    }
+
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(NinjaMissionManagerApplication.class);
+        application.addPrimarySources(List.of(KonohaDatasetLoader.class));
+        application.setAdditionalProfiles("loadtest");
+        application.run(args);
+    }
+}
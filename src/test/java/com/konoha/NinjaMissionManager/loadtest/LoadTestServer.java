@@ -0,0 +1,70 @@
+package com.konoha.NinjaMissionManager.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link LoadTestApplication} running in a child JVM with the same classpath, its output sent to a
+ * log file. The heap comes from loadtest.server-heap; closing it stops the server.
+ */
+public final class LoadTestServer implements AutoCloseable {
+    private final Process process;
+    private final URI baseUri;
+
+    private LoadTestServer(Process process, URI baseUri) {
+        this.process = process;
+        this.baseUri = baseUri;
+    }
+
+    public static LoadTestServer start(int port, Path log, List<String> arguments) throws IOException {
+        List<String> command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Xmx" + System.getProperty("loadtest.server-heap", "1g"),
+                "-cp", System.getProperty("java.class.path"),
+                LoadTestApplication.class.getName(),
+                "--server.port=" + port));
+        command.addAll(arguments);
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        return new LoadTestServer(process, URI.create("http://localhost:" + port));
+    }
+
+    public URI baseUri() {
+        return baseUri;
+    }
+
+    public void waitUntilUp(Duration timeout) throws InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("The server exited with code " + process.exitValue());
+            }
+            try {
+                HttpRequest health = HttpRequest.newBuilder(baseUri.resolve("/actuator/health")).GET().build();
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException notUpYet) {
+                // Sigue arrancando
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("The server did not start within " + timeout);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        process.waitFor();
+    }
+}
@@ -0,0 +1,251 @@
+package com.konoha.NinjaMissionManager.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.konoha.NinjaMissionManager.models.Status;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Replays a login / list-missions / update-status mix against a dataset from
+ * {@link KonohaDatasetGenerator} and prints throughput and latency percentiles per endpoint.
+ * Each connection is one generated ninja: it logs in, lists its most recent missions, picks one
+ * that is still open and moves it around PENDING, ACTIVE and FAILED. Without loadtest.base-url it
+ * starts {@link LoadTestApplication} on H2 with a dataset of the configured scale; with it, it
+ * targets a running server whose database was loaded by {@link KonohaDatasetGenerator#main}.
+ * Run with {@code mvn -Ploadtest-mixed test}.
+ */
+public final class MixedWorkloadReplay {
+    private static final Duration WARM_UP = Duration.ofSeconds(15);
+    private static final int WARM_UP_CONNECTIONS = 50;
+    private static final String LOGIN = "POST /login";
+    private static final String LIST_MISSIONS = "GET /missions";
+    private static final String UPDATE_STATUS = "PUT /missions/{id}";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private MixedWorkloadReplay() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<Integer> levels = Arrays.stream(System.getProperty("loadtest.connections", "50,200").split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .toList();
+        Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT60S"));
+        Mix mix = Mix.parse(System.getProperty("loadtest.mix", "5,75,20"));
+        KonohaDatasetGenerator.Scale scale = KonohaDatasetGenerator.Scale.fromSystemProperties(new KonohaDatasetGenerator.Scale(50, 20_000, 200_000));
+        String baseUrl = System.getProperty("loadtest.base-url", "");
+
+        List<LoadReport> reports = new ArrayList<>();
+        if (baseUrl.isBlank()) {
+            boolean virtualThreads = Boolean.getBoolean("loadtest.virtual-threads");
+            int port = Integer.getInteger("loadtest.port", 18080);
+            Path logDirectory = Files.createDirectories(Path.of(System.getProperty("loadtest.log-dir", "target/loadtest")));
+            try (LoadTestServer server = LoadTestServer.start(port, logDirectory.resolve("server-mixed.log"), List.of(
+                    "--spring.threads.virtual.enabled=" + virtualThreads,
+                    "--loadtest.dataset.villages=" + scale.villages(),
+                    "--loadtest.dataset.ninjas=" + scale.ninjas(),
+                    "--loadtest.dataset.missions=" + scale.missions()))) {
+                server.waitUntilUp(Duration.parse(System.getProperty("loadtest.startup-timeout", "PT10M")));
+                replay(virtualThreads ? "virtual" : "platform", server.baseUri(), scale, mix, levels, duration, reports);
+            }
+        } else {
+            replay("external", URI.create(baseUrl), scale, mix, levels, duration, reports);
+        }
+
+        System.out.println();
+        System.out.printf("%s, %d villages, %d ninjas, %d missions, %d s per level, %d cores%n",
+                mix, scale.villages(), scale.ninjas(), scale.missions(), duration.toSeconds(), Runtime.getRuntime().availableProcessors());
+        System.out.println(LoadReport.MARKDOWN_HEADER);
+        reports.forEach(report -> System.out.println(report.toMarkdownRow()));
+    }
+
+    private static void replay(String mode, URI baseUri, KonohaDatasetGenerator.Scale scale, Mix mix,
+                               List<Integer> levels, Duration duration, List<LoadReport> reports) throws InterruptedException {
+        LoadDriver driver = new LoadDriver(Duration.ofSeconds(30));
+        driver.run(mode, WARM_UP_CONNECTIONS, WARM_UP, connection -> new NinjaSession(baseUri, ninjaFor(connection, scale), mix, connection));
+        for (int connections : levels) {
+            List<LoadReport> levelReports = driver.run(mode, connections, duration, connection -> new NinjaSession(baseUri, ninjaFor(connection, scale), mix, connection));
+            levelReports.forEach(report -> System.out.println(report.toMarkdownRow()));
+            System.out.printf(Locale.ROOT, "Total: %.1f req/s%n", levelReports.stream().mapToDouble(LoadReport::requestsPerSecond).sum());
+            reports.addAll(levelReports);
+        }
+    }
+
+    /**
+     * Spreads the connections over the ninjas, skipping the Kages so that each session only sees its own missions.
+     */
+    private static int ninjaFor(int connection, KonohaDatasetGenerator.Scale scale) {
+        int candidates = scale.ninjas() - scale.villages();
+        return scale.villages() + (int) ((connection * 7_919L) % candidates);
+    }
+
+    /**
+     * Percentages of logins, mission lists and status updates; they must add up to 100.
+     */
+    private record Mix(int login, int listMissions, int updateStatus) {
+        static Mix parse(String value) {
+            int[] percentages = Arrays.stream(value.split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+            if (percentages.length != 3 || Arrays.stream(percentages).sum() != 100) {
+                throw new IllegalArgumentException("loadtest.mix must be three percentages that add up to 100: " + value);
+            }
+            return new Mix(percentages[0], percentages[1], percentages[2]);
+        }
+
+        @Override
+        public String toString() {
+            return "login " + login + " %, list missions " + listMissions + " %, update status " + updateStatus + " %";
+        }
+    }
+
+    private static final class NinjaSession implements LoadDriver.VirtualUser {
+        private final URI baseUri;
+        private final String email;
+        private final Mix mix;
+        private final SplittableRandom random;
+        private String token;
+        private Long missionId;
+        private Status missionStatus;
+
+        private NinjaSession(URI baseUri, int ninja, Mix mix, int connection) {
+            this.baseUri = baseUri;
+            this.email = KonohaDatasetGenerator.email(ninja);
+            this.mix = mix;
+            this.random = new SplittableRandom(connection);
+        }
+
+        @Override
+        public LoadDriver.Step next() {
+            int roll = random.nextInt(100);
+            if (token == null || roll < mix.login()) {
+                return login();
+            }
+            if (missionId != null && roll >= mix.login() + mix.listMissions()) {
+                return updateStatus();
+            }
+            return listMissions();
+        }
+
+        @Override
+        public void onResponse(LoadDriver.Step step, HttpResponse<String> response) {
+            if (response.statusCode() == 401) {
+                token = null;
+                return;
+            }
+            boolean ok = response.statusCode() / 100 == 2;
+            switch (step.endpoint()) {
+                case LOGIN -> {
+                    if (ok) {
+                        token = read(response.body()).get("token").asText();
+                    } else if (response.statusCode() == 503) {
+                        waitRetryAfter(response);
+                    }
+                }
+                case LIST_MISSIONS -> {
+                    if (ok && missionId == null) {
+                        pickOpenMission(read(response.body()));
+                    }
+                }
+                case UPDATE_STATUS -> {
+                    if (ok) {
+                        missionStatus = nextStatus(missionStatus);
+                    } else {
+                        // Otro miembro del equipo la cambio: se vuelve a elegir en el siguiente listado
+                        missionId = null;
+                    }
+                }
+                default -> throw new IllegalStateException("Unexpected endpoint " + step.endpoint());
+            }
+        }
+
+        private LoadDriver.Step login() {
+            String body = write(Map.of("email", email, "password", KonohaDatasetGenerator.PASSWORD));
+            return new LoadDriver.Step(LOGIN, HttpRequest.newBuilder(baseUri.resolve("/login"))
+                    .header("Content-Type", "application/json")
+                    .timeout(Duration.ofSeconds(60))
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build());
+        }
+
+        private LoadDriver.Step listMissions() {
+            return new LoadDriver.Step(LIST_MISSIONS, HttpRequest.newBuilder(baseUri.resolve("/missions"))
+                    .header("Authorization", "Bearer " + token)
+                    .timeout(Duration.ofSeconds(60))
+                    .GET()
+                    .build());
+        }
+
+        private LoadDriver.Step updateStatus() {
+            String body = write(Map.of("status", nextStatus(missionStatus).name()));
+            return new LoadDriver.Step(UPDATE_STATUS, HttpRequest.newBuilder(baseUri.resolve("/missions/" + missionId))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", "application/json")
+                    .timeout(Duration.ofSeconds(60))
+                    .PUT(HttpRequest.BodyPublishers.ofString(body))
+                    .build());
+        }
+
+        /**
+         * The login pool is full: wait as long as the server asks, like a real client, instead of retrying at once.
+         */
+        private static void waitRetryAfter(HttpResponse<String> response) {
+            long seconds = response.headers().firstValueAsLong("Retry-After").orElse(1);
+            try {
+                Thread.sleep(Duration.ofSeconds(seconds));
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void pickOpenMission(JsonNode page) {
+            for (JsonNode mission : page.get("items")) {
+                Status status = Status.valueOf(mission.get("status").asText());
+                if (status == Status.PENDING || status == Status.ACTIVE || status == Status.FAILED) {
+                    missionId = mission.get("id").asLong();
+                    missionStatus = status;
+                    return;
+                }
+            }
+        }
+
+        /**
+         * PENDING, ACTIVE and FAILED form a cycle of allowed transitions, so a mission never reaches a final status.
+         */
+        private static Status nextStatus(Status status) {
+            return switch (status) {
+                case PENDING -> Status.ACTIVE;
+                case ACTIVE -> Status.FAILED;
+                case FAILED -> Status.PENDING;
+                default -> throw new IllegalStateException("Mission status " + status + " is final");
+            };
+        }
+
+        private static JsonNode read(String body) {
+            try {
+                return OBJECT_MAPPER.readTree(body);
+            } catch (JsonProcessingException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+
+        private static String write(Object value) {
+            try {
+                return OBJECT_MAPPER.writeValueAsString(value);
+            } catch (JsonProcessingException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.konoha.NinjaMissionManager.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Compares Tomcat on platform threads with Tomcat on virtual threads. For each mode it starts
+ * {@link LoadTestApplication} in a child JVM, logs in once and drives authenticated GET /missions
+ * at every connection level, then prints one Markdown table with both modes.
+ * Run with {@code mvn -Ploadtest test}; levels and duration come from
+ * {@code loadtest.connections} and {@code loadtest.duration}.
+ */
+public final class ThreadModeLoadComparison {
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration WARM_UP = Duration.ofSeconds(10);
+    private static final int WARM_UP_CONNECTIONS = 100;
+    private static final String ENDPOINT = "GET /missions";
+
+    private ThreadModeLoadComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<Integer> levels = Arrays.stream(System.getProperty("loadtest.connections", "1000,5000,10000").split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .toList();
+        Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT20S"));
+        int port = Integer.getInteger("loadtest.port", 18080);
+        Path logDirectory = Files.createDirectories(Path.of(System.getProperty("loadtest.log-dir", "target/loadtest")));
+
+        List<LoadReport> reports = new ArrayList<>();
+        for (boolean virtualThreads : new boolean[]{false, true}) {
+            String mode = virtualThreads ? "virtual" : "platform";
+            try (LoadTestServer server = LoadTestServer.start(port, logDirectory.resolve("server-" + mode + ".log"),
+                    List.of("--spring.threads.virtual.enabled=" + virtualThreads))) {
+                server.waitUntilUp(STARTUP_TIMEOUT);
+                URI baseUri = server.baseUri();
+                String token = login(baseUri);
+                Supplier<HttpRequest> listMissions = () -> HttpRequest.newBuilder(baseUri.resolve("/missions"))
+                        .header("Authorization", "Bearer " + token)
+                        .timeout(Duration.ofSeconds(60))
+                        .GET()
+                        .build();
+
+                LoadDriver driver = new LoadDriver(Duration.ofSeconds(30));
+                driver.run(mode, ENDPOINT, WARM_UP_CONNECTIONS, WARM_UP, listMissions);
+                for (int connections : levels) {
+                    LoadReport report = driver.run(mode, ENDPOINT, connections, duration, listMissions);
+                    System.out.println(report.toMarkdownRow());
+                    reports.add(report);
+                }
+            }
+        }
+
+        System.out.println();
+        System.out.println(ENDPOINT + ", " + duration.toSeconds() + " s per level, " + Runtime.getRuntime().availableProcessors() + " cores");
+        System.out.println(LoadReport.MARKDOWN_HEADER);
+        reports.forEach(report -> System.out.println(report.toMarkdownRow()));
+    }
+
+    private static String login(URI baseUri) throws IOException, InterruptedException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(
+                        Map.of("email", "naruto@gmail.com", "password", "Naruto12345."))))
+                .build();
+        HttpResponse<String> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed with status " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body()).get("token").asText();
+    }
+}
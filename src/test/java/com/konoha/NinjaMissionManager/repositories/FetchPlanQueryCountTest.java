@@ -0,0 +1,101 @@
+package com.konoha.NinjaMissionManager.repositories;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.konoha.NinjaMissionManager.dtos.mission.MissionCreateRequest;
+import com.konoha.NinjaMissionManager.models.MissionDifficulty;
+import com.konoha.NinjaMissionManager.support.SqlStatementRecorder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.konoha.NinjaMissionManager.support.SqlStatementRecorder"
+)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Sql(scripts = "/test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@DisplayName("Fetch plans keep the number of queries per endpoint constant")
+public class FetchPlanQueryCountTest {
+    private static final Pattern SELECT = Pattern.compile("^select ");
+    private static final int EXTRA_MISSIONS = 25;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @ParameterizedTest(name = "GET {0} issues {1} selects")
+    @CsvSource({
+            "/ninjas, 3",
+            "/ninjas?slim=true&includeTotal=false, 2",
+            "/ninjas/1, 2",
+            "/missions, 2",
+            "/missions/1, 2",
+            "/villages, 1",
+            "/villages/1, 1"
+    })
+    @WithMockUser(roles = "KAGE", username = "tsunade@gmail.com")
+    void shouldNotIssueMoreQueriesWhenDataGrows(String endpoint, long expectedSelects) throws Exception {
+        assertThat(countSelects(endpoint)).isEqualTo(expectedSelects);
+
+        assignExtraMissionsToEveryNinja();
+
+        assertThat(countSelects(endpoint)).isEqualTo(expectedSelects);
+    }
+
+    @ParameterizedTest(name = "POST /missions with {0} ninjas issues one select on ninjas")
+    @CsvSource({"3", "7"})
+    @WithMockUser(roles = "KAGE", username = "tsunade@gmail.com")
+    void shouldResolveTheWholeTeamInOneQuery(int teamSize) throws Exception {
+        Set<Long> ninjaIds = LongStream.rangeClosed(1, teamSize).boxed().collect(Collectors.toSet());
+        MissionCreateRequest request = new MissionCreateRequest("Misión de " + teamSize, "Descripción", 100, MissionDifficulty.S, ninjaIds);
+
+        SqlStatementRecorder.reset();
+        mockMvc.perform(post("/missions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        assertThat(SqlStatementRecorder.count(Pattern.compile("^select .* from ninjas \\w+ where \\w+\\.id in"))).isEqualTo(1);
+    }
+
+    private long countSelects(String endpoint) throws Exception {
+        SqlStatementRecorder.reset();
+        mockMvc.perform(get(endpoint)).andExpect(status().isOk());
+        return SqlStatementRecorder.count(SELECT);
+    }
+
+    private void assignExtraMissionsToEveryNinja() {
+        for (int i = 0; i < EXTRA_MISSIONS; i++) {
+            jdbcTemplate.update("""
+                    INSERT INTO missions (title, description, reward, mission_difficulty, status, creation_date)
+                    VALUES (?, 'Misión generada', 10, 'D', 'PENDING', NOW())""", "Misión generada " + i);
+            jdbcTemplate.update("""
+                    INSERT INTO ninja_missions (ninja_id, mission_id)
+                    SELECT n.id, (SELECT MAX(id) FROM missions) FROM ninjas n""");
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.konoha.NinjaMissionManager.repositories;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.konoha.NinjaMissionManager.dtos.mission.MissionBatchCreateRequest;
+import com.konoha.NinjaMissionManager.dtos.mission.MissionCreateRequest;
+import com.konoha.NinjaMissionManager.models.MissionDifficulty;
+import com.konoha.NinjaMissionManager.support.SqlStatementRecorder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.konoha.NinjaMissionManager.support.SqlStatementRecorder"
+)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Sql(scripts = "/test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@DisplayName("POST /missions/batch validates with set-based queries and inserts in JDBC batches")
+public class MissionBatchInsertTest {
+    private static final int MISSIONS = 120;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        SqlStatementRecorder.reset();
+    }
+
+    @Test
+    @WithMockUser(roles = "KAGE", username = "tsunade@gmail.com")
+    @DisplayName("Should not issue per-mission lookups and should prepare each INSERT once per batch")
+    void shouldCreateMissionsWithBatchedStatements() throws Exception {
+        List<MissionCreateRequest> missions = IntStream.range(0, MISSIONS)
+                .mapToObj(i -> new MissionCreateRequest("Patrulla " + i, "Patrullar el sector " + i, 10, MissionDifficulty.D, Set.of(1L, 2L)))
+                .toList();
+
+        mockMvc.perform(post("/missions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new MissionBatchCreateRequest(missions))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", is(MISSIONS)));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM missions WHERE title LIKE 'Patrulla %'", Integer.class)).isEqualTo(MISSIONS);
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM ninja_missions nm JOIN missions m ON m.id = nm.mission_id
+                WHERE m.title LIKE 'Patrulla %'""", Integer.class)).isEqualTo(2 * MISSIONS);
+
+        assertThat(SqlStatementRecorder.count(Pattern.compile("^select \\w+\\.title from missions"))).isEqualTo(1);
+        assertThat(SqlStatementRecorder.count(Pattern.compile("^select .* from ninjas \\w+ where \\w+\\.id in"))).isEqualTo(1);
+        assertThat(SqlStatementRecorder.count(Pattern.compile("^insert into missions "))).isEqualTo(1);
+        assertThat(SqlStatementRecorder.count(Pattern.compile("^insert into ninja_missions "))).isEqualTo(1);
+        assertThat(SqlStatementRecorder.count(Pattern.compile("^insert into outbox_events "))).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events WHERE event_type = 'MissionAssignedEvent'", Integer.class)).isEqualTo(MISSIONS);
+    }
+
+    @Test
+    @WithMockUser(roles = "KAGE", username = "tsunade@gmail.com")
+    @DisplayName("Should create the largest batch allowed within the endpoint's statement budget")
+    void shouldCreateLargestBatchWithinStatementBudget() throws Exception {
+        List<MissionCreateRequest> missions = IntStream.range(0, MissionBatchCreateRequest.MAX_MISSIONS)
+                .mapToObj(i -> new MissionCreateRequest("Vigilancia " + i, "Vigilar la puerta " + i, 10, MissionDifficulty.D, Set.of(1L)))
+                .toList();
+
+        // El perfil de test rechaza la peticion si supera el presupuesto de @SqlStatementBudget
+        mockMvc.perform(post("/missions/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new MissionBatchCreateRequest(missions))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", is(MissionBatchCreateRequest.MAX_MISSIONS)));
+
+        assertThat(SqlStatementRecorder.count(Pattern.compile("^insert into outbox_events "))).isEqualTo(1);
+    }
+}
@@ -0,0 +1,77 @@
+package com.konoha.NinjaMissionManager.repositories;
+
+import com.konoha.NinjaMissionManager.dtos.mission.MissionCursor;
+import com.konoha.NinjaMissionManager.dtos.mission.MissionSummaryProjection;
+import com.konoha.NinjaMissionManager.models.MissionDifficulty;
+import com.konoha.NinjaMissionManager.models.Status;
+import com.konoha.NinjaMissionManager.specifications.MissionSpecificationBuilder;
+import com.konoha.NinjaMissionManager.support.SqlStatementRecorder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.konoha.NinjaMissionManager.support.SqlStatementRecorder")
+@ActiveProfiles("test")
+@Sql(scripts = "/test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@DisplayName("Mission summary projection queries")
+public class MissionRepositoryCustomTest {
+    private static final Pattern SUMMARY_QUERY = Pattern.compile("^select \\w+\\.id,\\w+\\.title,\\w+\\.mission_difficulty,\\w+\\.status,\\w+\\.creation_date from missions ");
+
+    @Autowired
+    private MissionRepository missionRepository;
+
+    @BeforeEach
+    void setUp() {
+        SqlStatementRecorder.reset();
+    }
+
+    @Test
+    @DisplayName("Should select only the summary columns in a single query")
+    void shouldSelectOnlySummaryColumns() {
+        List<MissionSummaryProjection> summaries = missionRepository.findSummaries(
+                MissionSpecificationBuilder.builder().build(), MissionCursor.ORDER, 100);
+
+        assertThat(summaries).hasSize(7);
+        assertThat(SqlStatementRecorder.count(SUMMARY_QUERY)).isEqualTo(1);
+        assertThat(SqlStatementRecorder.count(Pattern.compile("description|ninja_missions"))).isZero();
+    }
+
+    @Test
+    @DisplayName("Should apply the specification filters, the order and the limit")
+    void shouldApplyFiltersOrderAndLimit() {
+        List<MissionSummaryProjection> summaries = missionRepository.findSummaries(
+                MissionSpecificationBuilder.builder()
+                        .difficulty(Optional.of(MissionDifficulty.D))
+                        .status(Optional.of(Status.COMPLETED))
+                        .build(),
+                MissionCursor.ORDER,
+                1);
+
+        assertThat(summaries).singleElement().satisfies(summary -> {
+            assertThat(summary.id()).isEqualTo(5L);
+            assertThat(summary.difficulty()).isEqualTo(MissionDifficulty.D);
+            assertThat(summary.status()).isEqualTo(Status.COMPLETED);
+            assertThat(summary.creationDate()).isNotNull();
+        });
+    }
+
+    @Test
+    @DisplayName("Should only return the missions assigned to the given ninja")
+    void shouldFilterByAssignedNinja() {
+        List<MissionSummaryProjection> summaries = missionRepository.findSummaries(
+                MissionSpecificationBuilder.builder().assignedToNinja(Optional.of(1L)).build(),
+                MissionCursor.ORDER,
+                100);
+
+        assertThat(summaries).extracting(MissionSummaryProjection::id).containsExactly(3L, 2L, 1L);
+    }
+}
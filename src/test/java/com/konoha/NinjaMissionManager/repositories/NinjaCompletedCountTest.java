@@ -0,0 +1,95 @@
+package com.konoha.NinjaMissionManager.repositories;
+
+import com.konoha.NinjaMissionManager.support.SqlStatementRecorder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.konoha.NinjaMissionManager.support.SqlStatementRecorder")
+@ActiveProfiles("test")
+@Sql(scripts = "/test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@DisplayName("Bulk increment of missionsCompletedCount")
+public class NinjaCompletedCountTest {
+    private static final int THREADS = 8;
+
+    @Autowired
+    private NinjaRepository ninjaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        SqlStatementRecorder.reset();
+    }
+
+    @Test
+    @DisplayName("Should increment every assigned ninja with a single UPDATE")
+    void shouldIncrementAssignedNinjasInOneStatement() {
+        Integer updated = transactionTemplate.execute(status -> ninjaRepository.incrementMissionsCompletedCount(1L));
+
+        assertThat(updated).isEqualTo(4);
+        assertThat(SqlStatementRecorder.count(Pattern.compile("^update ninjas ", Pattern.CASE_INSENSITIVE))).isEqualTo(1);
+        assertThat(SqlStatementRecorder.count(Pattern.compile("^select ", Pattern.CASE_INSENSITIVE))).isZero();
+        assertThat(completedCounts()).containsExactly(501L, 401L, 1001L, 600L, 1500L, 2000L, 501L);
+    }
+
+    @Test
+    @DisplayName("Should not touch any ninja when the mission has no assignments")
+    void shouldUpdateNothingForUnassignedMission() {
+        Integer updated = transactionTemplate.execute(status -> ninjaRepository.incrementMissionsCompletedCount(7L));
+
+        assertThat(updated).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not lose increments when missions complete concurrently")
+    void shouldNotLoseConcurrentIncrements() throws Exception {
+        long before = completedCount(1L);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return transactionTemplate.execute(status -> ninjaRepository.incrementMissionsCompletedCount(1L));
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> result : results) {
+                assertThat(result.get()).isEqualTo(4);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(completedCount(1L)).isEqualTo(before + THREADS);
+    }
+
+    private List<Long> completedCounts() {
+        return jdbcTemplate.queryForList("SELECT missions_completed_count FROM ninjas ORDER BY id", Long.class);
+    }
+
+    private long completedCount(Long ninjaId) {
+        return jdbcTemplate.queryForObject("SELECT missions_completed_count FROM ninjas WHERE id = ?", Long.class, ninjaId);
+    }
+}
@@ -0,0 +1,77 @@
+package com.konoha.NinjaMissionManager.repositories;
+
+import com.konoha.NinjaMissionManager.support.SqlStatementRecorder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.konoha.NinjaMissionManager.support.SqlStatementRecorder",
+                "app.ninjas.import.chunk-size=60"
+        }
+)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Sql(scripts = "/test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@DisplayName("POST /ninjas/import checks each chunk with set-based queries and inserts in JDBC batches")
+public class NinjaImportBatchInsertTest {
+    private static final int NINJAS = 120;
+    private static final int CHUNKS = 2;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        SqlStatementRecorder.reset();
+    }
+
+    @Test
+    @WithMockUser(roles = "KAGE", username = "tsunade@gmail.com")
+    @DisplayName("Should issue two email lookups and one village lookup per chunk and prepare each INSERT once per batch")
+    void shouldImportNinjasWithBatchedStatements() throws Exception {
+        String csv = IntStream.range(0, NINJAS)
+                .mapToObj(i -> "Genin " + i + ",genin" + i + "@gmail.com,Genin12345.,GENIN," + (i % 2 + 1) + ",false")
+                .collect(Collectors.joining("\n", "name,email,password,rank,villageId,isAnbu\n", "\n"));
+
+        mockMvc.perform(post("/ninjas/import")
+                        .contentType(MediaType.valueOf("text/csv"))
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported", is(NINJAS)))
+                .andExpect(jsonPath("$.rejected", is(0)));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ninjas WHERE email LIKE 'genin%'", Integer.class)).isEqualTo(NINJAS);
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM ninja_roles r JOIN ninjas n ON n.id = r.ninja_id
+                WHERE n.email LIKE 'genin%'""", Integer.class)).isEqualTo(NINJAS);
+
+        assertThat(SqlStatementRecorder.count(Pattern.compile("^select \\w+\\.email from ninjas"))).isEqualTo(2 * CHUNKS);
+        assertThat(SqlStatementRecorder.count(Pattern.compile("^select .* from villages \\w+ where \\w+\\.id in"))).isEqualTo(CHUNKS);
+        assertThat(SqlStatementRecorder.count(Pattern.compile("^insert into ninjas "))).isEqualTo(CHUNKS);
+        assertThat(SqlStatementRecorder.count(Pattern.compile("^insert into ninja_roles "))).isEqualTo(CHUNKS);
+    }
+}
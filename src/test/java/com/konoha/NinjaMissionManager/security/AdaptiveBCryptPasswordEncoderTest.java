@@ -0,0 +1,52 @@
+package com.konoha.NinjaMissionManager.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit tests for AdaptiveBCryptPasswordEncoder")
+public class AdaptiveBCryptPasswordEncoderTest {
+    private PasswordVerificationPool verificationPool;
+    private AdaptiveBCryptPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        verificationPool = new PasswordVerificationPool(2, 4, Duration.ofSeconds(2));
+        encoder = new AdaptiveBCryptPasswordEncoder(5, verificationPool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        verificationPool.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should encode with the configured cost and verify on the pool")
+    void shouldEncodeWithConfiguredCost() {
+        String hash = encoder.encode("Naruto12345.");
+
+        assertThat(hash).startsWith("$2a$05$");
+        assertThat(encoder.matches("Naruto12345.", hash)).isTrue();
+        assertThat(encoder.matches("Sasuke12345.", hash)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should ask for a rehash when the stored cost is lower or higher than the configured one")
+    void shouldUpgradeWhenCostDiffers() {
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("Naruto12345."))).isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("Naruto12345."))).isTrue();
+        assertThat(encoder.upgradeEncoding(encoder.encode("Naruto12345."))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not ask for a rehash of a missing or non-BCrypt value")
+    void shouldNotUpgradeUnknownEncodings() {
+        assertThat(encoder.upgradeEncoding(null)).isFalse();
+        assertThat(encoder.upgradeEncoding("plain-text")).isFalse();
+    }
+}
@@ -0,0 +1,103 @@
+package com.konoha.NinjaMissionManager.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.konoha.NinjaMissionManager.dtos.mission.MissionCreateRequest;
+import com.konoha.NinjaMissionManager.models.MissionDifficulty;
+import com.konoha.NinjaMissionManager.models.Role;
+import com.konoha.NinjaMissionManager.security.jwt.JwtService;
+import com.konoha.NinjaMissionManager.services.EmailService;
+import com.konoha.NinjaMissionManager.support.SqlStatementRecorder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.konoha.NinjaMissionManager.support.SqlStatementRecorder"
+)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Sql(scripts = "/test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@DisplayName("Authenticated ninja resolution per request")
+public class AuthenticatedNinjaResolutionTest {
+    private static final Pattern NINJA_BY_EMAIL = Pattern.compile("from ninjas \\w+ (left join ninja_roles .+ )?where \\w+\\.email=\\?");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private NinjaUserDetailsCache userDetailsCache;
+
+    @MockBean
+    private EmailService emailService;
+
+    private String kageToken;
+
+    @BeforeEach
+    void setUp() {
+        kageToken = "Bearer " + jwtService.generateToken(
+                new NinjaUserDetail(5L, "tsunade@gmail.com", null, Set.of(Role.ROLE_NINJA_USER, Role.ROLE_KAGE)));
+        userDetailsCache.evict("tsunade@gmail.com");
+        SqlStatementRecorder.reset();
+    }
+
+    @Test
+    @DisplayName("Should look the ninja up by email once when listing missions")
+    void shouldLookUpNinjaOnceWhenListingMissions() throws Exception {
+        mockMvc.perform(get("/missions").header("Authorization", kageToken))
+                .andExpect(status().isOk());
+
+        assertThat(SqlStatementRecorder.count(NINJA_BY_EMAIL)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should look the ninja up by email once when creating a mission")
+    void shouldLookUpNinjaOnceWhenCreatingMission() throws Exception {
+        MissionCreateRequest request = new MissionCreateRequest(
+                "Misión de conteo de consultas", "Descripción", 100, MissionDifficulty.D, Set.of(1L));
+
+        mockMvc.perform(post("/missions")
+                        .header("Authorization", kageToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        assertThat(SqlStatementRecorder.count(NINJA_BY_EMAIL)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not look the ninja up again once the user details are cached")
+    void shouldNotLookUpNinjaOnCacheHit() throws Exception {
+        mockMvc.perform(get("/missions").header("Authorization", kageToken))
+                .andExpect(status().isOk());
+        SqlStatementRecorder.reset();
+
+        mockMvc.perform(get("/missions").header("Authorization", kageToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/ninjas").header("Authorization", kageToken))
+                .andExpect(status().isOk());
+
+        assertThat(SqlStatementRecorder.count(NINJA_BY_EMAIL)).isZero();
+    }
+}
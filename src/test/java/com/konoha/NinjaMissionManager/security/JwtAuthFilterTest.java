@@ -0,0 +1,98 @@
+package com.konoha.NinjaMissionManager.security;
+
+import com.konoha.NinjaMissionManager.models.Ninja;
+import com.konoha.NinjaMissionManager.models.Role;
+import com.konoha.NinjaMissionManager.security.jwt.JwtAuthFilter;
+import com.konoha.NinjaMissionManager.security.jwt.JwtService;
+import com.konoha.NinjaMissionManager.services.NinjaService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Unit tests for JwtAuthFilter")
+public class JwtAuthFilterTest {
+    @Mock
+    private NinjaService ninjaService;
+
+    private JwtService jwtService;
+    private JwtAuthFilter jwtAuthFilter;
+    private NinjaUserDetail kageDetail;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(new SimpleMeterRegistry());
+        jwtAuthFilter = new JwtAuthFilter(jwtService, ninjaService);
+
+        Ninja kage = Ninja.builder()
+                .id(5L)
+                .email("tsunade@gmail.com")
+                .password("hash")
+                .roles(Set.of(Role.ROLE_NINJA_USER, Role.ROLE_KAGE))
+                .build();
+        kageDetail = new NinjaUserDetail(kage);
+
+        request = new MockHttpServletRequest("GET", "/missions");
+        request.addHeader("Authorization", "Bearer " + jwtService.generateToken(kageDetail));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should load the ninja from the database when stateless mode is disabled")
+    void shouldLoadUserWhenStatelessModeDisabled() throws Exception {
+        when(ninjaService.loadUserByUsername("tsunade@gmail.com")).thenReturn(kageDetail);
+
+        jwtAuthFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(ninjaService).loadUserByUsername("tsunade@gmail.com");
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("tsunade@gmail.com");
+    }
+
+    @Test
+    @DisplayName("Should build the principal from the token without touching the database in stateless mode")
+    void shouldBuildPrincipalFromClaimsInStatelessMode() throws Exception {
+        ReflectionTestUtils.setField(jwtAuthFilter, "statelessPrincipal", true);
+
+        jwtAuthFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        verifyNoInteractions(ninjaService);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getName()).isEqualTo("tsunade@gmail.com");
+        assertThat(((NinjaUserDetail) authentication.getPrincipal()).getId()).isEqualTo(5L);
+        assertThat(authentication.getAuthorities())
+                .extracting(Object::toString)
+                .containsExactlyInAnyOrder("ROLE_NINJA_USER", "ROLE_KAGE");
+    }
+
+    @Test
+    @DisplayName("Should leave the request unauthenticated when the token is invalid")
+    void shouldIgnoreInvalidToken() throws Exception {
+        MockHttpServletRequest invalidRequest = new MockHttpServletRequest("GET", "/missions");
+        invalidRequest.addHeader("Authorization", "Bearer invalid.token.value");
+
+        jwtAuthFilter.doFilter(invalidRequest, new MockHttpServletResponse(), new MockFilterChain());
+
+        verifyNoInteractions(ninjaService);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+}
@@ -0,0 +1,124 @@
+package com.konoha.NinjaMissionManager.security;
+
+import com.konoha.NinjaMissionManager.models.Ninja;
+import com.konoha.NinjaMissionManager.models.Rank;
+import com.konoha.NinjaMissionManager.models.Role;
+import com.konoha.NinjaMissionManager.security.jwt.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit tests for JwtService")
+public class JwtServiceTest {
+    private JwtService jwtService;
+    private SimpleMeterRegistry meterRegistry;
+    private NinjaUserDetail narutoDetail;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtService = new JwtService(meterRegistry);
+        Ninja naruto = Ninja.builder()
+                .id(1L)
+                .name("Naruto Uzumaki")
+                .email("naruto@gmail.com")
+                .password("Naruto12345.")
+                .rank(Rank.GENIN)
+                .roles(Set.of(Role.ROLE_NINJA_USER))
+                .build();
+        narutoDetail = new NinjaUserDetail(naruto);
+    }
+
+    @Nested
+    @DisplayName("parseToken")
+    class ParseTokenTests {
+        @Test
+        @DisplayName("Should return the claims of a token it generated")
+        void shouldReturnClaimsForValidToken() {
+            String token = jwtService.generateToken(narutoDetail);
+
+            Optional<Claims> claims = jwtService.parseToken(token);
+
+            assertThat(claims).isPresent();
+            assertThat(claims.get().getSubject()).isEqualTo("naruto@gmail.com");
+        }
+
+        @Test
+        @DisplayName("Should parse repeatedly with the same cached parser")
+        void shouldParseRepeatedly() {
+            String token = jwtService.generateToken(narutoDetail);
+
+            assertThat(jwtService.parseToken(token)).isPresent();
+            assertThat(jwtService.parseToken(token)).isPresent();
+            assertThat(jwtService.extractUsername(token)).isEqualTo("naruto@gmail.com");
+        }
+
+        @Test
+        @DisplayName("Should return empty for a tampered token")
+        void shouldReturnEmptyForTamperedToken() {
+            String token = jwtService.generateToken(narutoDetail);
+            String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+            assertThat(jwtService.parseToken(tampered)).isEmpty();
+            assertThat(jwtService.isValidToken(tampered)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should return empty for a malformed token")
+        void shouldReturnEmptyForMalformedToken() {
+            assertThat(jwtService.parseToken("not-a-jwt")).isEmpty();
+            assertThat(jwtService.parseToken("")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("extractPrincipal")
+    class ExtractPrincipalTests {
+        @Test
+        @DisplayName("Should rebuild the principal from the id and role claims")
+        void shouldRebuildPrincipalFromClaims() {
+            Claims claims = jwtService.parseToken(jwtService.generateToken(narutoDetail)).orElseThrow();
+
+            Optional<NinjaUserDetail> principal = jwtService.extractPrincipal(claims);
+
+            assertThat(principal).isPresent();
+            assertThat(principal.get().getId()).isEqualTo(1L);
+            assertThat(principal.get().getUsername()).isEqualTo("naruto@gmail.com");
+            assertThat(principal.get().getRoles()).containsExactly(Role.ROLE_NINJA_USER);
+            assertThat(principal.get().getPassword()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should return empty when the token has no structured claims")
+        void shouldReturnEmptyForLegacyClaims() {
+            Claims claims = Jwts.claims().subject("naruto@gmail.com").add("role", "[ROLE_NINJA_USER]").build();
+
+            assertThat(jwtService.extractPrincipal(claims)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("metrics")
+    class MetricsTests {
+        @Test
+        @DisplayName("Should time token generation and parsing by outcome")
+        void shouldTimeGenerateAndParse() {
+            String token = jwtService.generateToken(narutoDetail);
+            jwtService.parseToken(token);
+            jwtService.parseToken(token);
+            jwtService.parseToken("not-a-jwt");
+
+            assertThat(meterRegistry.get("app.jwt").tag("operation", "generate").timer().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("app.jwt").tag("operation", "parse").tag("outcome", "valid").timer().count()).isEqualTo(2);
+            assertThat(meterRegistry.get("app.jwt").tag("operation", "parse").tag("outcome", "invalid").timer().count()).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.konoha.NinjaMissionManager.security;
+
+import com.konoha.NinjaMissionManager.models.Ninja;
+import com.konoha.NinjaMissionManager.models.Rank;
+import com.konoha.NinjaMissionManager.models.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Unit tests for NinjaUserDetailsCache")
+public class NinjaUserDetailsCacheTest {
+    private NinjaUserDetailsCache cache;
+    private AtomicInteger loads;
+    private Function<String, NinjaUserDetail> loader;
+
+    @BeforeEach
+    void setUp() {
+        cache = new NinjaUserDetailsCache(100, Duration.ofMinutes(10));
+        loads = new AtomicInteger();
+        loader = email -> {
+            loads.incrementAndGet();
+            Ninja ninja = Ninja.builder()
+                    .id(1L)
+                    .email(email)
+                    .password("encoded")
+                    .rank(Rank.GENIN)
+                    .roles(Set.of(Role.ROLE_NINJA_USER))
+                    .build();
+            return new NinjaUserDetail(ninja);
+        };
+    }
+
+    @Test
+    @DisplayName("Should load once and serve later lookups from the cache")
+    void shouldServeRepeatedLookupsFromCache() {
+        NinjaUserDetail first = cache.get("naruto@gmail.com", loader);
+        NinjaUserDetail second = cache.get("naruto@gmail.com", loader);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reload after the email is evicted")
+    void shouldReloadAfterEviction() {
+        cache.get("naruto@gmail.com", loader);
+
+        cache.evict("naruto@gmail.com", null);
+        cache.get("naruto@gmail.com", loader);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should not cache a value loaded before a concurrent eviction")
+    void shouldNotCacheValueLoadedBeforeEviction() {
+        Function<String, NinjaUserDetail> staleLoader = email -> {
+            NinjaUserDetail stale = loader.apply(email);
+            // La actualizacion confirma y desaloja mientras esta carga aun tiene la fila antigua
+            cache.evict(email);
+            return stale;
+        };
+
+        NinjaUserDetail stale = cache.get("naruto@gmail.com", staleLoader);
+        NinjaUserDetail reloaded = cache.get("naruto@gmail.com", loader);
+
+        assertThat(reloaded).isNotSameAs(stale);
+        assertThat(loads).hasValue(2);
+        assertThat(cache.get("naruto@gmail.com", loader)).isSameAs(reloaded);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should not cache a lookup that fails")
+    void shouldNotCacheFailedLookups() {
+        Function<String, NinjaUserDetail> failingLoader = email -> {
+            throw new UsernameNotFoundException("Ninja not found with the email: " + email);
+        };
+
+        assertThatThrownBy(() -> cache.get("ghost@gmail.com", failingLoader))
+                .isInstanceOf(UsernameNotFoundException.class);
+        assertThat(cache.get("ghost@gmail.com", loader)).isNotNull();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should expose hit and miss counters to Micrometer")
+    void shouldBindCacheMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        cache.get("naruto@gmail.com", loader);
+        cache.get("naruto@gmail.com", loader);
+
+        assertThat(registry.get("cache.gets").tag("cache", "userDetails").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("cache.gets").tag("cache", "userDetails").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,127 @@
+package com.konoha.NinjaMissionManager.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.konoha.NinjaMissionManager.dtos.ninja.NinjaLoginRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "app.security.bcrypt.strength=4",
+                "app.security.password-verification.threads=1",
+                "app.security.password-verification.queue-capacity=1",
+                "app.security.password-verification.retry-after=5s"
+        }
+)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Sql(scripts = "/test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@DisplayName("Login rehashes passwords on a cost change and sheds load when verification is saturated")
+public class PasswordRehashOnLoginTest {
+    private static final String NARUTO_PASSWORD_QUERY = "SELECT password FROM ninjas WHERE email = 'naruto@gmail.com'";
+    private static final String NARUTO_VERSION_QUERY = "SELECT version FROM ninjas WHERE email = 'naruto@gmail.com'";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordVerificationPool verificationPool;
+
+    @Test
+    @DisplayName("Should rehash a password stored with another cost on the next successful login")
+    void shouldRehashOnLogin() throws Exception {
+        assertThat(jdbcTemplate.queryForObject(NARUTO_PASSWORD_QUERY, String.class)).startsWith("$2a$10$");
+        long version = jdbcTemplate.queryForObject(NARUTO_VERSION_QUERY, Long.class);
+
+        login("naruto@gmail.com", "Naruto12345.").andExpect(status().isOk());
+        String rehashed = jdbcTemplate.queryForObject(NARUTO_PASSWORD_QUERY, String.class);
+        assertThat(rehashed).startsWith("$2a$04$");
+        assertThat(jdbcTemplate.queryForObject(NARUTO_VERSION_QUERY, Long.class)).isEqualTo(version + 1);
+
+        login("naruto@gmail.com", "Naruto12345.").andExpect(status().isOk());
+        assertThat(jdbcTemplate.queryForObject(NARUTO_PASSWORD_QUERY, String.class)).isEqualTo(rehashed);
+        assertThat(jdbcTemplate.queryForObject(NARUTO_VERSION_QUERY, Long.class)).isEqualTo(version + 1);
+    }
+
+    @Test
+    @DisplayName("Should not rehash after a failed login")
+    void shouldNotRehashOnFailedLogin() throws Exception {
+        String original = jdbcTemplate.queryForObject(NARUTO_PASSWORD_QUERY, String.class);
+
+        login("naruto@gmail.com", "WrongPassword1.").andExpect(status().isBadRequest());
+
+        assertThat(jdbcTemplate.queryForObject(NARUTO_PASSWORD_QUERY, String.class)).isEqualTo(original);
+    }
+
+    @Test
+    @DisplayName("Should return 503 with Retry-After when every verification slot is taken")
+    void shouldReturn503WhenSaturated() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> busy = CompletableFuture.supplyAsync(() -> verificationPool.verify(() -> {
+            running.countDown();
+            return awaitRelease(release);
+        }));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> verificationPool.verify(() -> true));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (verificationPool.getQueuedVerifications() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        try {
+            login("naruto@gmail.com", "Naruto12345.")
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "5"))
+                    .andExpect(jsonPath("$.message", is("Too many logins in progress. Try again in 5 seconds.")));
+        } finally {
+            release.countDown();
+        }
+        assertThat(busy.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+
+        login("naruto@gmail.com", "Naruto12345.").andExpect(status().isOk());
+    }
+
+    private ResultActions login(String email, String password) throws Exception {
+        return mockMvc.perform(post("/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new NinjaLoginRequest(email, password))));
+    }
+
+    private static boolean awaitRelease(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.konoha.NinjaMissionManager.security;
+
+import com.konoha.NinjaMissionManager.exceptions.LoginCapacityExceededException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Unit tests for PasswordVerificationPool")
+public class PasswordVerificationPoolTest {
+    private PasswordVerificationPool verificationPool;
+
+    @BeforeEach
+    void setUp() {
+        verificationPool = new PasswordVerificationPool(1, 1, Duration.ofSeconds(3));
+    }
+
+    @AfterEach
+    void tearDown() {
+        verificationPool.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should return the result of the check computed on a pool thread")
+    void shouldRunCheckOnPoolThread() {
+        String caller = Thread.currentThread().getName();
+
+        assertThat(verificationPool.verify(() -> !Thread.currentThread().getName().equals(caller))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject a check right away when the pool and the queue are full")
+    void shouldRejectWhenSaturated() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> verificationPool.verify(() -> {
+            running.countDown();
+            return awaitRelease(release);
+        }));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> verificationPool.verify(() -> true));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (verificationPool.getQueuedVerifications() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThatThrownBy(() -> verificationPool.verify(() -> true))
+                .isInstanceOf(LoginCapacityExceededException.class)
+                .hasMessage("Too many logins in progress. Try again in 3 seconds.")
+                .satisfies(exception -> assertThat(((LoginCapacityExceededException) exception).getRetryAfter()).hasSeconds(3));
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should rethrow a runtime exception raised by the check")
+    void shouldRethrowCheckFailure() {
+        assertThatThrownBy(() -> verificationPool.verify(() -> {
+            throw new IllegalArgumentException("Invalid salt version");
+        }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid salt version");
+    }
+
+    private static boolean awaitRelease(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
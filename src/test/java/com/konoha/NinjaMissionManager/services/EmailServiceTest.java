@@ -2,16 +2,19 @@ package com.konoha.NinjaMissionManager.services;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
 import org.mockito.junit.jupiter.MockitoExtension;
 import com.konoha.NinjaMissionManager.dtos.ninja.NinjaEmailInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.mail.MailPreparationException;
 import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
@@ -20,8 +23,10 @@ import org.thymeleaf.context.Context;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.when;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -36,12 +41,21 @@ public class EmailServiceTest {
     @Mock
     private SpringTemplateEngine templateEngine;
 
+    @Mock
+    private MissionEmailRenderer missionEmailRenderer;
+
     @Mock
     private MimeMessage mimeMessage;
 
+    @Mock
+    private MimeMessage otherMimeMessage;
+
     @Mock
     private MimeMessageHelper mimeMessageHelper;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private EmailService emailService;
 
@@ -69,30 +83,33 @@ public class EmailServiceTest {
 
             when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
             when(templateEngine.process(eq("welcome-notification"), any(Context.class))).thenReturn(htmlContent);
-            doNothing().when(mailSender).send(mimeMessage);
 
             assertThatNoException().isThrownBy(() -> emailService.sendNinjaWelcomeEmail(toEmail, ninjaName, village));
 
             verify(mailSender).createMimeMessage();
             verify(templateEngine).process(eq("welcome-notification"), any(Context.class));
-            verify(mailSender).send(mimeMessage);
+            verify(mailSender).send(new MimeMessage[]{mimeMessage});
+            assertThat(meterRegistry.get("app.email.send").tag("type", "welcome").tag("outcome", "success").timer().count()).isEqualTo(1);
         }
 
         @Test
-        @DisplayName("Should handle MailSendException gracefully")
-        void shouldHandleMessagingExceptionGracefully() throws Exception{
+        @DisplayName("Should rethrow a MailSendException so the outbox relay retries the event")
+        void shouldRethrowMailSendException() throws Exception{
             String toEmail = "invalid@email.com";
             String ninjaName = "Test Ninja";
             String village = "Test village";
 
             when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
             when(templateEngine.process(anyString(), any(Context.class))).thenReturn("test content");
-            doThrow(new MailSendException("Email send failed")).when(mailSender).send(mimeMessage);
+            doThrow(new MailSendException("Email send failed")).when(mailSender).send(any(MimeMessage[].class));
 
-            assertThatNoException().isThrownBy(() -> emailService.sendNinjaWelcomeEmail(toEmail, ninjaName, village));
+            assertThatThrownBy(() -> emailService.sendNinjaWelcomeEmail(toEmail, ninjaName, village))
+                    .isInstanceOf(MailSendException.class)
+                    .hasMessage("Email send failed");
 
             verify(mailSender).createMimeMessage();
-            verify(mailSender).send(mimeMessage);
+            verify(mailSender, times(1)).send(new MimeMessage[]{mimeMessage});
+            assertThat(meterRegistry.get("app.email.send").tag("type", "welcome").tag("outcome", "failure").timer().count()).isEqualTo(1);
         }
 
         @Test
@@ -123,9 +140,6 @@ public class EmailServiceTest {
         private NinjaEmailInfo sasuke;
         private NinjaEmailInfo sakura;
 
-        @Captor
-        private ArgumentCaptor<Context> contextCaptor;
-
         @BeforeEach
         void setUp(){
             naruto = new NinjaEmailInfo("naruto@gmail.com", "Naruto Uzumaki");
@@ -140,21 +154,20 @@ public class EmailServiceTest {
             String missionTitle = "Rescue Mission";
             String missionDescription = "Rescue the princess";
             String missionRank = "A";
-            String htmlContent = "<html><body>Mission Assigned!</body></html>";
 
             when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-            when(templateEngine.process(eq("mission-assignment-notification"), any(Context.class))).thenReturn(htmlContent);
-            doNothing().when(mailSender).send(mimeMessage);
+            MissionEmailRenderer.MissionEmailBody body = bodyFor(singleNinja);
+            when(missionEmailRenderer.render(singleNinja, missionTitle, missionDescription, missionRank, DASHBOARD_URL)).thenReturn(body);
 
             assertThatNoException().isThrownBy(() -> emailService.sendMissionAssignmentEmail(singleNinja, missionTitle, missionDescription, missionRank));
 
             verify(mailSender, times(1)).createMimeMessage();
-            verify(templateEngine, times(1)).process(eq("mission-assignment-notification"), any(Context.class));
-            verify(mailSender, times(1)).send(mimeMessage);
+            verify(missionEmailRenderer, times(1)).render(singleNinja, missionTitle, missionDescription, missionRank, DASHBOARD_URL);
+            verify(mailSender, times(1)).send(new MimeMessage[]{mimeMessage});
         }
 
         @Test
-        @DisplayName("Should send mission assignment emails to multiple ninjas (team mission)")
+        @DisplayName("Should render the mission body once and send the team emails as one batch")
         void shouldSendMissionAssignmentEmailToTeam() throws Exception {
             List<NinjaEmailInfo> team = List.of(naruto, sasuke, sakura);
             String missionTitle = "Team Mission";
@@ -162,13 +175,14 @@ public class EmailServiceTest {
             String missionRank = "B";
 
             when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-            when(templateEngine.process(eq("mission-assignment-notification"), any(Context.class))).thenReturn("test");
+            MissionEmailRenderer.MissionEmailBody body = bodyFor(team);
+            when(missionEmailRenderer.render(anyList(), anyString(), anyString(), anyString(), anyString())).thenReturn(body);
 
             emailService.sendMissionAssignmentEmail(team, missionTitle, missionDescription, missionRank);
 
             verify(mailSender, times(3)).createMimeMessage();
-            verify(templateEngine, times(3)).process(eq("mission-assignment-notification"), any(Context.class));
-            verify(mailSender, times(3)).send(mimeMessage);
+            verify(missionEmailRenderer, times(1)).render(team, missionTitle, missionDescription, missionRank, DASHBOARD_URL);
+            verify(mailSender, times(1)).send(new MimeMessage[]{mimeMessage, mimeMessage, mimeMessage});
         }
 
         @Test
@@ -182,7 +196,7 @@ public class EmailServiceTest {
             assertThatNoException().isThrownBy(() -> emailService.sendMissionAssignmentEmail(emptyTeam, missionTitle, missionDescription, missionRank));
 
             verifyNoInteractions(mailSender);
-            verifyNoInteractions(templateEngine);
+            verifyNoInteractions(missionEmailRenderer);
         }
 
         @Test
@@ -195,124 +209,69 @@ public class EmailServiceTest {
             assertThatNoException().isThrownBy(() -> emailService.sendMissionAssignmentEmail(null, missionTitle, missionDescription, missionRank));
 
             verifyNoInteractions(mailSender);
-            verifyNoInteractions(templateEngine);
-        }
-
-        @Test
-        @DisplayName("Should set correct subject for single ninja mission")
-        void shouldSetCorrectSubjectForSingleNinjaMission() throws Exception{
-            List<NinjaEmailInfo> singleNinja = List.of(naruto);
-            String missionTitle = "Solo Mission";
-
-            when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-            when(templateEngine.process(anyString(), any(Context.class))).thenReturn("test");
-
-            emailService.sendMissionAssignmentEmail(singleNinja, missionTitle, "description", "A");
-
-            verify(templateEngine).process(eq("mission-assignment-notification"), argThat(context -> {
-                Context ctx = (Context) context;
-                return Boolean.FALSE.equals(ctx.getVariable("isTeamMission"));
-            }));
+            verifyNoInteractions(missionEmailRenderer);
         }
 
         @Test
-        @DisplayName("Should set correct subject for team mission")
-        void shouldSetCorrectSubjectForTeamMission() throws Exception{
+        @DisplayName("Should send the team batch once and rethrow a partial failure")
+        void shouldRethrowPartialTeamFailure() throws Exception {
             List<NinjaEmailInfo> team = List.of(naruto, sasuke);
-            String missionTitle = "Team Mission";
 
-            when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-            when(templateEngine.process(anyString(), any(Context.class))).thenReturn("test");
+            when(mailSender.createMimeMessage()).thenReturn(mimeMessage, otherMimeMessage);
+            MissionEmailRenderer.MissionEmailBody body = bodyFor(team);
+            when(missionEmailRenderer.render(anyList(), anyString(), anyString(), anyString(), anyString())).thenReturn(body);
 
-            emailService.sendMissionAssignmentEmail(team, missionTitle, "description", "S");
+            doThrow(new MailSendException(Map.of(mimeMessage, new MessagingException("Failed"))))
+                    .when(mailSender).send(any(MimeMessage[].class));
 
-            verify(templateEngine, times(2)).process(eq("mission-assignment-notification"), argThat(context -> {
-                Context ctx = (Context) context;
-                return Boolean.TRUE.equals(ctx.getVariable("isTeamMission"));
-            }));
-        }
+            assertThatThrownBy(() -> emailService.sendMissionAssignmentEmail(team, "Mission", "Description", "B"))
+                    .isInstanceOf(MailSendException.class);
 
-        @Test
-        @DisplayName("Should set correct teammates for each ninja in team mission")
-        void shouldSetCorrectTeammatesForEachNinja() throws Exception {
-            List<NinjaEmailInfo> team = List.of(naruto, sasuke, sakura);
-            String missionTitle = "Team Mission";
-
-            when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-            when(templateEngine.process(anyString(), any(Context.class))).thenReturn("test");
-
-            emailService.sendMissionAssignmentEmail(team, missionTitle, "description", "A");
-
-            verify(templateEngine, times(3)).process(eq("mission-assignment-notification"), contextCaptor.capture());
-
-            List<Context> capturedContexts = contextCaptor.getAllValues();
-
-            Context narutoContext = capturedContexts.get(0);
-            assertThat(narutoContext.getVariable("ninjaName")).isEqualTo("Naruto Uzumaki");
-            @SuppressWarnings("unchecked")
-            List<String> narutoTeammates = (List<String>) narutoContext.getVariable("teammates");
-            assertThat(narutoTeammates)
-                    .hasSize(2)
-                    .containsExactlyInAnyOrder("Sasuke Uchiha", "Sakura Haruno");
-
-            Context sasukeContext = capturedContexts.get(1);
-            assertThat(sasukeContext.getVariable("ninjaName")).isEqualTo("Sasuke Uchiha");
-            @SuppressWarnings("unchecked")
-            List<String> sasukeTeammates = (List<String>) sasukeContext.getVariable("teammates");
-            assertThat(sasukeTeammates)
-                    .hasSize(2)
-                    .containsExactlyInAnyOrder("Naruto Uzumaki", "Sakura Haruno");
-
-            Context sakuraContext = capturedContexts.get(2);
-            assertThat(sakuraContext.getVariable("ninjaName")).isEqualTo("Sakura Haruno");
-            @SuppressWarnings("unchecked")
-            List<String> sakuraTeammates = (List<String>) sakuraContext.getVariable("teammates");
-            assertThat(sakuraTeammates)
-                    .hasSize(2)
-                    .containsExactlyInAnyOrder("Naruto Uzumaki", "Sasuke Uchiha");
-
-            verify(mailSender, times(3)).send(any(MimeMessage.class));
+            verify(mailSender, times(1)).send(any(MimeMessage[].class));
+            verify(mailSender).send(new MimeMessage[]{mimeMessage, otherMimeMessage});
         }
+    }
 
+    @Nested
+    @DisplayName("Preparation failures")
+    class PreparationFailureTests {
         @Test
-        @DisplayName("Should handle MailSendException for one ninja and continue with others")
-        void shouldHandleMailSendExceptionAndContinue() throws Exception {
-            List<NinjaEmailInfo> team = List.of(naruto, sasuke);
-
+        @DisplayName("Should fail when no mission email could be prepared, without sending anything")
+        void shouldFailWhenNoMessageCouldBePrepared() throws Exception {
+            List<NinjaEmailInfo> team = List.of(new NinjaEmailInfo("naruto@gmail.com", "Naruto Uzumaki"));
+            MissionEmailRenderer.MissionEmailBody body = mock(MissionEmailRenderer.MissionEmailBody.class);
+            when(missionEmailRenderer.render(anyList(), anyString(), anyString(), anyString(), anyString())).thenReturn(body);
             when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-            when(templateEngine.process(anyString(), any(Context.class))).thenReturn("test");
+            doThrow(new MessagingException("Bad header")).when(mimeMessage).setSubject(anyString(), anyString());
 
-            doThrow(new MailSendException("Failed"))
-                    .doNothing()
-                    .when(mailSender).send(mimeMessage);
+            assertThatThrownBy(() -> emailService.sendMissionAssignmentEmail(team, "Mission", "Description", "B"))
+                    .isInstanceOf(MailPreparationException.class);
 
-            assertThatNoException().isThrownBy(() ->
-                    emailService.sendMissionAssignmentEmail(team, "Mission", "Description", "B")
-            );
-
-            verify(mailSender, times(2)).send(mimeMessage);
+            verify(mailSender, never()).send(any(MimeMessage[].class));
         }
 
         @Test
-        @DisplayName("Should set correct mission variables in template context")
-        void shouldSetCorrectMissionVariablesInTemplateContext() throws Exception {
-            List<NinjaEmailInfo> team = List.of(naruto);
-            String missionTitle = "Test Mission";
-            String missionDescription = "Test Description";
-            String missionRank = "C";
-
-            when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-            when(templateEngine.process(anyString(), any(Context.class))).thenReturn("test");
+        @DisplayName("Should fail without sending the team batch when one recipient's email cannot be prepared")
+        void shouldFailWhenOneRecipientCouldNotBePrepared() throws Exception {
+            NinjaEmailInfo naruto = new NinjaEmailInfo("naruto@gmail.com", "Naruto Uzumaki");
+            NinjaEmailInfo sasuke = new NinjaEmailInfo("sasuke@gmail.com", "Sasuke Uchiha");
+            List<NinjaEmailInfo> team = List.of(naruto, sasuke);
+            MissionEmailRenderer.MissionEmailBody body = bodyFor(List.of(naruto));
+            when(missionEmailRenderer.render(anyList(), anyString(), anyString(), anyString(), anyString())).thenReturn(body);
+            when(mailSender.createMimeMessage()).thenReturn(mimeMessage, otherMimeMessage);
+            doThrow(new MessagingException("Bad header")).when(otherMimeMessage).setSubject(anyString(), anyString());
 
-            emailService.sendMissionAssignmentEmail(team, missionTitle, missionDescription, missionRank);
+            assertThatThrownBy(() -> emailService.sendMissionAssignmentEmail(team, "Mission", "Description", "B"))
+                    .isInstanceOf(MailPreparationException.class)
+                    .hasMessageContaining("sasuke@gmail.com");
 
-            verify(templateEngine).process(eq("mission-assignment-notification"), argThat(context -> {
-                Context ctx = (Context) context;
-                return missionTitle.equals(ctx.getVariable("missionTitle")) &&
-                        missionDescription.equals(ctx.getVariable("missionDescription")) &&
-                        missionRank.equals(ctx.getVariable("missionRank")) &&
-                        DASHBOARD_URL.equals(ctx.getVariable("dashboardUrl"));
-            }));
+            verify(mailSender, never()).send(any(MimeMessage[].class));
         }
     }
-}
\ No newline at end of file
+
+    private MissionEmailRenderer.MissionEmailBody bodyFor(List<NinjaEmailInfo> team) {
+        MissionEmailRenderer.MissionEmailBody body = mock(MissionEmailRenderer.MissionEmailBody.class);
+        team.forEach(ninja -> when(body.forRecipient(ninja)).thenReturn("<p>" + ninja.name() + "</p>"));
+        return body;
+    }
+}
@@ -0,0 +1,86 @@
+package com.konoha.NinjaMissionManager.services;
+
+import com.konoha.NinjaMissionManager.dtos.ninja.NinjaEmailInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.context.IContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Unit tests for MissionEmailRenderer")
+public class MissionEmailRendererTest {
+    private static final String DASHBOARD_URL = "http://localhost:8080/test-dashboard";
+
+    private final NinjaEmailInfo naruto = new NinjaEmailInfo("naruto@gmail.com", "Naruto Uzumaki");
+    private final NinjaEmailInfo sasuke = new NinjaEmailInfo("sasuke@gmail.com", "Sasuke Uchiha");
+    private final NinjaEmailInfo sakura = new NinjaEmailInfo("sakura@gmail.com", "Sakura Haruno");
+
+    private SpringTemplateEngine templateEngine;
+    private MissionEmailRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(resolver);
+        templateEngine = spy(engine);
+        renderer = new MissionEmailRenderer(templateEngine);
+    }
+
+    @Test
+    @DisplayName("Should render the template once and personalise the name and teammates per recipient")
+    void shouldPersonaliseSharedBodyPerRecipient() {
+        MissionEmailRenderer.MissionEmailBody body = renderer.render(List.of(naruto, sasuke, sakura), "Team Mission", "Infiltrate enemy base", "A", DASHBOARD_URL);
+
+        String narutoHtml = body.forRecipient(naruto);
+        String sasukeHtml = body.forRecipient(sasuke);
+
+        verify(templateEngine, times(1)).process(eq(MissionEmailRenderer.TEMPLATE), any(IContext.class));
+        assertThat(narutoHtml)
+                .contains("<strong>Naruto Uzumaki</strong>")
+                .contains(">Sasuke Uchiha</li>", ">Sakura Haruno</li>")
+                .doesNotContain(">Naruto Uzumaki</li>")
+                .contains("Team Mission", "Infiltrate enemy base", DASHBOARD_URL, "de Equipo", "<span>2</span> compañeros")
+                .doesNotContain("ninja-name-", "teammate-");
+        assertThat(sasukeHtml)
+                .contains("<strong>Sasuke Uchiha</strong>")
+                .contains(">Naruto Uzumaki</li>", ">Sakura Haruno</li>")
+                .doesNotContain(">Sasuke Uchiha</li>");
+    }
+
+    @Test
+    @DisplayName("Should leave out the team section for a single ninja mission")
+    void shouldOmitTeamSectionForSoloMission() {
+        String html = renderer.render(List.of(naruto), "Solo Mission", "description", "D", DASHBOARD_URL).forRecipient(naruto);
+
+        assertThat(html)
+                .contains("<strong>Naruto Uzumaki</strong>")
+                .doesNotContain("de Equipo")
+                .doesNotContain("<li");
+    }
+
+    @Test
+    @DisplayName("Should HTML-escape the substituted names")
+    void shouldEscapeSubstitutedNames() {
+        NinjaEmailInfo intruder = new NinjaEmailInfo("orochimaru@gmail.com", "<script>Orochimaru</script>");
+
+        String html = renderer.render(List.of(naruto, intruder), "Mission", "description", "B", DASHBOARD_URL).forRecipient(naruto);
+
+        assertThat(html)
+                .contains("&lt;script&gt;Orochimaru&lt;/script&gt;")
+                .doesNotContain("<script>");
+    }
+}
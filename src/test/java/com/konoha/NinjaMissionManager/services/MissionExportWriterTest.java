@@ -0,0 +1,104 @@
+package com.konoha.NinjaMissionManager.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.konoha.NinjaMissionManager.dtos.mission.MissionExportFormat;
+import com.konoha.NinjaMissionManager.dtos.mission.MissionExportRow;
+import com.konoha.NinjaMissionManager.models.MissionDifficulty;
+import com.konoha.NinjaMissionManager.models.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit tests for MissionExportWriter")
+public class MissionExportWriterTest {
+    private static final LocalDateTime CREATED = LocalDateTime.of(2025, 8, 24, 10, 0);
+
+    private MissionExportWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        writer = new MissionExportWriter(objectMapper);
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line")
+    void shouldWriteNdjson() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        writer.write(Stream.of(row(1L, "Escolta"), row(2L, "Rescate")), MissionExportFormat.NDJSON, output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode first = new ObjectMapper().readTree(lines[0]);
+        assertThat(first.get("id").asLong()).isEqualTo(1L);
+        assertThat(first.get("title").asText()).isEqualTo("Escolta");
+        assertThat(first.get("difficulty").asText()).isEqualTo("C");
+        assertThat(first.get("creationDate").asText()).isEqualTo("2025-08-24T10:00:00");
+        assertThat(output.toString(StandardCharsets.UTF_8)).endsWith("\n");
+    }
+
+    @Test
+    @DisplayName("Should write a header and quote the CSV fields that need it")
+    void shouldWriteCsv() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        MissionExportRow tricky = new MissionExportRow(3L, "Misión \"Tora\", otra vez", "Línea 1\nLínea 2", null, MissionDifficulty.D, Status.PENDING, CREATED);
+
+        writer.write(Stream.of(row(1L, "Escolta"), tricky), MissionExportFormat.CSV, output);
+
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo("""
+                id,title,description,reward,difficulty,status,creationDate
+                1,Escolta,Proteger al constructor,1000,C,ACTIVE,2025-08-24T10:00
+                3,"Misión ""Tora"", otra vez","Línea 1
+                Línea 2",,D,PENDING,2025-08-24T10:00
+                """);
+    }
+
+    @Test
+    @DisplayName("Should emit rows while the stream is still being consumed")
+    void shouldWriteBeforeConsumingTheWholeStream() {
+        AtomicLong bytesWritten = new AtomicLong();
+        AtomicLong bytesSeenAtLastRow = new AtomicLong();
+        OutputStream countingOutput = new OutputStream() {
+            @Override
+            public void write(int b) {
+                bytesWritten.incrementAndGet();
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                bytesWritten.addAndGet(len);
+            }
+        };
+        long rows = 200_000;
+        Stream<MissionExportRow> lazyRows = Stream.iterate(1L, id -> id + 1)
+                .limit(rows)
+                .map(id -> {
+                    if (id == rows) {
+                        bytesSeenAtLastRow.set(bytesWritten.get());
+                    }
+                    return row(id, "Misión " + id);
+                });
+
+        writer.write(lazyRows, MissionExportFormat.CSV, countingOutput);
+
+        assertThat(bytesSeenAtLastRow.get()).isGreaterThan(bytesWritten.get() * 9 / 10);
+    }
+
+    private MissionExportRow row(Long id, String title) {
+        return new MissionExportRow(id, title, "Proteger al constructor", 1000, MissionDifficulty.C, Status.ACTIVE, CREATED);
+    }
+}
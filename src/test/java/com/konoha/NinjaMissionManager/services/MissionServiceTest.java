@@ -1,31 +1,49 @@
 package com.konoha.NinjaMissionManager.services;
 
+import com.konoha.NinjaMissionManager.dtos.common.CursorPageResponse;
 import com.konoha.NinjaMissionManager.dtos.mission.*;
+import com.konoha.NinjaMissionManager.dtos.ninja.NinjaEmailInfo;
+import com.konoha.NinjaMissionManager.events.MissionAssignedEvent;
+import com.konoha.NinjaMissionManager.events.MissionStatusChangedEvent;
+import com.konoha.NinjaMissionManager.exceptions.InvalidRequestException;
 import com.konoha.NinjaMissionManager.exceptions.ResourceConflictException;
 import com.konoha.NinjaMissionManager.exceptions.ResourceNotFoundException;
 import com.konoha.NinjaMissionManager.models.*;
 import com.konoha.NinjaMissionManager.repositories.MissionRepository;
+import com.konoha.NinjaMissionManager.security.NinjaUserDetail;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.security.Principal;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,7 +62,10 @@ public class MissionServiceTest {
     private Principal principal;
 
     @Mock
-    private EmailService emailService;
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private MissionExportWriter missionExportWriter;
 
     @InjectMocks
     private MissionService missionService;
@@ -62,12 +83,12 @@ public class MissionServiceTest {
 
     @BeforeEach
     void setUp() {
-        naruto = new Ninja(1L, "Naruto Uzumaki", "naruto@gmail.com", "Naruto12345.", Rank.GENIN, new Village(), 0, false, Set.of(Role.ROLE_NINJA_USER), Collections.emptySet());
-        sasuke = new Ninja(2L, "Sasuke Uchiha", "sasuke@gmail.com", "Sasuke12345.", Rank.JONIN, new Village(), 0, false, Set.of(Role.ROLE_NINJA_USER), Collections.emptySet());
-        kage = new Ninja(3L, "Tsunade Senju", "tsunade@gmail.com", "Tsunade12345.", Rank.KAGE, new Village(), 0, false, Set.of(Role.ROLE_KAGE), Collections.emptySet());
+        naruto = new Ninja(1L, "Naruto Uzumaki", "naruto@gmail.com", "Naruto12345.", Rank.GENIN, new Village(), 0, false, Set.of(Role.ROLE_NINJA_USER), Collections.emptySet(), 0L);
+        sasuke = new Ninja(2L, "Sasuke Uchiha", "sasuke@gmail.com", "Sasuke12345.", Rank.JONIN, new Village(), 0, false, Set.of(Role.ROLE_NINJA_USER), Collections.emptySet(), 0L);
+        kage = new Ninja(3L, "Tsunade Senju", "tsunade@gmail.com", "Tsunade12345.", Rank.KAGE, new Village(), 0, false, Set.of(Role.ROLE_KAGE), Collections.emptySet(), 0L);
 
-        missionA = new Mission(1L, "Misión de limpieza", "Limpia la propiedad del señor feudal", 50, MissionDifficulty.D, Status.COMPLETED, LocalDateTime.now(), Set.of(naruto, sasuke));
-        missionB = new Mission(2L, "Captura del Jinchuriki", "Capturar a Killer B", 5000, MissionDifficulty.A, Status.COMPLETED, LocalDateTime.of(2025, 8, 24, 10, 0), Collections.emptySet());
+        missionA = new Mission(1L, "Misión de limpieza", "Limpia la propiedad del señor feudal", 50, MissionDifficulty.D, Status.COMPLETED, LocalDateTime.now(), Set.of(naruto, sasuke), 0L);
+        missionB = new Mission(2L, "Captura del Jinchuriki", "Capturar a Killer B", 5000, MissionDifficulty.A, Status.COMPLETED, LocalDateTime.of(2025, 8, 24, 10, 0), Collections.emptySet(), 0L);
 
         missionCreateRequest = new MissionCreateRequest("Misión de protección", "Proteger al señor feudal", 500, MissionDifficulty.B, Set.of(naruto.getId()));
         missionAResponse = new MissionResponse(1L,"Misión de limpieza","Limpia la propiedad del señor feudal", 50, MissionDifficulty.D, Status.COMPLETED, LocalDateTime.now(), Collections.emptySet());
@@ -82,73 +103,158 @@ public class MissionServiceTest {
     @Nested
     @DisplayName("getAllMissions")
     class GetAllMissionsTests{
+        private MissionSummaryProjection missionASummary;
+        private MissionSummaryProjection missionBSummary;
+
+        @BeforeEach
+        void setUp() {
+            missionASummary = new MissionSummaryProjection(missionA.getId(), missionA.getTitle(), missionA.getDifficulty(), missionA.getStatus(), missionA.getCreationDate());
+            missionBSummary = new MissionSummaryProjection(missionB.getId(), missionB.getTitle(), missionB.getDifficulty(), missionB.getStatus(), missionB.getCreationDate());
+        }
+
         @Test
         @DisplayName("Should return all missions for a kage without filters")
         void shouldReturnAllMissionsForKage(){
-            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(kage);
-            when(missionRepository.findAll(any(Specification.class))).thenReturn(List.of(missionA, missionB));
-            when(missionMapper.entityToSummaryDto(missionA)).thenReturn(missionASummaryResponse);
-            when(missionMapper.entityToSummaryDto(missionB)).thenReturn(new MissionSummaryResponse(2L, "Captura del Jinchuriki", MissionDifficulty.A, Status.COMPLETED));
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(kage));
+            when(missionRepository.findSummaries(any(Specification.class), eq(MissionCursor.ORDER), anyInt())).thenReturn(List.of(missionASummary, missionBSummary));
+            when(missionMapper.projectionToSummaryDto(missionASummary)).thenReturn(missionASummaryResponse);
+            when(missionMapper.projectionToSummaryDto(missionBSummary)).thenReturn(new MissionSummaryResponse(2L, "Captura del Jinchuriki", MissionDifficulty.A, Status.COMPLETED));
 
-            List<MissionSummaryResponse> result = missionService.getAllMissions(Optional.empty(), Optional.empty(), Optional.empty(), principal);
+            CursorPageResponse<MissionSummaryResponse> result = missionService.getAllMissions(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), 20, principal);
 
-            assertThat(result).hasSize(2);
-            verify(missionRepository).findAll(any(Specification.class));
-            verify(missionMapper, times(2)).entityToSummaryDto(any(Mission.class));
+            assertThat(result.items()).hasSize(2);
+            verify(missionRepository).findSummaries(any(Specification.class), eq(MissionCursor.ORDER), eq(21));
+            verify(missionMapper, times(2)).projectionToSummaryDto(any(MissionSummaryProjection.class));
         }
 
         @Test
         @DisplayName("Should return only assigned missions for a non-Kage ninja")
         void shouldReturnOnlyAssignedMissionsForNinja() {
-            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(naruto);
-            when(missionRepository.findAll(any(Specification.class))).thenReturn(List.of(missionA));
-            when(missionMapper.entityToSummaryDto(missionA)).thenReturn(missionASummaryResponse);
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(naruto));
+            when(missionRepository.findSummaries(any(Specification.class), eq(MissionCursor.ORDER), anyInt())).thenReturn(List.of(missionASummary));
+            when(missionMapper.projectionToSummaryDto(missionASummary)).thenReturn(missionASummaryResponse);
 
-            List<MissionSummaryResponse> result = missionService.getAllMissions(Optional.empty(), Optional.empty(), Optional.empty(), principal);
+            CursorPageResponse<MissionSummaryResponse> result = missionService.getAllMissions(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), 20, principal);
 
-            assertThat(result).hasSize(1).containsExactly(missionASummaryResponse);
-            verify(missionRepository).findAll(any(Specification.class));
-            verify(missionMapper).entityToSummaryDto(missionA);
+            assertThat(result.items()).hasSize(1).containsExactly(missionASummaryResponse);
+            verify(missionRepository).findSummaries(any(Specification.class), eq(MissionCursor.ORDER), eq(21));
+            verify(missionMapper).projectionToSummaryDto(missionASummary);
         }
 
         @Test
         @DisplayName("Should return missions filtered by difficulty for a Kage")
         void shouldReturnMissionsFilteredByDifficulty() {
-            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(kage);
-            when(missionRepository.findAll(any(Specification.class))).thenReturn(List.of(missionB));
-            when(missionMapper.entityToSummaryDto(missionB)).thenReturn(new MissionSummaryResponse(2L, "Captura del Jinchuriki", MissionDifficulty.A, Status.COMPLETED));
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(kage));
+            when(missionRepository.findSummaries(any(Specification.class), eq(MissionCursor.ORDER), anyInt())).thenReturn(List.of(missionBSummary));
+            when(missionMapper.projectionToSummaryDto(missionBSummary)).thenReturn(new MissionSummaryResponse(2L, "Captura del Jinchuriki", MissionDifficulty.A, Status.COMPLETED));
 
-            List<MissionSummaryResponse> result = missionService.getAllMissions(Optional.of(MissionDifficulty.A), Optional.empty(), Optional.empty(), principal);
+            CursorPageResponse<MissionSummaryResponse> result = missionService.getAllMissions(Optional.of(MissionDifficulty.A), Optional.empty(), Optional.empty(), Optional.empty(), 20, principal);
 
-            assertThat(result).hasSize(1);
-            verify(missionRepository).findAll(any(Specification.class));
+            assertThat(result.items()).hasSize(1);
+            verify(missionRepository).findSummaries(any(Specification.class), eq(MissionCursor.ORDER), eq(21));
         }
 
         @Test
         @DisplayName("Should return missions filtered by status and assigned ninja")
         void shouldReturnMissionsFilteredByStatusAndAssignedNinja() {
-            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(kage);
-            when(missionRepository.findAll(any(Specification.class))).thenReturn(List.of(missionA));
-            when(missionMapper.entityToSummaryDto(missionA)).thenReturn(missionASummaryResponse);
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(kage));
+            when(missionRepository.findSummaries(any(Specification.class), eq(MissionCursor.ORDER), anyInt())).thenReturn(List.of(missionASummary));
+            when(missionMapper.projectionToSummaryDto(missionASummary)).thenReturn(missionASummaryResponse);
 
-            List<MissionSummaryResponse> result = missionService.getAllMissions(Optional.empty(), Optional.of(Status.COMPLETED), Optional.of(naruto.getId()), principal);
+            CursorPageResponse<MissionSummaryResponse> result = missionService.getAllMissions(Optional.empty(), Optional.of(Status.COMPLETED), Optional.of(naruto.getId()), Optional.empty(), 20, principal);
 
-            assertThat(result).hasSize(1).containsExactly(missionASummaryResponse);
-            verify(missionRepository).findAll(any(Specification.class));
+            assertThat(result.items()).hasSize(1).containsExactly(missionASummaryResponse);
+            verify(missionRepository).findSummaries(any(Specification.class), eq(MissionCursor.ORDER), eq(21));
         }
 
         @Test
         @DisplayName("Should return empty list when no missions match filters")
         void shouldReturnEmptyListWhenNoMissionsMatch() {
-            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(kage);
-            when(missionRepository.findAll(any(Specification.class))).thenReturn(Collections.emptyList());
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(kage));
+            when(missionRepository.findSummaries(any(Specification.class), eq(MissionCursor.ORDER), anyInt())).thenReturn(Collections.emptyList());
 
-            List<MissionSummaryResponse> result = missionService.getAllMissions(Optional.of(MissionDifficulty.S), Optional.empty(), Optional.empty(), principal);
+            CursorPageResponse<MissionSummaryResponse> result = missionService.getAllMissions(Optional.of(MissionDifficulty.S), Optional.empty(), Optional.empty(), Optional.empty(), 20, principal);
 
-            assertThat(result).isEmpty();
-            verify(missionRepository).findAll(any(Specification.class));
+            assertThat(result.items()).isEmpty();
+            assertThat(result.nextCursor()).isNull();
+            verify(missionRepository).findSummaries(any(Specification.class), eq(MissionCursor.ORDER), eq(21));
             verifyNoInteractions(missionMapper);
         }
+
+        @Test
+        @DisplayName("Should return a cursor to the next page when more missions than the limit match")
+        void shouldReturnNextCursorWhenMoreMissionsMatch() {
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(kage));
+            when(missionRepository.findSummaries(any(Specification.class), eq(MissionCursor.ORDER), anyInt())).thenReturn(List.of(missionASummary, missionBSummary));
+            when(missionMapper.projectionToSummaryDto(missionASummary)).thenReturn(missionASummaryResponse);
+
+            CursorPageResponse<MissionSummaryResponse> result = missionService.getAllMissions(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), 1, principal);
+
+            assertThat(result.items()).containsExactly(missionASummaryResponse);
+            verify(missionRepository).findSummaries(any(Specification.class), eq(MissionCursor.ORDER), eq(2));
+            assertThat(MissionCursor.decode(result.nextCursor())).isEqualTo(MissionCursor.of(missionASummary));
+            verify(missionMapper, never()).projectionToSummaryDto(missionBSummary);
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidRequestException when the limit is out of range")
+        void shouldThrowWhenLimitIsOutOfRange() {
+            assertThatThrownBy(() -> missionService.getAllMissions(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), 0, principal))
+                    .isInstanceOf(InvalidRequestException.class);
+            assertThatThrownBy(() -> missionService.getAllMissions(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), MissionService.MAX_PAGE_LIMIT + 1, principal))
+                    .isInstanceOf(InvalidRequestException.class);
+
+            verifyNoInteractions(missionRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw InvalidRequestException when the cursor cannot be decoded")
+        void shouldThrowWhenCursorIsInvalid() {
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(kage));
+
+            assertThatThrownBy(() -> missionService.getAllMissions(Optional.empty(), Optional.empty(), Optional.empty(), Optional.of("not-a-cursor"), 20, principal))
+                    .isInstanceOf(InvalidRequestException.class)
+                    .hasMessageContaining("Invalid cursor");
+
+            verifyNoInteractions(missionRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("exportMissions")
+    class ExportMissionsTests {
+        @Test
+        @DisplayName("Should write the streamed rows and close the stream afterwards")
+        void shouldWriteRowsAndCloseStream() {
+            AtomicBoolean closed = new AtomicBoolean();
+            Stream<MissionExportRow> rows = Stream.<MissionExportRow>empty().onClose(() -> closed.set(true));
+            OutputStream output = new ByteArrayOutputStream();
+
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(kage));
+            when(missionRepository.streamExportRows(any(Specification.class), eq(MissionCursor.ORDER), anyInt())).thenReturn(rows);
+
+            missionService.exportMissions(Optional.empty(), Optional.empty(), Optional.empty(), MissionExportFormat.CSV, principal, output);
+
+            verify(missionExportWriter).write(rows, MissionExportFormat.CSV, output);
+            assertThat(closed).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should close the stream when writing fails")
+        void shouldCloseStreamWhenWritingFails() {
+            AtomicBoolean closed = new AtomicBoolean();
+            Stream<MissionExportRow> rows = Stream.<MissionExportRow>empty().onClose(() -> closed.set(true));
+            OutputStream output = new ByteArrayOutputStream();
+
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(naruto));
+            when(missionRepository.streamExportRows(any(Specification.class), eq(MissionCursor.ORDER), anyInt())).thenReturn(rows);
+            doThrow(new UncheckedIOException(new IOException("Broken pipe"))).when(missionExportWriter).write(rows, MissionExportFormat.NDJSON, output);
+
+            assertThatThrownBy(() -> missionService.exportMissions(Optional.empty(), Optional.empty(), Optional.empty(), MissionExportFormat.NDJSON, principal, output))
+                    .isInstanceOf(UncheckedIOException.class);
+
+            assertThat(closed).isTrue();
+        }
     }
 
     @Nested
@@ -158,56 +264,56 @@ public class MissionServiceTest {
         @Test
         @DisplayName("Should return mission for a Kage")
         void shouldReturnMissionForKage() {
-            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(kage);
-            when(missionRepository.findById(missionA.getId())).thenReturn(Optional.of(missionA));
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(kage));
+            when(missionRepository.findDetailedById(missionA.getId())).thenReturn(Optional.of(missionA));
             when(missionMapper.entityToDto(missionA)).thenReturn(missionAResponse);
 
             MissionResponse result = missionService.getMissionById(missionA.getId(), principal);
 
             assertThat(result).isEqualTo(missionAResponse);
-            verify(missionRepository).findById(missionA.getId());
+            verify(missionRepository).findDetailedById(missionA.getId());
             verify(missionMapper).entityToDto(missionA);
         }
 
         @Test
         @DisplayName("Should return mission for an assigned ninja")
         void shouldReturnMissionForAssignedNinja() {
-            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(naruto);
-            when(missionRepository.findById(missionA.getId())).thenReturn(Optional.of(missionA));
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(naruto));
+            when(missionRepository.findDetailedById(missionA.getId())).thenReturn(Optional.of(missionA));
             when(missionMapper.entityToDto(missionA)).thenReturn(missionAResponse);
 
             MissionResponse result = missionService.getMissionById(missionA.getId(), principal);
 
             assertThat(result).isEqualTo(missionAResponse);
-            verify(missionRepository).findById(missionA.getId());
+            verify(missionRepository).findDetailedById(missionA.getId());
             verify(missionMapper).entityToDto(missionA);
         }
 
         @Test
         @DisplayName("Should throw ResourceNotFoundException when mission does not exist")
         void shouldThrowExceptionWhenMissionNotFound() {
-            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(kage);
-            when(missionRepository.findById(99L)).thenReturn(Optional.empty());
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(kage));
+            when(missionRepository.findDetailedById(99L)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> missionService.getMissionById(99L, principal))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessageContaining("Mission not found with ID: 99");
 
-            verify(missionRepository).findById(99L);
+            verify(missionRepository).findDetailedById(99L);
             verifyNoInteractions(missionMapper);
         }
 
         @Test
         @DisplayName("Should throw AccessDeniedException when ninja is not assigned to mission")
         void shouldThrowAccessDeniedWhenNinjaIsNotAssigned() {
-            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(sasuke);
-            when(missionRepository.findById(missionB.getId())).thenReturn(Optional.of(missionB));
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(sasuke));
+            when(missionRepository.findDetailedById(missionB.getId())).thenReturn(Optional.of(missionB));
 
             assertThatThrownBy(() -> missionService.getMissionById(missionB.getId(), principal))
                     .isInstanceOf(AccessDeniedException.class)
                     .hasMessageContaining("You do not have permission to view this mission.");
 
-            verify(missionRepository).findById(missionB.getId());
+            verify(missionRepository).findDetailedById(missionB.getId());
             verifyNoInteractions(missionMapper);
         }
     }
@@ -221,9 +327,9 @@ public class MissionServiceTest {
         void shouldCreateMissionAsKage() {
             Mission mission = new Mission();
 
-            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(kage);
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(kage));
             when(missionRepository.existsByTitle(anyString())).thenReturn(false);
-            when(ninjaService.getNinjaEntityById(naruto.getId())).thenReturn(naruto);
+            when(ninjaService.getNinjaEntitiesByIds(Set.of(naruto.getId()))).thenReturn(List.of(naruto));
             when(missionMapper.dtoToEntity(any(MissionCreateRequest.class))).thenReturn(mission);
             when(missionRepository.save(any(Mission.class))).thenReturn(missionA);
             when(missionMapper.entityToDto(any(Mission.class))).thenReturn(missionAResponse);
@@ -233,11 +339,11 @@ public class MissionServiceTest {
             assertThat(result).isEqualTo(missionAResponse);
             verify(ninjaService).getAuthenticatedNinja(principal);
             verify(missionRepository).existsByTitle(missionCreateRequest.title());
-            verify(ninjaService).getNinjaEntityById(naruto.getId());
+            verify(ninjaService).getNinjaEntitiesByIds(Set.of(naruto.getId()));
             verify(missionRepository).save(any(Mission.class));
             verify(missionMapper).entityToDto(any(Mission.class));
 
-            verify(emailService).sendMissionAssignmentEmail(anyList(), anyString(), anyString(), anyString());
+            verify(eventPublisher).publishEvent(any(MissionAssignedEvent.class));
         }
 
         @Test
@@ -257,9 +363,9 @@ public class MissionServiceTest {
             mission.setDifficulty(highRankRequest.difficulty());
             mission.setAssignedNinjas(Set.of(sasuke));
 
-            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(kage);
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(kage));
             when(missionRepository.existsByTitle(anyString())).thenReturn(false);
-            when(ninjaService.getNinjaEntityById(sasuke.getId())).thenReturn(sasuke);
+            when(ninjaService.getNinjaEntitiesByIds(Set.of(sasuke.getId()))).thenReturn(List.of(sasuke));
             when(missionMapper.dtoToEntity(any(MissionCreateRequest.class))).thenReturn(mission);
             when(missionRepository.save(mission)).thenReturn(mission);
             when(missionMapper.entityToDto(any(Mission.class))).thenReturn(new MissionResponse(
@@ -269,13 +375,18 @@ public class MissionServiceTest {
 
             verify(missionRepository).save(mission);
             verify(missionMapper).entityToDto(mission);
-            verify(emailService).sendMissionAssignmentEmail(anyList(), eq(highRankRequest.title()), eq(highRankRequest.description()), eq(highRankRequest.difficulty().toString()));
+            verify(eventPublisher).publishEvent(new MissionAssignedEvent(
+                    mission.getId(),
+                    List.of(new NinjaEmailInfo(sasuke.getEmail(), sasuke.getName())),
+                    highRankRequest.title(),
+                    highRankRequest.description(),
+                    highRankRequest.difficulty().toString()));
         }
 
         @Test
         @DisplayName("Should throw AccessDeniedException for a non-Kage ninja")
         void shouldThrowAccessDeniedForNonKage() {
-            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(naruto);
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(naruto));
 
             assertThatThrownBy(() -> missionService.createMission(missionCreateRequest, principal))
                     .isInstanceOf(AccessDeniedException.class)
@@ -288,7 +399,7 @@ public class MissionServiceTest {
         @Test
         @DisplayName("Should throw ResourceConflictException for a duplicate title")
         void shouldThrowConflictForDuplicateTitle() {
-            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(kage);
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(kage));
             when(missionRepository.existsByTitle(anyString())).thenReturn(true);
 
             assertThatThrownBy(() -> missionService.createMission(missionCreateRequest, principal))
@@ -304,26 +415,44 @@ public class MissionServiceTest {
         void shouldThrowNotFoundForNonExistentNinja() {
             MissionCreateRequest badRequest = new MissionCreateRequest("Misión de entrenamiento", "Entrenamiento de combate", 50, MissionDifficulty.D, Set.of(999L));
 
-            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(kage);
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(kage));
             when(missionRepository.existsByTitle(anyString())).thenReturn(false);
-            when(ninjaService.getNinjaEntityById(999L)).thenThrow(new ResourceNotFoundException("Ninja not found with ID: 999"));
+            when(ninjaService.getNinjaEntitiesByIds(Set.of(999L))).thenReturn(List.of());
 
             assertThatThrownBy(() -> missionService.createMission(badRequest, principal))
                     .isInstanceOf(ResourceNotFoundException.class)
-                    .hasMessageContaining("Ninja not found with ID: 999");
+                    .hasMessage("Ninja not found with id 999");
 
             verify(ninjaService).getAuthenticatedNinja(principal);
             verify(missionRepository).existsByTitle(badRequest.title());
         }
 
+        @Test
+        @DisplayName("Should report every missing ninja ID in a single ResourceNotFoundException")
+        void shouldReportAllMissingNinjaIds() {
+            MissionCreateRequest badRequest = new MissionCreateRequest("Misión de entrenamiento", "Entrenamiento de combate", 50, MissionDifficulty.D, Set.of(naruto.getId(), 999L, 998L));
+
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(kage));
+            when(missionRepository.existsByTitle(anyString())).thenReturn(false);
+            when(ninjaService.getNinjaEntitiesByIds(badRequest.ninjaId())).thenReturn(List.of(naruto));
+
+            assertThatThrownBy(() -> missionService.createMission(badRequest, principal))
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessage("Ninjas not found with ids 998, 999");
+
+            verify(ninjaService).getNinjaEntitiesByIds(badRequest.ninjaId());
+            verify(ninjaService, never()).getNinjaEntityById(anyLong());
+            verify(missionRepository, never()).save(any(Mission.class));
+        }
+
         @Test
         @DisplayName("Should throw AccessDeniedException for a high-rank mission without a Jonin or higher ninja")
         void shouldThrowAccessDeniedForHighRankMission() {
             MissionCreateRequest highRankRequest = new MissionCreateRequest("Misión S", "Misión de alto rango", 5000, MissionDifficulty.S, Set.of(naruto.getId()));
 
-            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(kage);
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(kage));
             when(missionRepository.existsByTitle(anyString())).thenReturn(false);
-            when(ninjaService.getNinjaEntityById(naruto.getId())).thenReturn(naruto);
+            when(ninjaService.getNinjaEntitiesByIds(Set.of(naruto.getId()))).thenReturn(List.of(naruto));
 
             assertThatThrownBy(() -> missionService.createMission(highRankRequest, principal))
                     .isInstanceOf(AccessDeniedException.class)
@@ -331,7 +460,97 @@ public class MissionServiceTest {
 
             verify(ninjaService).getAuthenticatedNinja(principal);
             verify(missionRepository).existsByTitle(highRankRequest.title());
-            verify(ninjaService).getNinjaEntityById(naruto.getId());
+            verify(ninjaService).getNinjaEntitiesByIds(Set.of(naruto.getId()));
+        }
+    }
+
+    @Nested
+    @DisplayName("createMissions")
+    class CreateMissionsTests {
+        @BeforeEach
+        void setUpBatch() {
+            lenient().when(missionMapper.dtoToEntity(any(MissionCreateRequest.class))).thenAnswer(invocation -> {
+                MissionCreateRequest request = invocation.getArgument(0);
+                Mission newMission = new Mission();
+                newMission.setTitle(request.title());
+                newMission.setDescription(request.description());
+                newMission.setDifficulty(request.difficulty());
+                return newMission;
+            });
+        }
+
+        @Test
+        @DisplayName("Should create the valid missions and report why the others were rejected")
+        void shouldCreateValidMissionsAndRejectInvalidOnes() {
+            List<MissionCreateRequest> requests = List.of(
+                    new MissionCreateRequest("Patrulla", "Patrullar la frontera", 100, MissionDifficulty.D, Set.of(1L, 2L)),
+                    new MissionCreateRequest("Misión de limpieza", "Título ya usado", 50, MissionDifficulty.D, Set.of(1L)),
+                    new MissionCreateRequest("Escolta", "Ninja inexistente", 100, MissionDifficulty.C, Set.of(1L, 998L, 999L)),
+                    new MissionCreateRequest("Asalto", "Sin jonin", 5000, MissionDifficulty.S, Set.of(1L)),
+                    new MissionCreateRequest("Patrulla", "Repetida en el lote", 100, MissionDifficulty.D, Set.of(2L)));
+
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(kage));
+            when(missionRepository.findExistingTitles(anyCollection())).thenReturn(Set.of("Misión de limpieza"));
+            when(ninjaService.getNinjaEntitiesByIds(anyCollection())).thenReturn(List.of(naruto, sasuke));
+            when(missionRepository.saveAll(anyList())).thenAnswer(invocation -> {
+                List<Mission> missions = invocation.getArgument(0);
+                missions.forEach(newMission -> newMission.setId(10L));
+                return missions;
+            });
+
+            MissionBatchResponse result = missionService.createMissions(requests, principal);
+
+            assertThat(result.created()).isEqualTo(1);
+            assertThat(result.rejected()).isEqualTo(4);
+            assertThat(result.results()).containsExactly(
+                    MissionBatchItemResult.created(0, "Patrulla", 10L),
+                    MissionBatchItemResult.rejected(1, "Misión de limpieza", "Mission with this title already exists."),
+                    MissionBatchItemResult.rejected(2, "Escolta", "Ninjas not found with ids 998, 999"),
+                    MissionBatchItemResult.rejected(3, "Asalto", "High-rank missions must be assigned to at least one Jonin or higher-rank ninja."),
+                    MissionBatchItemResult.rejected(4, "Patrulla", "Mission with this title already exists."));
+
+            verify(missionRepository).findExistingTitles(Set.of("Patrulla", "Misión de limpieza", "Escolta", "Asalto"));
+            verify(ninjaService).getNinjaEntitiesByIds(Set.of(1L, 2L, 998L, 999L));
+            verify(ninjaService, never()).getNinjaEntityById(anyLong());
+            verify(missionRepository, never()).existsByTitle(anyString());
+            verify(eventPublisher).publishEvent(any(MissionAssignedEvent.class));
+        }
+
+        @Test
+        @DisplayName("Should save every mission with a single saveAll call")
+        void shouldSaveAcceptedMissionsTogether() {
+            List<MissionCreateRequest> requests = List.of(
+                    new MissionCreateRequest("Patrulla norte", "Patrullar", 100, MissionDifficulty.D, Set.of(1L)),
+                    new MissionCreateRequest("Patrulla sur", "Patrullar", 100, MissionDifficulty.D, Set.of(2L)));
+
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(kage));
+            when(missionRepository.findExistingTitles(anyCollection())).thenReturn(Set.of());
+            when(ninjaService.getNinjaEntitiesByIds(anyCollection())).thenReturn(List.of(naruto, sasuke));
+
+            MissionBatchResponse result = missionService.createMissions(requests, principal);
+
+            assertThat(result.created()).isEqualTo(2);
+            ArgumentCaptor<List<Mission>> savedMissions = ArgumentCaptor.captor();
+            verify(missionRepository).saveAll(savedMissions.capture());
+            assertThat(savedMissions.getValue())
+                    .extracting(Mission::getTitle, Mission::getStatus, Mission::getAssignedNinjas)
+                    .containsExactly(
+                            tuple("Patrulla norte", Status.PENDING, Set.of(naruto)),
+                            tuple("Patrulla sur", Status.PENDING, Set.of(sasuke)));
+            verify(missionRepository, never()).save(any(Mission.class));
+            verify(eventPublisher, times(2)).publishEvent(any(MissionAssignedEvent.class));
+        }
+
+        @Test
+        @DisplayName("Should throw AccessDeniedException for a non-Kage ninja")
+        void shouldThrowAccessDeniedForNonKage() {
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(naruto));
+
+            assertThatThrownBy(() -> missionService.createMissions(List.of(missionCreateRequest), principal))
+                    .isInstanceOf(AccessDeniedException.class)
+                    .hasMessageContaining("Only a Kage can create or manage missions.");
+
+            verifyNoInteractions(missionRepository);
         }
     }
 
@@ -346,8 +565,8 @@ public class MissionServiceTest {
 
             updatedMission.setTitle("Nuevo Titulo");
 
-            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(kage);
-            when(missionRepository.findById(missionA.getId())).thenReturn(Optional.of(missionA));
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(kage));
+            when(missionRepository.findDetailedById(missionA.getId())).thenReturn(Optional.of(missionA));
             when(missionRepository.existsByTitle("Nuevo Titulo")).thenReturn(false);
             when(missionRepository.save(any(Mission.class))).thenReturn(updatedMission);
             when(missionMapper.entityToDto(updatedMission)).thenReturn(new MissionResponse(1L, "Nuevo Titulo", null, null, null, null, null, null));
@@ -366,8 +585,8 @@ public class MissionServiceTest {
             Mission updatedMission = new Mission();
             updatedMission.setTitle(missionA.getTitle());
 
-            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(kage);
-            when(missionRepository.findById(missionA.getId())).thenReturn(Optional.of(missionA));
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(kage));
+            when(missionRepository.findDetailedById(missionA.getId())).thenReturn(Optional.of(missionA));
             when(missionRepository.save(any(Mission.class))).thenReturn(updatedMission);
             when(missionMapper.entityToDto(updatedMission)).thenReturn(new MissionResponse(1L, missionA.getTitle(), null, null, null, null, null, null));
 
@@ -382,55 +601,72 @@ public class MissionServiceTest {
         @Test
         @DisplayName("Should update mission as a Kage and change status to COMPLETED and update ninja count")
         void shouldUpdateMissionAsKageAndChangeStatus() {
-            Mission missionWithPendingStatus = new Mission(1L, "Misión de limpieza", "Limpia la propiedad del señor feudal", 50, MissionDifficulty.D, Status.PENDING, LocalDateTime.now(), Set.of(naruto));
+            Mission activeMission = new Mission(1L, "Misión de limpieza", "Limpia la propiedad del señor feudal", 50, MissionDifficulty.D, Status.ACTIVE, LocalDateTime.now(), Set.of(naruto), 0L);
             MissionUpdateRequest request = new MissionUpdateRequest(null, null, null, null, Status.COMPLETED, null);
-            Mission completedMission = new Mission(1L, "Misión de limpieza", "Limpia la propiedad del señor feudal", 50, MissionDifficulty.D, Status.COMPLETED, LocalDateTime.now(), Set.of(naruto));
+            Mission completedMission = new Mission(1L, "Misión de limpieza", "Limpia la propiedad del señor feudal", 50, MissionDifficulty.D, Status.COMPLETED, LocalDateTime.now(), Set.of(naruto), 0L);
 
-            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(kage);
-            when(missionRepository.findById(missionWithPendingStatus.getId())).thenReturn(Optional.of(missionWithPendingStatus));
-            doNothing().when(ninjaService).saveAllNinjas(anyList());
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(kage));
+            when(missionRepository.findDetailedById(activeMission.getId())).thenReturn(Optional.of(activeMission));
             when(missionRepository.save(any(Mission.class))).thenReturn(completedMission);
             when(missionMapper.entityToDto(completedMission)).thenReturn(new MissionResponse(1L, "Misión de limpieza", null, null, null, Status.COMPLETED, null, null));
 
-            MissionResponse result = missionService.updateMission(missionWithPendingStatus.getId(), request, principal);
+            MissionResponse result = missionService.updateMission(activeMission.getId(), request, principal);
 
             assertThat(result.status()).isEqualTo(Status.COMPLETED);
-            verify(missionMapper).updateEntityFromDto(request, missionWithPendingStatus);
-            verify(ninjaService).saveAllNinjas(anyList());
-            verify(missionRepository).save(missionWithPendingStatus);
+            verify(missionMapper).updateEntityFromDto(request, activeMission);
+            verify(ninjaService).incrementMissionsCompletedCount(1L);
+            verify(missionRepository).save(activeMission);
         }
 
         @Test
         @DisplayName("Should update mission as a ninja and change status to COMPLETED")
         void shouldUpdateMissionAsNinjaAndChangeStatus() {
-            Mission missionWithPendingStatus = new Mission(1L, "Misión de limpieza", "Limpia la propiedad del señor feudal", 50, MissionDifficulty.D, Status.PENDING, LocalDateTime.now(), Set.of(naruto));
+            Mission activeMission = new Mission(1L, "Misión de limpieza", "Limpia la propiedad del señor feudal", 50, MissionDifficulty.D, Status.ACTIVE, LocalDateTime.now(), Set.of(naruto), 0L);
             MissionUpdateRequest request = new MissionUpdateRequest(null, null, null, null, Status.COMPLETED, null);
-            Mission completedMission = new Mission(1L, "Misión de limpieza", "Limpia la propiedad del señor feudal", 50, MissionDifficulty.D, Status.COMPLETED, LocalDateTime.now(), Set.of(naruto));
+            Mission completedMission = new Mission(1L, "Misión de limpieza", "Limpia la propiedad del señor feudal", 50, MissionDifficulty.D, Status.COMPLETED, LocalDateTime.now(), Set.of(naruto), 0L);
 
-            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(naruto);
-            when(missionRepository.findById(missionWithPendingStatus.getId())).thenReturn(Optional.of(missionWithPendingStatus));
-            doNothing().when(ninjaService).saveAllNinjas(anyList());
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(naruto));
+            when(missionRepository.findDetailedById(activeMission.getId())).thenReturn(Optional.of(activeMission));
             when(missionRepository.save(any(Mission.class))).thenReturn(completedMission);
             when(missionMapper.entityToDto(completedMission)).thenReturn(new MissionResponse(1L, "Misión de limpieza", null, null, null, Status.COMPLETED, null, null));
 
-            MissionResponse result = missionService.updateMission(missionWithPendingStatus.getId(), request, principal);
+            MissionResponse result = missionService.updateMission(activeMission.getId(), request, principal);
 
             assertThat(result.status()).isEqualTo(Status.COMPLETED);
-            verify(missionRepository).save(missionWithPendingStatus);
-            verify(ninjaService).saveAllNinjas(anyList());
+            verify(missionRepository).save(activeMission);
+            verify(ninjaService).incrementMissionsCompletedCount(1L);
+            verify(eventPublisher).publishEvent(new MissionStatusChangedEvent(1L, "Misión de limpieza", Status.ACTIVE, Status.COMPLETED));
+        }
+
+        @Test
+        @DisplayName("Should throw ResourceConflictException when the status transition is not allowed")
+        void shouldThrowConflictForInvalidStatusTransition() {
+            MissionUpdateRequest request = new MissionUpdateRequest(null, null, null, null, Status.ACTIVE, null);
+
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(naruto));
+            when(missionRepository.findDetailedById(missionA.getId())).thenReturn(Optional.of(missionA));
+
+            assertThatThrownBy(() -> missionService.updateMission(missionA.getId(), request, principal))
+                    .isInstanceOf(ResourceConflictException.class)
+                    .hasMessage("Mission status cannot change from COMPLETED to ACTIVE.");
+
+            assertThat(missionA.getStatus()).isEqualTo(Status.COMPLETED);
+            verify(missionRepository, never()).save(any(Mission.class));
+            verify(ninjaService, never()).incrementMissionsCompletedCount(anyLong());
+            verifyNoInteractions(eventPublisher);
         }
 
         @Test
         @DisplayName("Should throw AccessDeniedException when non-assigned ninja tries to update a mission")
         void shouldThrowAccessDeniedWhenNonAssignedNinjaUpdates() {
-            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(sasuke);
-            when(missionRepository.findById(missionA.getId())).thenReturn(Optional.of(missionA));
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(sasuke));
+            when(missionRepository.findDetailedById(missionA.getId())).thenReturn(Optional.of(missionA));
 
             assertThatThrownBy(() -> missionService.updateMission(missionA.getId(), updateRequest, principal))
                     .isInstanceOf(AccessDeniedException.class)
                     .hasMessageContaining("Only the mission status can be updated by a assigned ninja.");
 
-            verify(missionRepository).findById(missionA.getId());
+            verify(missionRepository).findDetailedById(missionA.getId());
             verifyNoMoreInteractions(missionRepository);
         }
 
@@ -439,14 +675,14 @@ public class MissionServiceTest {
         void shouldThrowAccessDeniedWhenNinjaTriesToUpdateOtherField() {
             MissionUpdateRequest badRequest = new MissionUpdateRequest("Nuevo Título", null, null, null, null, null);
 
-            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(naruto);
-            when(missionRepository.findById(missionA.getId())).thenReturn(Optional.of(missionA));
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(naruto));
+            when(missionRepository.findDetailedById(missionA.getId())).thenReturn(Optional.of(missionA));
 
             assertThatThrownBy(() -> missionService.updateMission(missionA.getId(), badRequest, principal))
                     .isInstanceOf(AccessDeniedException.class)
                     .hasMessageContaining("Only the mission status can be updated by a assigned ninja.");
 
-            verify(missionRepository).findById(missionA.getId());
+            verify(missionRepository).findDetailedById(missionA.getId());
         }
 
         @Test
@@ -454,15 +690,15 @@ public class MissionServiceTest {
         void shouldThrowResourceConflictWhenKageUpdatesTitleToExisting() {
             MissionUpdateRequest badRequest = new MissionUpdateRequest(missionB.getTitle(), null, null, null, null, null);
 
-            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(kage);
-            when(missionRepository.findById(missionA.getId())).thenReturn(Optional.of(missionA));
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(kage));
+            when(missionRepository.findDetailedById(missionA.getId())).thenReturn(Optional.of(missionA));
             when(missionRepository.existsByTitle(missionB.getTitle())).thenReturn(true);
 
             assertThatThrownBy(() -> missionService.updateMission(missionA.getId(), badRequest, principal))
                     .isInstanceOf(ResourceConflictException.class)
                     .hasMessageContaining("Mission with this title already exists.");
 
-            verify(missionRepository).findById(missionA.getId());
+            verify(missionRepository).findDetailedById(missionA.getId());
             verify(missionRepository).existsByTitle(missionB.getTitle());
         }
     }
@@ -473,42 +709,42 @@ public class MissionServiceTest {
         @Test
         @DisplayName("Should delete a mission successfully as a kage")
         void shouldDeleteMissionAsKage(){
-            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(kage);
-            when(missionRepository.findById(missionA.getId())).thenReturn(Optional.of(missionA));
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(kage));
+            when(missionRepository.findDetailedById(missionA.getId())).thenReturn(Optional.of(missionA));
 
             missionService.deleteMission(missionA.getId(), principal);
 
             verify(ninjaService).getAuthenticatedNinja(principal);
-            verify(missionRepository).findById(missionA.getId());
+            verify(missionRepository).findDetailedById(missionA.getId());
             verify(missionRepository).delete(missionA);
         }
 
         @Test
         @DisplayName("Should throw AccessDeniedException for a nin-kage ninja")
         void shouldThrowAccessDeniedForNonKage() {
-            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(naruto);
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(naruto));
 
             assertThatThrownBy(() -> missionService.deleteMission(missionA.getId(), principal))
                     .isInstanceOf(AccessDeniedException.class)
                     .hasMessageContaining("Only a Kage can create or manage missions.");
 
             verify(ninjaService).getAuthenticatedNinja(principal);
-            verify(missionRepository, never()).findById(anyLong());
+            verify(missionRepository, never()).findDetailedById(anyLong());
             verify(missionRepository, never()).delete(any(Mission.class));
         }
 
         @Test
         @DisplayName("Should throw ResourceNotFoundException when mission does not exist")
         void shouldThrowExceptionWhenMissionNotFound(){
-            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(kage);
-            when(missionRepository.findById(99L)).thenReturn(Optional.empty());
+            when(ninjaService.getAuthenticatedNinja(principal)).thenReturn(new NinjaUserDetail(kage));
+            when(missionRepository.findDetailedById(99L)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> missionService.deleteMission(99L, principal))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessageContaining("Mission not found with ID: 99");
 
             verify(ninjaService).getAuthenticatedNinja(principal);
-            verify(missionRepository).findById(99L);
+            verify(missionRepository).findDetailedById(99L);
             verify(missionRepository, never()).delete(any(Mission.class));
         }
     }
@@ -0,0 +1,121 @@
+package com.konoha.NinjaMissionManager.services;
+
+import com.konoha.NinjaMissionManager.dtos.mission.MissionUpdateRequest;
+import com.konoha.NinjaMissionManager.models.Status;
+import com.konoha.NinjaMissionManager.repositories.MissionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql(scripts = "/test-data.sql", statements = "UPDATE missions SET status = 'ACTIVE' WHERE id = 1")
+@DisplayName("Concurrent mission status transitions")
+public class MissionStatusConcurrencyTest {
+    private static final MissionUpdateRequest COMPLETE = new MissionUpdateRequest(null, null, null, null, Status.COMPLETED, null);
+    private static final List<Principal> ASSIGNED_NINJAS = List.of(
+            () -> "naruto@gmail.com",
+            () -> "sasuke@gmail.com",
+            () -> "kakashi@gmail.com",
+            () -> "sakura@gmail.com");
+
+    @Autowired
+    private MissionService missionService;
+
+    @Autowired
+    private MissionRepository missionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+    private TransactionTemplate newTransactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        newTransactionTemplate = new TransactionTemplate(transactionManager);
+        newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Test
+    @DisplayName("Should reject a completion based on a stale read and count the mission once")
+    void shouldRejectStaleCompletion() {
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            missionRepository.findDetailedById(1L).orElseThrow();
+
+            newTransactionTemplate.executeWithoutResult(inner -> missionService.updateMission(1L, COMPLETE, ASSIGNED_NINJAS.get(0)));
+
+            missionService.updateMission(1L, COMPLETE, ASSIGNED_NINJAS.get(1));
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        assertThat(missionStatus()).isEqualTo("COMPLETED");
+        assertThat(completedCount(1L)).isEqualTo(501);
+        assertThat(completedCount(2L)).isEqualTo(401);
+    }
+
+    @Test
+    @DisplayName("Should increment the counters once when every assigned ninja completes the mission at the same time")
+    void shouldCountConcurrentCompletionsOnce() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(ASSIGNED_NINJAS.size());
+        int conflicts = 0;
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (Principal ninja : ASSIGNED_NINJAS) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return missionService.updateMission(1L, COMPLETE, ninja);
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                try {
+                    result.get();
+                } catch (ExecutionException exception) {
+                    assertThat(exception.getCause()).isInstanceOf(OptimisticLockingFailureException.class);
+                    conflicts++;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(conflicts).isLessThan(ASSIGNED_NINJAS.size());
+        assertThat(missionStatus()).isEqualTo("COMPLETED");
+        assertThat(completedCount(1L)).isEqualTo(501);
+        assertThat(completedCount(7L)).isEqualTo(501);
+    }
+
+    private String missionStatus() {
+        return jdbcTemplate.queryForObject("SELECT status FROM missions WHERE id = 1", String.class);
+    }
+
+    private int completedCount(Long ninjaId) {
+        return jdbcTemplate.queryForObject("SELECT missions_completed_count FROM ninjas WHERE id = ?", Integer.class, ninjaId);
+    }
+}
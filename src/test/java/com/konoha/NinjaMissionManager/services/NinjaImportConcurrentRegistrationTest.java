@@ -0,0 +1,111 @@
+package com.konoha.NinjaMissionManager.services;
+
+import com.konoha.NinjaMissionManager.repositories.NinjaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.ninjas.import.chunk-size=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Sql(scripts = "/test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@DisplayName("POST /ninjas/import reports what was saved when another request registers the same email")
+public class NinjaImportConcurrentRegistrationTest {
+    private static final MediaType TEXT_CSV = MediaType.valueOf("text/csv");
+    private static final String CSV = """
+            name,email,password,rank,villageId,isAnbu
+            Rock Lee,lee@gmail.com,Lee12345.,GENIN,1,false
+            Neji Hyuga,neji@gmail.com,Neji12345.,CHUNIN,1,false
+            Tenten,tenten@gmail.com,Tenten12345.,GENIN,1,false
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    private PasswordHasher passwordHasher;
+
+    @SpyBean
+    private NinjaRepository ninjaRepository;
+
+    @Test
+    @WithMockUser(roles = "KAGE", username = "tsunade@gmail.com")
+    @DisplayName("Should reject only the row whose email was registered while the chunk was being hashed")
+    void shouldRejectRowRegisteredDuringHashing() throws Exception {
+        registerNejiWhileHashingFirstChunk();
+
+        mockMvc.perform(post("/ninjas/import")
+                        .contentType(TEXT_CSV)
+                        .content(CSV))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported", is(2)))
+                .andExpect(jsonPath("$.rejected", is(1)))
+                .andExpect(jsonPath("$.rejections[*].line", contains(3)))
+                .andExpect(jsonPath("$.rejections[0].message", is("Email is already registered: neji@gmail.com")));
+
+        assertThat(importedEmails()).containsExactlyInAnyOrder("lee@gmail.com", "tenten@gmail.com");
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM ninjas WHERE email = 'neji@gmail.com'", String.class))
+                .isEqualTo("Neji de otra peticion");
+    }
+
+    @Test
+    @WithMockUser(roles = "KAGE", username = "tsunade@gmail.com")
+    @DisplayName("Should report a chunk rolled back by the unique email constraint and keep importing the next chunks")
+    void shouldReportChunkRolledBackByUniqueConstraint() throws Exception {
+        registerNejiWhileHashingFirstChunk();
+        // Ninguna comprobacion ve el registro concurrente a tiempo: el INSERT choca con el indice unico
+        doReturn(Set.of()).when(ninjaRepository).findExistingEmails(anyCollection());
+
+        mockMvc.perform(post("/ninjas/import")
+                        .contentType(TEXT_CSV)
+                        .content(CSV))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported", is(1)))
+                .andExpect(jsonPath("$.rejected", is(2)))
+                .andExpect(jsonPath("$.rejections[*].line", contains(2, 3)))
+                .andExpect(jsonPath("$.rejections[0].message", startsWith("Not imported: its chunk was rolled back")))
+                .andExpect(jsonPath("$.rejections[1].message", startsWith("Not imported: its chunk was rolled back")));
+
+        assertThat(importedEmails()).containsExactly("tenten@gmail.com");
+    }
+
+    private void registerNejiWhileHashingFirstChunk() {
+        doAnswer(invocation -> {
+            jdbcTemplate.update("""
+                    INSERT INTO ninjas (name, email, password, missions_completed_count, ninja_rank, is_anbu, village_id)
+                    VALUES ('Neji de otra peticion', 'neji@gmail.com', 'hash', 0, 'CHUNIN', FALSE, 1)""");
+            return invocation.callRealMethod();
+        }).doCallRealMethod().when(passwordHasher).encodeAll(anyList());
+    }
+
+    private Set<String> importedEmails() {
+        return Set.copyOf(jdbcTemplate.queryForList(
+                "SELECT email FROM ninjas WHERE email IN ('lee@gmail.com', 'neji@gmail.com', 'tenten@gmail.com') AND name <> 'Neji de otra peticion'",
+                String.class));
+    }
+}
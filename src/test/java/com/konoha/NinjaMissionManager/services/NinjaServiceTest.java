@@ -1,5 +1,6 @@
 package com.konoha.NinjaMissionManager.services;
 
+import com.konoha.NinjaMissionManager.dtos.common.PageResponse;
 import com.konoha.NinjaMissionManager.dtos.mission.MissionMapper;
 import com.konoha.NinjaMissionManager.dtos.ninja.*;
 import com.konoha.NinjaMissionManager.exceptions.ResourceConflictException;
@@ -9,6 +10,8 @@ import com.konoha.NinjaMissionManager.models.Rank;
 import com.konoha.NinjaMissionManager.models.Role;
 import com.konoha.NinjaMissionManager.models.Village;
 import com.konoha.NinjaMissionManager.repositories.NinjaRepository;
+import com.konoha.NinjaMissionManager.security.NinjaUserDetail;
+import com.konoha.NinjaMissionManager.security.NinjaUserDetailsCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,14 +21,23 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import java.security.Principal;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
@@ -50,6 +62,9 @@ public class NinjaServiceTest {
     @Mock
     private Principal principal;
 
+    @Mock
+    private NinjaUserDetailsCache userDetailsCache;
+
     @InjectMocks
     private NinjaService ninjaService;
 
@@ -62,9 +77,9 @@ public class NinjaServiceTest {
 
     @BeforeEach
     void setUp() {
-        naruto = new Ninja(1L, "Naruto Uzumaki", "naruto@konoha.com", "pass", Rank.GENIN, new Village(), 0, false, Set.of(Role.ROLE_NINJA_USER), Collections.emptySet());
-        sasuke = new Ninja(2L, "Sasuke Uchiha", "sasuke@konoha.com", "pass", Rank.GENIN, new Village(), 0, false, Set.of(Role.ROLE_NINJA_USER), Collections.emptySet());
-        kage = new Ninja(3L, "Tsunade Senju", "tsunade@konoha.com", "pass", Rank.KAGE, new Village(), 0, false, Set.of(Role.ROLE_KAGE), Collections.emptySet());
+        naruto = new Ninja(1L, "Naruto Uzumaki", "naruto@konoha.com", "pass", Rank.GENIN, new Village(), 0, false, Set.of(Role.ROLE_NINJA_USER), Collections.emptySet(), 0L);
+        sasuke = new Ninja(2L, "Sasuke Uchiha", "sasuke@konoha.com", "pass", Rank.GENIN, new Village(), 0, false, Set.of(Role.ROLE_NINJA_USER), Collections.emptySet(), 0L);
+        kage = new Ninja(3L, "Tsunade Senju", "tsunade@konoha.com", "pass", Rank.KAGE, new Village(), 0, false, Set.of(Role.ROLE_KAGE), Collections.emptySet(), 0L);
 
         narutoResponse = new NinjaResponse(1L, "Naruto Uzumaki", "naruto@konoha.com", "GENIN", "Konoha", 0, false, Collections.emptySet());
         sasukeResponse = new NinjaResponse(2L, "Sasuke Uchiha", "sasuke@konoha.com", "GENIN", "Konoha", 0, false, Collections.emptySet());
@@ -74,6 +89,7 @@ public class NinjaServiceTest {
     @Nested
     @DisplayName("getAllNinjas")
     class GetAllNinjasTests {
+        private final Pageable pageable = PageRequest.of(0, 20);
 
         @Nested
         @DisplayName("Security Logic")
@@ -84,12 +100,12 @@ public class NinjaServiceTest {
                 when(principal.getName()).thenReturn(naruto.getEmail());
                 when(ninjaRepository.findByEmail(naruto.getEmail())).thenReturn(Optional.of(naruto));
 
-                assertThatThrownBy(() -> ninjaService.getAllNinjas(Optional.empty(), Optional.empty(), Optional.empty(), principal))
+                assertThatThrownBy(() -> ninjaService.getAllNinjas(Optional.empty(), Optional.empty(), Optional.empty(), pageable, true, false, principal))
                         .isInstanceOf(AccessDeniedException.class)
                         .hasMessageContaining("You are not authorized to perform this operation.");
 
                 verify(ninjaRepository).findByEmail(naruto.getEmail());
-                verify(ninjaRepository, never()).findAll(any(Specification.class));
+                verify(ninjaRepository, never()).findBy(any(Specification.class), any());
                 verifyNoInteractions(ninjaMapper);
             }
         }
@@ -106,86 +122,149 @@ public class NinjaServiceTest {
             @Test
             @DisplayName("Should return all ninjas without filters when user is a Kage")
             void shouldReturnAllWithoutFilters() {
-                when(ninjaRepository.findAll(any(Specification.class))).thenReturn(List.of(naruto, sasuke));
+                when(ninjaRepository.findBy(any(Specification.class), any())).thenReturn(new PageImpl<>(List.of(naruto, sasuke)));
                 when(ninjaMapper.entityToDto(eq(naruto), any())).thenReturn(narutoResponse);
                 when(ninjaMapper.entityToDto(eq(sasuke), any())).thenReturn(sasukeResponse);
 
-                List<NinjaResponse> result = ninjaService.getAllNinjas(Optional.empty(), Optional.empty(), Optional.empty(), principal);
+                PageResponse<NinjaResponse> result = ninjaService.getAllNinjas(Optional.empty(), Optional.empty(), Optional.empty(), pageable, true, false, principal);
 
-                assertThat(result).hasSize(2).containsExactly(narutoResponse, sasukeResponse);
+                assertThat(result.content()).hasSize(2).containsExactly(narutoResponse, sasukeResponse);
                 verify(ninjaRepository).findByEmail(kage.getEmail());
-                verify(ninjaRepository).findAll(any(Specification.class));
+                verify(ninjaRepository).findBy(any(Specification.class), any());
                 verify(ninjaMapper, times(2)).entityToDto(any(Ninja.class), any());
             }
 
             @Test
             @DisplayName("Should return ninjas filtered by rank")
             void shouldReturnFilteredByRank() {
-                when(ninjaRepository.findAll(any(Specification.class))).thenReturn(List.of(naruto));
+                when(ninjaRepository.findBy(any(Specification.class), any())).thenReturn(new PageImpl<>(List.of(naruto)));
                 when(ninjaMapper.entityToDto(naruto, missionMapper)).thenReturn(narutoResponse);
 
-                List<NinjaResponse> result = ninjaService.getAllNinjas(
+                PageResponse<NinjaResponse> result = ninjaService.getAllNinjas(
                         Optional.of(Rank.GENIN),
                         Optional.empty(),
                         Optional.empty(),
+                        pageable,
+                        true,
+                        false,
                         principal);
 
-                assertThat(result).hasSize(1).containsExactly(narutoResponse);
+                assertThat(result.content()).hasSize(1).containsExactly(narutoResponse);
                 verify(ninjaRepository).findByEmail(kage.getEmail());
-                verify(ninjaRepository).findAll(any(Specification.class));
+                verify(ninjaRepository).findBy(any(Specification.class), any());
             }
 
             @Test
             @DisplayName("Should return ninjas filtered by village")
             void shouldReturnFilteredByVillage() {
-                when(ninjaRepository.findAll(any(Specification.class))).thenReturn(List.of(naruto));
+                when(ninjaRepository.findBy(any(Specification.class), any())).thenReturn(new PageImpl<>(List.of(naruto)));
                 when(ninjaMapper.entityToDto(naruto, missionMapper)).thenReturn(narutoResponse);
 
-                List<NinjaResponse> result = ninjaService.getAllNinjas(
+                PageResponse<NinjaResponse> result = ninjaService.getAllNinjas(
                         Optional.empty(),
                         Optional.of(1L),
                         Optional.empty(),
+                        pageable,
+                        true,
+                        false,
                         principal);
 
-                assertThat(result).hasSize(1).containsExactly(narutoResponse);
+                assertThat(result.content()).hasSize(1).containsExactly(narutoResponse);
                 verify(ninjaRepository).findByEmail(kage.getEmail());
-                verify(ninjaRepository).findAll(any(Specification.class));
+                verify(ninjaRepository).findBy(any(Specification.class), any());
             }
 
             @Test
             @DisplayName("Should return ninjas filtered by if is Anbu")
             void shouldReturnFilteredByIsAnbu() {
-                when(ninjaRepository.findAll(any(Specification.class))).thenReturn(List.of(naruto));
+                when(ninjaRepository.findBy(any(Specification.class), any())).thenReturn(new PageImpl<>(List.of(naruto)));
                 when(ninjaMapper.entityToDto(naruto, missionMapper)).thenReturn(narutoResponse);
 
-                List<NinjaResponse> result = ninjaService.getAllNinjas(
+                PageResponse<NinjaResponse> result = ninjaService.getAllNinjas(
                         Optional.empty(),
                         Optional.empty(),
                         Optional.of(true),
+                        pageable,
+                        true,
+                        false,
                         principal);
 
-                assertThat(result).hasSize(1).containsExactly(narutoResponse);
+                assertThat(result.content()).hasSize(1).containsExactly(narutoResponse);
                 verify(ninjaRepository).findByEmail(kage.getEmail());
-                verify(ninjaRepository).findAll(any(Specification.class));
+                verify(ninjaRepository).findBy(any(Specification.class), any());
             }
 
             @Test
             @DisplayName("Should return empty list when no results match filters")
             void shouldReturnEmptyWhenNoMatch() {
-                when(ninjaRepository.findAll(any(Specification.class))).thenReturn(Collections.emptyList());
+                when(ninjaRepository.findBy(any(Specification.class), any())).thenReturn(Page.empty(pageable));
 
-                List<NinjaResponse> result = ninjaService.getAllNinjas(
+                PageResponse<NinjaResponse> result = ninjaService.getAllNinjas(
                         Optional.of(Rank.GENIN),
                         Optional.of(99L),
                         Optional.of(false),
+                        pageable,
+                        true,
+                        false,
                         principal);
 
-                assertThat(result).isEmpty();
+                assertThat(result.content()).isEmpty();
                 verify(ninjaRepository).findByEmail(kage.getEmail());
-                verify(ninjaRepository).findAll(any(Specification.class));
+                verify(ninjaRepository).findBy(any(Specification.class), any());
                 verifyNoInteractions(ninjaMapper);
             }
         }
+
+        @Nested
+        @DisplayName("Pagination Logic")
+        class PaginationLogic {
+            @BeforeEach
+            void mockKagePrincipal() {
+                when(principal.getName()).thenReturn(kage.getEmail());
+                when(ninjaRepository.findByEmail(kage.getEmail())).thenReturn(Optional.of(kage));
+            }
+
+            @Test
+            @DisplayName("Should include the totals when the page is counted")
+            void shouldIncludeTotalsForPage() {
+                when(ninjaRepository.findBy(any(Specification.class), any())).thenReturn(new PageImpl<>(List.of(naruto), PageRequest.of(0, 1), 7));
+                when(ninjaMapper.entityToDto(naruto, missionMapper)).thenReturn(narutoResponse);
+
+                PageResponse<NinjaResponse> result = ninjaService.getAllNinjas(Optional.empty(), Optional.empty(), Optional.empty(), PageRequest.of(0, 1), true, false, principal);
+
+                assertThat(result.content()).containsExactly(narutoResponse);
+                assertThat(result.totalElements()).isEqualTo(7L);
+                assertThat(result.totalPages()).isEqualTo(7);
+                assertThat(result.hasNext()).isTrue();
+            }
+
+            @Test
+            @DisplayName("Should leave the totals out when the slice is not counted")
+            void shouldLeaveTotalsOutForSlice() {
+                when(ninjaRepository.findBy(any(Specification.class), any())).thenReturn(new SliceImpl<>(List.of(naruto), PageRequest.of(0, 1), true));
+                when(ninjaMapper.entityToDto(naruto, missionMapper)).thenReturn(narutoResponse);
+
+                PageResponse<NinjaResponse> result = ninjaService.getAllNinjas(Optional.empty(), Optional.empty(), Optional.empty(), PageRequest.of(0, 1), false, false, principal);
+
+                assertThat(result.content()).containsExactly(narutoResponse);
+                assertThat(result.totalElements()).isNull();
+                assertThat(result.totalPages()).isNull();
+                assertThat(result.hasNext()).isTrue();
+            }
+
+            @Test
+            @DisplayName("Should map to the slim view without assigned missions")
+            void shouldMapToSlimView() {
+                NinjaResponse slimResponse = new NinjaResponse(1L, "Naruto Uzumaki", "naruto@konoha.com", "GENIN", "Konoha", 0, false, null);
+                when(ninjaRepository.findBy(any(Specification.class), any())).thenReturn(new PageImpl<>(List.of(naruto)));
+                when(ninjaMapper.entityToSlimDto(naruto)).thenReturn(slimResponse);
+
+                PageResponse<NinjaResponse> result = ninjaService.getAllNinjas(Optional.empty(), Optional.empty(), Optional.empty(), pageable, true, true, principal);
+
+                assertThat(result.content()).containsExactly(slimResponse);
+                verify(ninjaMapper, never()).entityToDto(any(Ninja.class), any());
+            }
+        }
     }
 
 
@@ -197,14 +276,14 @@ public class NinjaServiceTest {
         void shouldReturnNinjaForOwner() {
             when(principal.getName()).thenReturn(naruto.getEmail());
             when(ninjaRepository.findByEmail(naruto.getEmail())).thenReturn(Optional.of(naruto));
-            when(ninjaRepository.findById(naruto.getId())).thenReturn(Optional.of(naruto));
+            when(ninjaRepository.findDetailedById(naruto.getId())).thenReturn(Optional.of(naruto));
             when(ninjaMapper.entityToDto(eq(naruto), any())).thenReturn(narutoResponse);
 
             NinjaResponse result = ninjaService.getNinjaById(naruto.getId(), principal);
 
             assertThat(result).isEqualTo(narutoResponse);
             verify(ninjaRepository).findByEmail(naruto.getEmail());
-            verify(ninjaRepository).findById(naruto.getId());
+            verify(ninjaRepository).findDetailedById(naruto.getId());
             verify(ninjaMapper).entityToDto(eq(naruto), any());
         }
 
@@ -213,14 +292,14 @@ public class NinjaServiceTest {
         void shouldReturnNinjaForKage() {
             when(principal.getName()).thenReturn(kage.getEmail());
             when(ninjaRepository.findByEmail(kage.getEmail())).thenReturn(Optional.of(kage));
-            when(ninjaRepository.findById(naruto.getId())).thenReturn(Optional.of(naruto));
+            when(ninjaRepository.findDetailedById(naruto.getId())).thenReturn(Optional.of(naruto));
             when(ninjaMapper.entityToDto(eq(naruto), any())).thenReturn(narutoResponse);
 
             NinjaResponse result = ninjaService.getNinjaById(naruto.getId(), principal);
 
             assertThat(result).isEqualTo(narutoResponse);
             verify(ninjaRepository).findByEmail(kage.getEmail());
-            verify(ninjaRepository).findById(naruto.getId());
+            verify(ninjaRepository).findDetailedById(naruto.getId());
             verify(ninjaMapper).entityToDto(eq(naruto), any());
         }
 
@@ -235,7 +314,7 @@ public class NinjaServiceTest {
                     .hasMessageContaining("You are not authorized to view this ninja's data.");
 
             verify(ninjaRepository).findByEmail(sasuke.getEmail());
-            verify(ninjaRepository, never()).findById(anyLong());
+            verify(ninjaRepository, never()).findDetailedById(anyLong());
             verifyNoInteractions(ninjaMapper);
         }
 
@@ -244,14 +323,14 @@ public class NinjaServiceTest {
         void shouldThrowExceptionWhenIdNotFound() {
             when(principal.getName()).thenReturn(kage.getEmail());
             when(ninjaRepository.findByEmail(kage.getEmail())).thenReturn(Optional.of(kage));
-            when(ninjaRepository.findById(99L)).thenReturn(Optional.empty());
+            when(ninjaRepository.findDetailedById(99L)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> ninjaService.getNinjaById(99L, principal))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessageContaining("Ninja not found with ID: 99");
 
             verify(ninjaRepository).findByEmail(kage.getEmail());
-            verify(ninjaRepository).findById(99L);
+            verify(ninjaRepository).findDetailedById(99L);
             verifyNoInteractions(ninjaMapper);
         }
     }
@@ -408,7 +487,7 @@ public class NinjaServiceTest {
         void shouldUpdateNinjaWhenIsOwner() {
             when(principal.getName()).thenReturn(naruto.getEmail());
             when(ninjaRepository.findByEmail(naruto.getEmail())).thenReturn(Optional.of(naruto));
-            when(ninjaRepository.findById(naruto.getId())).thenReturn(Optional.of(naruto));
+            when(ninjaRepository.findDetailedById(naruto.getId())).thenReturn(Optional.of(naruto));
             when(ninjaRepository.existsByEmail(updateRequest.email())).thenReturn(false);
             when(passwordEncoder.encode(updateRequest.password())).thenReturn("encodedNewNaruto12345.");
             when(ninjaRepository.save(any(Ninja.class))).then(returnsFirstArg());
@@ -425,7 +504,7 @@ public class NinjaServiceTest {
             assertThat(savedNinja.getName()).isEqualTo(updateRequest.name());
             assertThat(savedNinja.getEmail()).isEqualTo(updateRequest.email());
             assertThat(savedNinja.getPassword()).isEqualTo("encodedNewNaruto12345.");
-
+            verify(userDetailsCache).evict("naruto@konoha.com", updateRequest.email());
         }
 
         @Test
@@ -438,7 +517,7 @@ public class NinjaServiceTest {
                     .isInstanceOf(AccessDeniedException.class)
                     .hasMessageContaining("You are not authorized to update this ninja's data.");
 
-            verify(ninjaRepository, never()).findById(anyLong());
+            verify(ninjaRepository, never()).findDetailedById(anyLong());
             verify(ninjaRepository, never()).save(any(Ninja.class));
         }
 
@@ -447,7 +526,7 @@ public class NinjaServiceTest {
         void shouldThrowNotFoundWhenNinjaDoesNotExist() {
             when(principal.getName()).thenReturn(naruto.getEmail());
             when(ninjaRepository.findByEmail(naruto.getEmail())).thenReturn(Optional.of(naruto));
-            when(ninjaRepository.findById(naruto.getId())).thenReturn(Optional.empty());
+            when(ninjaRepository.findDetailedById(naruto.getId())).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> ninjaService.updateNinja(naruto.getId(), updateRequest, principal))
                     .isInstanceOf(ResourceNotFoundException.class)
@@ -461,7 +540,7 @@ public class NinjaServiceTest {
         void shouldThrowConflictWhenEmailIsTaken() {
             when(principal.getName()).thenReturn(naruto.getEmail());
             when(ninjaRepository.findByEmail(naruto.getEmail())).thenReturn(Optional.of(naruto));
-            when(ninjaRepository.findById(naruto.getId())).thenReturn(Optional.of(naruto));
+            when(ninjaRepository.findDetailedById(naruto.getId())).thenReturn(Optional.of(naruto));
             when(ninjaRepository.existsByEmail(updateRequest.email())).thenReturn(true);
 
             assertThatThrownBy(() -> ninjaService.updateNinja(naruto.getId(), updateRequest, principal))
@@ -494,7 +573,7 @@ public class NinjaServiceTest {
         @Test
         @DisplayName("Should update ninja successfully when all attributes are valid")
         void shouldUpdateNinjaSuccessfullyWhenAllAttributesAreValid() {
-            when(ninjaRepository.findById(naruto.getId())).thenReturn(Optional.of(naruto));
+            when(ninjaRepository.findDetailedById(naruto.getId())).thenReturn(Optional.of(naruto));
             when(ninjaRepository.existsByEmail(updateRequest.email())).thenReturn(false);
             when(ninjaRepository.save(any(Ninja.class))).then(returnsFirstArg());
             when(ninjaMapper.entityToDto(any(Ninja.class), eq(missionMapper))).thenReturn(narutoResponse);
@@ -513,6 +592,7 @@ public class NinjaServiceTest {
             assertThat(savedNinja.isAnbu()).isEqualTo(updateRequest.isAnbu());
             assertThat(savedNinja.getVillage()).isEqualTo(newVillage);
             assertThat(savedNinja.getRoles()).isEqualTo(updateRequest.roles());
+            verify(userDetailsCache).evict("naruto@konoha.com", updateRequest.email());
         }
 
         @Test
@@ -527,7 +607,7 @@ public class NinjaServiceTest {
                     Set.of(Role.ROLE_KAGE)
             );
 
-            when(ninjaRepository.findById(naruto.getId())).thenReturn(Optional.of(naruto));
+            when(ninjaRepository.findDetailedById(naruto.getId())).thenReturn(Optional.of(naruto));
             when(ninjaRepository.save(any(Ninja.class))).then(returnsFirstArg());
             when(ninjaMapper.entityToDto(any(Ninja.class), eq(missionMapper))).thenReturn(narutoResponse);
 
@@ -544,13 +624,13 @@ public class NinjaServiceTest {
         @Test
         @DisplayName("Should throw ResourceNotFoundException when ninja to update does not exist")
         void shouldThrowNotFoundWhenNinjaDoesNotExist() {
-            when(ninjaRepository.findById(99L)).thenReturn(Optional.empty());
+            when(ninjaRepository.findDetailedById(99L)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> ninjaService.updateAsKageInternal(99L, updateRequest, newVillage))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessageContaining("Ninja not found with ID: 99");
 
-            verify(ninjaRepository).findById(99L);
+            verify(ninjaRepository).findDetailedById(99L);
             verify(ninjaRepository, never()).save(any(Ninja.class));
             verifyNoMoreInteractions(ninjaRepository, ninjaMapper);
         }
@@ -558,14 +638,14 @@ public class NinjaServiceTest {
         @Test
         @DisplayName("Should throw ResourceConflictException when new email is already taken")
         void shouldThrowConflictWhenEmailIsTaken() {
-            when(ninjaRepository.findById(naruto.getId())).thenReturn(Optional.of(naruto));
+            when(ninjaRepository.findDetailedById(naruto.getId())).thenReturn(Optional.of(naruto));
             when(ninjaRepository.existsByEmail(updateRequest.email())).thenReturn(true);
 
             assertThatThrownBy(() -> ninjaService.updateAsKageInternal(naruto.getId(), updateRequest, newVillage))
                     .isInstanceOf(ResourceConflictException.class)
                     .hasMessageContaining("Email is already taken");
 
-            verify(ninjaRepository).findById(naruto.getId());
+            verify(ninjaRepository).findDetailedById(naruto.getId());
             verify(ninjaRepository).existsByEmail(updateRequest.email());
             verify(ninjaRepository, never()).save(any(Ninja.class));
             verifyNoMoreInteractions(ninjaRepository, ninjaMapper);
@@ -581,13 +661,14 @@ public class NinjaServiceTest {
         void shouldDeleteWhenOwner() {
             when(principal.getName()).thenReturn(naruto.getEmail());
             when(ninjaRepository.findByEmail(naruto.getEmail())).thenReturn(Optional.of(naruto));
-            when(ninjaRepository.findById(naruto.getId())).thenReturn(Optional.of(naruto));
+            when(ninjaRepository.findDetailedById(naruto.getId())).thenReturn(Optional.of(naruto));
 
             ninjaService.deleteNinja(naruto.getId(), principal);
 
             verify(ninjaRepository).findByEmail(naruto.getEmail());
-            verify(ninjaRepository).findById(naruto.getId());
+            verify(ninjaRepository).findDetailedById(naruto.getId());
             verify(ninjaRepository).delete(naruto);
+            verify(userDetailsCache).evict(naruto.getEmail());
         }
 
         @Test
@@ -595,12 +676,12 @@ public class NinjaServiceTest {
         void shouldDeleteWhenKage() {
             when(principal.getName()).thenReturn(kage.getEmail());
             when(ninjaRepository.findByEmail(kage.getEmail())).thenReturn(Optional.of(kage));
-            when(ninjaRepository.findById(naruto.getId())).thenReturn(Optional.of(naruto));
+            when(ninjaRepository.findDetailedById(naruto.getId())).thenReturn(Optional.of(naruto));
 
             ninjaService.deleteNinja(naruto.getId(), principal);
 
             verify(ninjaRepository).findByEmail(kage.getEmail());
-            verify(ninjaRepository).findById(naruto.getId());
+            verify(ninjaRepository).findDetailedById(naruto.getId());
             verify(ninjaRepository).delete(naruto);
         }
 
@@ -615,7 +696,7 @@ public class NinjaServiceTest {
                     .hasMessageContaining("You are not authorized");
 
             verify(ninjaRepository).findByEmail(sasuke.getEmail());
-            verify(ninjaRepository, never()).findById(anyLong());
+            verify(ninjaRepository, never()).findDetailedById(anyLong());
         }
 
         @Test
@@ -623,14 +704,125 @@ public class NinjaServiceTest {
         void shouldThrowNotFoundWhenNinjaDoesNotExist() {
             when(principal.getName()).thenReturn(kage.getEmail());
             when(ninjaRepository.findByEmail(kage.getEmail())).thenReturn(Optional.of(kage));
-            when(ninjaRepository.findById(99L)).thenReturn(Optional.empty());
+            when(ninjaRepository.findDetailedById(99L)).thenReturn(Optional.empty());
 
             assertThatThrownBy(() -> ninjaService.deleteNinja(99L, principal))
                     .isInstanceOf(ResourceNotFoundException.class)
                     .hasMessageContaining("Ninja not found with ID: 99");
 
             verify(ninjaRepository).findByEmail(kage.getEmail());
-            verify(ninjaRepository).findById(99L);
+            verify(ninjaRepository).findDetailedById(99L);
+        }
+    }
+
+    @Nested
+    @DisplayName("getAuthenticatedNinja")
+    class GetAuthenticatedNinjaTests {
+
+        @Test
+        @DisplayName("Should reuse the user details resolved by the JWT filter without querying the repository")
+        void shouldReuseFilterPrincipal() {
+            NinjaUserDetail userDetail = new NinjaUserDetail(kage);
+            Principal authentication = new UsernamePasswordAuthenticationToken(userDetail, null, userDetail.getAuthorities());
+
+            NinjaUserDetail result = ninjaService.getAuthenticatedNinja(authentication);
+
+            assertThat(result).isSameAs(userDetail);
+            verifyNoInteractions(ninjaRepository, userDetailsCache);
+        }
+
+        @Test
+        @DisplayName("Should look the ninja up by email for any other principal")
+        void shouldLookUpOtherPrincipals() {
+            when(principal.getName()).thenReturn(naruto.getEmail());
+            when(ninjaRepository.findByEmail(naruto.getEmail())).thenReturn(Optional.of(naruto));
+
+            NinjaUserDetail result = ninjaService.getAuthenticatedNinja(principal);
+
+            assertThat(result.getId()).isEqualTo(naruto.getId());
+            assertThat(result.getRoles()).isEqualTo(naruto.getRoles());
+        }
+
+        @Test
+        @DisplayName("Should throw ResourceNotFoundException when the principal's ninja no longer exists")
+        void shouldThrowWhenPrincipalNinjaDoesNotExist() {
+            when(principal.getName()).thenReturn("ghost@konoha.com");
+            when(ninjaRepository.findByEmail("ghost@konoha.com")).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> ninjaService.getAuthenticatedNinja(principal))
+                    .isInstanceOf(ResourceNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("loadUserByUsername")
+    class LoadUserByUsernameTests {
+
+        @Test
+        @DisplayName("Should load the ninja through the user details cache")
+        @SuppressWarnings("unchecked")
+        void shouldLoadThroughCache() {
+            when(ninjaRepository.findByEmail(naruto.getEmail())).thenReturn(Optional.of(naruto));
+            when(userDetailsCache.get(eq(naruto.getEmail()), any(Function.class)))
+                    .thenAnswer(invocation -> invocation.<Function<String, NinjaUserDetail>>getArgument(1).apply(naruto.getEmail()));
+
+            UserDetails result = ninjaService.loadUserByUsername(naruto.getEmail());
+
+            assertThat(result.getUsername()).isEqualTo(naruto.getEmail());
+            verify(ninjaRepository).findByEmail(naruto.getEmail());
+        }
+
+        @Test
+        @DisplayName("Should return the cached user details without querying the repository")
+        void shouldReturnCachedUserDetails() {
+            when(userDetailsCache.get(eq(naruto.getEmail()), any())).thenReturn(new NinjaUserDetail(naruto));
+
+            UserDetails result = ninjaService.loadUserByUsername(naruto.getEmail());
+
+            assertThat(result.getUsername()).isEqualTo(naruto.getEmail());
+            verifyNoInteractions(ninjaRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw UsernameNotFoundException when the ninja does not exist")
+        @SuppressWarnings("unchecked")
+        void shouldThrowWhenNinjaDoesNotExist() {
+            when(ninjaRepository.findByEmail("ghost@konoha.com")).thenReturn(Optional.empty());
+            when(userDetailsCache.get(eq("ghost@konoha.com"), any(Function.class)))
+                    .thenAnswer(invocation -> invocation.<Function<String, NinjaUserDetail>>getArgument(1).apply("ghost@konoha.com"));
+
+            assertThatThrownBy(() -> ninjaService.loadUserByUsername("ghost@konoha.com"))
+                    .isInstanceOf(UsernameNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("updatePassword")
+    class UpdatePasswordTests {
+
+        @Test
+        @DisplayName("Should store the rehashed password and evict the cached user details")
+        void shouldStoreRehashedPassword() {
+            NinjaUserDetail userDetail = new NinjaUserDetail(naruto);
+            when(ninjaRepository.updatePasswordHash(naruto.getEmail(), "pass", "rehashed")).thenReturn(1);
+
+            UserDetails result = ninjaService.updatePassword(userDetail, "rehashed");
+
+            assertThat(result.getPassword()).isEqualTo("rehashed");
+            assertThat(((NinjaUserDetail) result).getId()).isEqualTo(naruto.getId());
+            verify(userDetailsCache).evict(naruto.getEmail());
+        }
+
+        @Test
+        @DisplayName("Should keep the user details when the stored hash changed meanwhile")
+        void shouldKeepUserDetailsWhenHashChanged() {
+            NinjaUserDetail userDetail = new NinjaUserDetail(naruto);
+            when(ninjaRepository.updatePasswordHash(naruto.getEmail(), "pass", "rehashed")).thenReturn(0);
+
+            UserDetails result = ninjaService.updatePassword(userDetail, "rehashed");
+
+            assertThat(result).isSameAs(userDetail);
+            verifyNoInteractions(userDetailsCache);
         }
     }
-}
\ No newline at end of file
+}
@@ -8,12 +8,14 @@ import com.konoha.NinjaMissionManager.dtos.village.VillageMapper;
 import com.konoha.NinjaMissionManager.dtos.village.VillageRequest;
 import com.konoha.NinjaMissionManager.dtos.village.VillageResponse;
 import com.konoha.NinjaMissionManager.dtos.village.VillageUpdateRequest;
+import com.konoha.NinjaMissionManager.events.NinjaRegisteredEvent;
 import com.konoha.NinjaMissionManager.exceptions.ResourceConflictException;
 import com.konoha.NinjaMissionManager.exceptions.ResourceNotFoundException;
 import com.konoha.NinjaMissionManager.models.Ninja;
 import com.konoha.NinjaMissionManager.models.Rank;
 import com.konoha.NinjaMissionManager.models.Village;
 import com.konoha.NinjaMissionManager.repositories.VillageRepository;
+import com.konoha.NinjaMissionManager.security.NinjaUserDetail;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -22,6 +24,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.security.Principal;
 import java.util.*;
@@ -48,7 +51,7 @@ public class NinjaVillageCoordinatorServiceTest {
     private NinjaService ninjaService;
 
     @Mock
-    private EmailService emailService;
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private NinjaVillageCoordinatorService ninjaVillageCoordinatorService;
@@ -299,8 +302,8 @@ public class NinjaVillageCoordinatorServiceTest {
 
         @BeforeEach
         void setup() {
-            ninja1 = new Ninja(2L, "Ninja Test 1", "test1@konoha.com", "password", Rank.GENIN, null, 0, false, new HashSet<>(), new HashSet<>());
-            ninja2 = new Ninja(3L, "Ninja Test 2", "test2@konoha.com", "password", Rank.CHUNIN, null, 0, false, new HashSet<>(), new HashSet<>());
+            ninja1 = new Ninja(2L, "Ninja Test 1", "test1@konoha.com", "password", Rank.GENIN, null, 0, false, new HashSet<>(), new HashSet<>(), 0L);
+            ninja2 = new Ninja(3L, "Ninja Test 2", "test2@konoha.com", "password", Rank.CHUNIN, null, 0, false, new HashSet<>(), new HashSet<>(), 0L);
 
             villageToDelete = new Village(1L, "Konoha", ninja1);
 
@@ -370,7 +373,7 @@ public class NinjaVillageCoordinatorServiceTest {
 
             verify(villageService).getVillageEntityById(99L);
             verify(ninjaService).registerNewNinjaInternal(ninjaRegisterRequest, konoha);
-            verify(emailService).sendNinjaWelcomeEmail(eq(ninjaResponse.email()), eq(ninjaResponse.name()), eq(konoha.getName()));
+            verify(eventPublisher).publishEvent(new NinjaRegisteredEvent(ninjaResponse.id(), ninjaResponse.email(), ninjaResponse.name(), konoha.getName()));
             verifyNoMoreInteractions(villageService, ninjaService);
         }
 
@@ -435,11 +438,11 @@ public class NinjaVillageCoordinatorServiceTest {
         @BeforeEach
         void setUp(){
             authenticatedKage = new Ninja(
-                    1L, "May Uzumaki", "may@gmail.com", "May12345.", Rank.KAGE, konoha, 50000, false, Set.of(), Set.of());
+                    1L, "May Uzumaki", "may@gmail.com", "May12345.", Rank.KAGE, konoha, 50000, false, Set.of(), Set.of(), 0L);
             mockPrincipal = authenticatedKage::getEmail;
 
             ninjaToUpdate = new Ninja(
-                    2L, "Violeta", "violeta@gmail.com", "Vio12345.", Rank.CHUNIN, konoha, 50, false, new HashSet<>(), new HashSet<>());
+                    2L, "Violeta", "violeta@gmail.com", "Vio12345.", Rank.CHUNIN, konoha, 50, false, new HashSet<>(), new HashSet<>(), 0L);
 
             updateRequestWithVillage = new NinjaKageUpdateRequest(
                     "Violeta Uzumaki",
@@ -463,10 +466,10 @@ public class NinjaVillageCoordinatorServiceTest {
         @Test
         @DisplayName("Should update ninja when a new village successfully")
         void shouldUpdateNinjaWhenVillageSuccessfully(){
-            when(ninjaService.getAuthenticatedNinja(mockPrincipal)).thenReturn(authenticatedKage);
+            when(ninjaService.getAuthenticatedNinja(mockPrincipal)).thenReturn(new NinjaUserDetail(authenticatedKage));
             when(ninjaService.getNinjaEntityById(2L)).thenReturn(ninjaToUpdate);
             when(villageService.getVillageEntityById(kumo.getId())).thenReturn(kumo);
-            doNothing().when(ninjaService).validateKageAccess(any(Ninja.class));
+            doNothing().when(ninjaService).validateKageAccess(any(NinjaUserDetail.class));
             doNothing().when(ninjaService).validateEmailChange(updateRequestWithVillage.email(), ninjaToUpdate.getEmail());
             when(ninjaService.updateAsKageInternal(ninjaToUpdate.getId(), updateRequestWithVillage, kumo)).thenReturn(ninjaResponse);
 
@@ -474,7 +477,7 @@ public class NinjaVillageCoordinatorServiceTest {
 
             assertThat(result).isNotNull();
             verify(ninjaService).getAuthenticatedNinja(mockPrincipal);
-            verify(ninjaService).validateKageAccess(any(Ninja.class));
+            verify(ninjaService).validateKageAccess(any(NinjaUserDetail.class));
             verify(ninjaService).getNinjaEntityById(ninjaToUpdate.getId());
             verify(ninjaService).validateEmailChange(updateRequestWithVillage.email(), ninjaToUpdate.getEmail());
             verify(villageService).getVillageEntityById(kumo.getId());
@@ -486,9 +489,9 @@ public class NinjaVillageCoordinatorServiceTest {
         @Test
         @DisplayName("Should update ninja successfully when villageId is not provided")
         void shouldUpdateNinjaSuccessfullyWhenVillageIdIsNotProvided(){
-            when(ninjaService.getAuthenticatedNinja(mockPrincipal)).thenReturn(authenticatedKage);
+            when(ninjaService.getAuthenticatedNinja(mockPrincipal)).thenReturn(new NinjaUserDetail(authenticatedKage));
             when(ninjaService.getNinjaEntityById(2L)).thenReturn(ninjaToUpdate);
-            doNothing().when(ninjaService).validateKageAccess(any(Ninja.class));
+            doNothing().when(ninjaService).validateKageAccess(any(NinjaUserDetail.class));
             doNothing().when(ninjaService).validateEmailChange(updateRequestWithoutVillage.email(), ninjaToUpdate.getEmail());
             when(ninjaService.updateAsKageInternal(ninjaToUpdate.getId(), updateRequestWithoutVillage, null)).thenReturn(ninjaResponse);
 
@@ -496,7 +499,7 @@ public class NinjaVillageCoordinatorServiceTest {
 
             assertThat(result).isNotNull();
             verify(ninjaService).getAuthenticatedNinja(mockPrincipal);
-            verify(ninjaService).validateKageAccess(any(Ninja.class));
+            verify(ninjaService).validateKageAccess(any(NinjaUserDetail.class));
             verify(ninjaService).getNinjaEntityById(ninjaToUpdate.getId());
             verify(ninjaService).validateEmailChange(updateRequestWithoutVillage.email(), ninjaToUpdate.getEmail());
             verify(villageService, never()).getVillageEntityById(anyLong());
@@ -507,7 +510,7 @@ public class NinjaVillageCoordinatorServiceTest {
         @Test
         @DisplayName("Should throw ResourceNotFoundException when ninja to update does not exists")
         void shouldThrowExceptionWhenNinjaToUpdateDoesNotExist() {
-            when(ninjaService.getAuthenticatedNinja(mockPrincipal)).thenReturn(authenticatedKage);
+            when(ninjaService.getAuthenticatedNinja(mockPrincipal)).thenReturn(new NinjaUserDetail(authenticatedKage));
             when(ninjaService.getNinjaEntityById(99L))
                     .thenThrow(new ResourceNotFoundException("Ninja not found with ID 99"));
 
@@ -516,7 +519,7 @@ public class NinjaVillageCoordinatorServiceTest {
                     .hasMessageContaining("Ninja not found with ID 99");
 
             verify(ninjaService).getAuthenticatedNinja(mockPrincipal);
-            verify(ninjaService).validateKageAccess(any(Ninja.class));
+            verify(ninjaService).validateKageAccess(any(NinjaUserDetail.class));
             verify(ninjaService).getNinjaEntityById(99L);
             verify(ninjaService, never()).updateAsKageInternal(anyLong(), any(), any());
             verifyNoMoreInteractions(ninjaService, villageService);
@@ -525,9 +528,9 @@ public class NinjaVillageCoordinatorServiceTest {
         @Test
         @DisplayName("Should throw ResourceNotFoundException when new village does not exist")
         void shouldThrowExceptionWhenNewVillageDoesNotExist(){
-            when(ninjaService.getAuthenticatedNinja(mockPrincipal)).thenReturn(authenticatedKage);
+            when(ninjaService.getAuthenticatedNinja(mockPrincipal)).thenReturn(new NinjaUserDetail(authenticatedKage));
             when(ninjaService.getNinjaEntityById(2L)).thenReturn(ninjaToUpdate);
-            doNothing().when(ninjaService).validateKageAccess(any(Ninja.class));
+            doNothing().when(ninjaService).validateKageAccess(any(NinjaUserDetail.class));
             doNothing().when(ninjaService).validateEmailChange(any(), any());
             when(villageService.getVillageEntityById(99L))
                     .thenThrow(new ResourceNotFoundException("Village not found with ID 99"));
@@ -545,7 +548,7 @@ public class NinjaVillageCoordinatorServiceTest {
                     .hasMessageContaining("Village not found with ID 99");
 
             verify(ninjaService).getAuthenticatedNinja(mockPrincipal);
-            verify(ninjaService).validateKageAccess(any(Ninja.class));
+            verify(ninjaService).validateKageAccess(any(NinjaUserDetail.class));
             verify(ninjaService).getNinjaEntityById(2L);
             verify(ninjaService).validateEmailChange(invalidVillageRequest.email(), ninjaToUpdate.getEmail());
             verify(villageService).getVillageEntityById(99L);
@@ -555,9 +558,9 @@ public class NinjaVillageCoordinatorServiceTest {
         @Test
         @DisplayName("Should throw ResourceConflictException when new email is already in use")
         void shouldThrowExceptionWhenNewEmailIsAlreadyInUse(){
-            when(ninjaService.getAuthenticatedNinja(mockPrincipal)).thenReturn(authenticatedKage);
+            when(ninjaService.getAuthenticatedNinja(mockPrincipal)).thenReturn(new NinjaUserDetail(authenticatedKage));
             when(ninjaService.getNinjaEntityById(2L)).thenReturn(ninjaToUpdate);
-            doNothing().when(ninjaService).validateKageAccess(any(Ninja.class));
+            doNothing().when(ninjaService).validateKageAccess(any(NinjaUserDetail.class));
             doThrow(new ResourceConflictException("Email already in use"))
                     .when(ninjaService).validateEmailChange(updateRequestWithVillage.email(), ninjaToUpdate.getEmail());
 
@@ -566,7 +569,7 @@ public class NinjaVillageCoordinatorServiceTest {
                     .hasMessageContaining("Email already in use");
 
             verify(ninjaService).getAuthenticatedNinja(mockPrincipal);
-            verify(ninjaService).validateKageAccess(any(Ninja.class));
+            verify(ninjaService).validateKageAccess(any(NinjaUserDetail.class));
             verify(ninjaService).getNinjaEntityById(2L);
             verify(ninjaService).validateEmailChange(updateRequestWithVillage.email(), ninjaToUpdate.getEmail());
             verify(villageService, never()).getVillageEntityById(anyLong());
@@ -0,0 +1,64 @@
+package com.konoha.NinjaMissionManager.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Unit tests for PasswordHasher")
+public class PasswordHasherTest {
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should return one hash per password in the same order")
+    void shouldKeepThePasswordOrder() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4);
+        passwordHasher = new PasswordHasher(encoder, 4, 16);
+        List<String> passwords = IntStream.range(0, 20).mapToObj(i -> "Password" + i + ".").toList();
+
+        List<String> hashes = passwordHasher.encodeAll(passwords);
+
+        assertThat(hashes).hasSize(passwords.size());
+        for (int i = 0; i < passwords.size(); i++) {
+            assertThat(encoder.matches(passwords.get(i), hashes.get(i))).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Should hash on the pool threads and on the caller when the queue is full")
+    void shouldRunOnTheCallerWhenTheQueueIsFull() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                threads.add(Thread.currentThread().getName());
+                return super.encode(rawPassword);
+            }
+        };
+        passwordHasher = new PasswordHasher(encoder, 1, 1);
+
+        List<String> hashes = passwordHasher.encodeAll(IntStream.range(0, 50).mapToObj(i -> "Password" + i + ".").toList());
+
+        assertThat(hashes).hasSize(50);
+        assertThat(threads).contains("password-hashing-1", Thread.currentThread().getName());
+    }
+
+    @Test
+    @DisplayName("Should default to one thread per core")
+    void shouldDefaultToOneThreadPerCore() {
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(4), 0, 16);
+
+        assertThat(passwordHasher.getPoolSize()).isEqualTo(Runtime.getRuntime().availableProcessors());
+    }
+}
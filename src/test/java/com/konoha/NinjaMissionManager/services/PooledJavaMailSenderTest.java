@@ -0,0 +1,139 @@
+package com.konoha.NinjaMissionManager.services;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PooledJavaMailSender against an embedded SMTP server")
+public class PooledJavaMailSenderTest {
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final AtomicInteger connections = new AtomicInteger();
+    private PooledJavaMailSender mailSender;
+
+    @AfterEach
+    void tearDown() {
+        if (mailSender != null) {
+            mailSender.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Should send a whole batch over a single connection")
+    void shouldSendBatchOverOneConnection() throws Exception {
+        mailSender = newSender(2, Duration.ofMinutes(1));
+
+        mailSender.send(message("naruto@gmail.com"), message("sasuke@gmail.com"), message("sakura@gmail.com"));
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(3);
+        assertThat(connections).hasValue(1);
+        assertThat(mailSender.idleConnections()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reuse the pooled connection across sends")
+    void shouldReuseConnectionAcrossSends() throws Exception {
+        mailSender = newSender(2, Duration.ofMinutes(1));
+
+        mailSender.send(message("naruto@gmail.com"));
+        mailSender.send(message("sasuke@gmail.com"));
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(2);
+        assertThat(connections).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should reconnect once the idle timeout has elapsed")
+    void shouldReconnectAfterIdleTimeout() throws Exception {
+        mailSender = newSender(2, Duration.ZERO);
+
+        mailSender.send(message("naruto@gmail.com"));
+        mailSender.send(message("sasuke@gmail.com"));
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(2);
+        assertThat(connections).hasValue(2);
+        assertThat(mailSender.idleConnections()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should never open more connections than the pool size")
+    void shouldBoundConcurrentConnections() throws Exception {
+        mailSender = newSender(2, Duration.ofMinutes(1));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            var sends = IntStream.range(0, 16)
+                    .mapToObj(i -> executor.submit(() -> {
+                        mailSender.send(message("ninja" + i + "@gmail.com"));
+                        return null;
+                    }))
+                    .toList();
+            for (Future<?> send : sends) {
+                send.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(16);
+        assertThat(connections.get()).isBetween(1, 2);
+    }
+
+    @Test
+    @DisplayName("Should report every message as failed when the server is unreachable")
+    void shouldFailWholeBatchWhenServerIsUnreachable() throws Exception {
+        mailSender = newSender(1, Duration.ofMinutes(1));
+        mailSender.setPort(ServerSetupTest.SMTP.getPort() + 1);
+        MimeMessage naruto = message("naruto@gmail.com");
+        MimeMessage sasuke = message("sasuke@gmail.com");
+
+        assertThatThrownBy(() -> mailSender.send(naruto, sasuke))
+                .isInstanceOfSatisfying(MailSendException.class, exception ->
+                        assertThat(exception.getFailedMessages()).containsOnlyKeys(naruto, sasuke));
+
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+        mailSender.send(message("naruto@gmail.com"));
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+    }
+
+    private PooledJavaMailSender newSender(int maxSize, Duration idleTimeout) {
+        PooledJavaMailSender sender = new PooledJavaMailSender(maxSize, idleTimeout, Duration.ofSeconds(10)) {
+            @Override
+            protected Transport connectTransport() throws MessagingException {
+                connections.incrementAndGet();
+                return super.connectTransport();
+            }
+        };
+        sender.setHost(ServerSetupTest.SMTP.getBindAddress());
+        sender.setPort(ServerSetupTest.SMTP.getPort());
+        return sender;
+    }
+
+    private MimeMessage message(String to) throws MessagingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
+        helper.setFrom("kage@konoha.com");
+        helper.setTo(to);
+        helper.setSubject("Nueva misión");
+        helper.setText("<p>Misión asignada</p>", true);
+        return mimeMessage;
+    }
+}
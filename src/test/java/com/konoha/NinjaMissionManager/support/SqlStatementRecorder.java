@@ -0,0 +1,26 @@
+package com.konoha.NinjaMissionManager.support;
+
+import com.konoha.NinjaMissionManager.config.SqlStatementCounter;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+public class SqlStatementRecorder extends SqlStatementCounter {
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return super.inspect(sql);
+    }
+
+    public static void reset() {
+        STATEMENTS.clear();
+    }
+
+    public static long count(Pattern pattern) {
+        return STATEMENTS.stream()
+                .filter(sql -> pattern.matcher(sql).find())
+                .count();
+    }
+}
@@ -5,6 +5,7 @@ TRUNCATE TABLE ninja_roles;
 TRUNCATE TABLE missions;
 TRUNCATE TABLE ninjas;
 TRUNCATE TABLE villages;
+TRUNCATE TABLE outbox_events;
 
 ALTER TABLE ninja_missions ALTER COLUMN ninja_id RESTART WITH 1;
 ALTER TABLE ninja_missions ALTER COLUMN mission_id RESTART WITH 1;
@@ -12,6 +13,11 @@ ALTER TABLE ninja_roles ALTER COLUMN ninja_id RESTART WITH 1;
 ALTER TABLE missions ALTER COLUMN id RESTART WITH 1;
 ALTER TABLE ninjas ALTER COLUMN id RESTART WITH 1;
 ALTER TABLE villages ALTER COLUMN id RESTART WITH 1;
+-- Los ids de misiones y ninjas que asigna Hibernate salen de missions_seq y ninjas_seq (bloques de 50)
+-- y no deben chocar con los de este script. Nunca se rebobinan: Hibernate guarda en memoria el bloque
+-- del test anterior y un lote grande volveria a pedir ids que ya ha repartido
+ALTER SEQUENCE missions_seq RESTART WITH GREATEST(100, (SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'MISSIONS_SEQ'));
+ALTER SEQUENCE ninjas_seq RESTART WITH GREATEST(100, (SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'NINJAS_SEQ'));
 
 SET REFERENTIAL_INTEGRITY TRUE;
 